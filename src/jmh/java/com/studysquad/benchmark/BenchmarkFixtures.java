@@ -0,0 +1,36 @@
+package com.studysquad.benchmark;
+
+import java.lang.reflect.Field;
+
+import org.springframework.util.ReflectionUtils;
+
+import com.studysquad.global.security.JwtProvider;
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+
+public class BenchmarkFixtures {
+
+	public static final String SECRET_KEY = "studysquad-benchmark-secret-key-studysquad-benchmark-secret-key";
+	private static final Long ACCESS_TOKEN_EXPIRATION = 1800000L;
+	private static final Long REFRESH_TOKEN_EXPIRATION = 1209600000L;
+
+	public static JwtProvider createJwtProvider() {
+		return new JwtProvider(SECRET_KEY, ACCESS_TOKEN_EXPIRATION, "Authorization",
+			REFRESH_TOKEN_EXPIRATION, "Authorization-refresh", true);
+	}
+
+	public static User createUser(Long id) {
+		User user = User.builder()
+			.email("benchmark@studysquad.com")
+			.password("password")
+			.nickname("benchmark")
+			.role(Role.USER)
+			.build();
+
+		Field idField = ReflectionUtils.findField(User.class, "id");
+		ReflectionUtils.makeAccessible(idField);
+		ReflectionUtils.setField(idField, user, id);
+
+		return user;
+	}
+}
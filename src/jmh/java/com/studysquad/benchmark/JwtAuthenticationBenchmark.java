@@ -0,0 +1,86 @@
+package com.studysquad.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.studysquad.global.security.JwtProvider;
+import com.studysquad.global.security.Token;
+import com.studysquad.global.security.UserPrincipal;
+import com.studysquad.global.security.VerifiedTokenCache;
+import com.studysquad.user.domain.User;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+	private JwtProvider jwtProvider;
+	private User user;
+	private VerifiedTokenCache verifiedTokenCache;
+	private Key secretKey;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		jwtProvider = BenchmarkFixtures.createJwtProvider();
+		verifiedTokenCache = new VerifiedTokenCache(jwtProvider, new SimpleMeterRegistry(), true, 10000L);
+		secretKey = Keys.hmacShaKeyFor(BenchmarkFixtures.SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+		user = BenchmarkFixtures.createUser(1L);
+		accessToken = jwtProvider.createToken(user)
+			.getAccessToken()
+			.getData();
+	}
+
+	@Benchmark
+	public Token createToken() {
+		return jwtProvider.createToken(user);
+	}
+
+	@Benchmark
+	public String parseTwiceWithNewParsers() {
+		Jwts.parserBuilder()
+			.setSigningKey(secretKey)
+			.build()
+			.parseClaimsJws(accessToken)
+			.getBody();
+
+		return Jwts.parserBuilder()
+			.setSigningKey(secretKey)
+			.build()
+			.parseClaimsJws(accessToken)
+			.getBody()
+			.getSubject();
+	}
+
+	@Benchmark
+	public Optional<UserPrincipal> parseOnceWithCachedParser() {
+		return jwtProvider.parse(accessToken)
+			.flatMap(jwtProvider::getPrincipal);
+	}
+
+	@Benchmark
+	public Optional<UserPrincipal> parseWithVerifiedTokenCache() {
+		return verifiedTokenCache.parse(accessToken)
+			.flatMap(jwtProvider::getPrincipal);
+	}
+}
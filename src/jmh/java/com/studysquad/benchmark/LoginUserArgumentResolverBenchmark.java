@@ -0,0 +1,72 @@
+package com.studysquad.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ReflectionUtils;
+
+import com.studysquad.global.security.Login;
+import com.studysquad.global.security.UserPrincipal;
+import com.studysquad.global.util.LoginUserArgumentResolver;
+import com.studysquad.user.dto.LoginUser;
+
+/**
+ * 인증된 요청마다 실행되는 LoginUserArgumentResolver 의 파라미터 판별과 LoginUser 변환 비용을 측정한다.
+ * 토큰의 UserPrincipal 로 변환하는 경로만 측정하며, DB 조회로 대체되는 경로는 포함하지 않는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginUserArgumentResolverBenchmark {
+
+	private LoginUserArgumentResolver resolver;
+	private MethodParameter loginUserParameter;
+
+	static class BenchmarkController {
+
+		public void handle(@Login LoginUser loginUser) {
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		resolver = new LoginUserArgumentResolver(null);
+		loginUserParameter = new MethodParameter(
+			ReflectionUtils.findMethod(BenchmarkController.class, "handle", LoginUser.class), 0);
+
+		UserPrincipal principal = UserPrincipal.from(BenchmarkFixtures.createUser(1L));
+		SecurityContextHolder.getContext()
+			.setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	@TearDown
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public boolean supportsParameter() {
+		return resolver.supportsParameter(loginUserParameter);
+	}
+
+	@Benchmark
+	public Object resolveArgument() throws Exception {
+		return resolver.resolveArgument(loginUserParameter, null, null, null);
+	}
+}
@@ -0,0 +1,152 @@
+package com.studysquad.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import com.studysquad.global.query.QueryStatistics;
+import com.studysquad.global.query.QueryStatisticsHolder;
+import com.studysquad.global.query.QueryStatisticsListener;
+import com.studysquad.mission.domain.Mission;
+import com.studysquad.mission.domain.MissionStatus;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Mission 을 saveAll 로 저장할 때 IDENTITY 전략과 pooled 시퀀스 + JDBC 배치 전략의 지연 시간과 DB 왕복 횟수를 비교한다.
+ * 실제 Hibernate EntityManagerFactory 와 mission-sequence-orm.xml, hibernate.jdbc.batch_size 를 그대로 사용하며,
+ * 실행된 JDBC 문장 수와 그중 insert 문장 수(배치는 한 번으로 계산)를 QueryStatisticsListener 로 세어 보조 카운터로 출력한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MissionInsertBenchmark {
+
+	private static final String SEQUENCE = "sequence";
+	private static final String MISSION_SEQUENCE_MAPPING = "META-INF/mission-sequence-orm.xml";
+	private static final String INSERT = "insert";
+	private static final int BATCH_SIZE = 50;
+
+	@Param({"identity", SEQUENCE})
+	private String idGeneration;
+
+	@Param({"10", "50", "200"})
+	private int missionCount;
+
+	private LocalContainerEntityManagerFactoryBean factoryBean;
+	private EntityManagerFactory entityManagerFactory;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class RoundTrips {
+
+		public long statements;
+		public long insertStatements;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		DataSource dataSource = ProxyDataSourceBuilder
+			.create(new DriverManagerDataSource("jdbc:h2:mem:mission_benchmark;DB_CLOSE_DELAY=-1"))
+			.listener(new QueryStatisticsListener())
+			.build();
+
+		Map<String, Object> properties = new HashMap<>();
+		properties.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+		properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+		properties.put(AvailableSettings.ORDER_INSERTS, true);
+		properties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(new DefaultListableBeanFactory()));
+
+		factoryBean = new LocalContainerEntityManagerFactoryBean();
+		factoryBean.setDataSource(dataSource);
+		factoryBean.setPackagesToScan("com.studysquad");
+		factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factoryBean.setJpaPropertyMap(properties);
+		if (SEQUENCE.equals(idGeneration)) {
+			factoryBean.setMappingResources(MISSION_SEQUENCE_MAPPING);
+		}
+		factoryBean.afterPropertiesSet();
+		entityManagerFactory = factoryBean.getObject();
+	}
+
+	@TearDown(Level.Iteration)
+	public void truncate() {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		EntityTransaction transaction = entityManager.getTransaction();
+
+		transaction.begin();
+		entityManager.createQuery("delete from Mission").executeUpdate();
+		transaction.commit();
+		entityManager.close();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		factoryBean.destroy();
+	}
+
+	@Benchmark
+	public void saveAll(RoundTrips roundTrips) {
+		QueryStatistics statistics = QueryStatisticsHolder.start("MissionInsertBenchmark#saveAll");
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		EntityTransaction transaction = entityManager.getTransaction();
+
+		try {
+			transaction.begin();
+			new SimpleJpaRepository<Mission, Long>(Mission.class, entityManager).saveAll(createMissions());
+			transaction.commit();
+		} finally {
+			entityManager.close();
+			QueryStatisticsHolder.clear();
+		}
+		roundTrips.statements += statistics.getStatementCount();
+		roundTrips.insertStatements += statistics.getStatementShapes().entrySet().stream()
+			.filter(shape -> shape.getKey().startsWith(INSERT))
+			.mapToInt(Map.Entry::getValue)
+			.sum();
+	}
+
+	private List<Mission> createMissions() {
+		return IntStream.rangeClosed(1, missionCount)
+			.mapToObj(sequence -> Mission.builder()
+				.missionTitle("mission " + sequence)
+				.missionContent("mission content " + sequence)
+				.missionStatus(MissionStatus.NOT_PROCESS)
+				.missionSequence(sequence)
+				.build())
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,67 @@
+package com.studysquad.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.studysquad.global.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인 시 BCrypt 비밀번호 비교 비용을 측정한다.
+ * strength 기본값은 security.bcrypt.strength 의 기본값과 같으며, 운영 설정이 다르면 -p strength 로 맞춘다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordMatchBenchmark {
+
+	private static final String RAW_PASSWORD = "benchmark-password";
+
+	@Param({"10"})
+	private int strength;
+
+	private BCryptPasswordEncoder passwordEncoder;
+	private BoundedPasswordEncoder boundedPasswordEncoder;
+	private String encodedPassword;
+
+	@Setup
+	public void setUp() {
+		passwordEncoder = new BCryptPasswordEncoder(strength);
+		boundedPasswordEncoder = new BoundedPasswordEncoder(passwordEncoder, new SimpleMeterRegistry(),
+			Runtime.getRuntime().availableProcessors(), 50, Duration.ofSeconds(5));
+		encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+	}
+
+	@TearDown
+	public void tearDown() {
+		boundedPasswordEncoder.destroy();
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+	}
+
+	@Benchmark
+	public boolean boundedMatches() {
+		return boundedPasswordEncoder.matches(RAW_PASSWORD, encodedPassword);
+	}
+}
@@ -0,0 +1,77 @@
+package com.studysquad.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.studysquad.global.common.SuccessResponse;
+import com.studysquad.squad.dto.SquadResponseDto;
+
+/**
+ * 모집중 스쿼드 목록 응답인 SuccessResponse<Page<SquadResponseDto>> 의 Jackson 직렬화 비용을 페이지 크기별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SquadPageSerializationBenchmark {
+
+	@Param({"10", "50"})
+	private int pageSize;
+
+	private ObjectWriter objectWriter;
+	private SuccessResponse<Page<SquadResponseDto>> response;
+
+	@Setup
+	public void setUp() {
+		objectWriter = Jackson2ObjectMapperBuilder.json().build().writer();
+
+		List<SquadResponseDto> squads = LongStream.rangeClosed(1, pageSize)
+			.mapToObj(this::createSquadResponse)
+			.collect(Collectors.toList());
+
+		response = SuccessResponse.<Page<SquadResponseDto>>builder()
+			.status(HttpStatus.OK.value())
+			.message("모집중 스쿼드 조회 성공")
+			.data(new PageImpl<>(squads, PageRequest.of(0, pageSize), pageSize * 10L))
+			.build();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return objectWriter.writeValueAsBytes(response);
+	}
+
+	private SquadResponseDto createSquadResponse(long squadId) {
+		return SquadResponseDto.builder()
+			.squadId(squadId)
+			.userCount(3L)
+			.squadName("스쿼드 " + squadId)
+			.squadExplain("스쿼드 설명 " + squadId)
+			.categoryName("JAVA")
+			.creatorName("creator" + squadId)
+			.build();
+	}
+}
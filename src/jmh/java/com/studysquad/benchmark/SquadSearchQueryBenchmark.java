@@ -0,0 +1,77 @@
+package com.studysquad.benchmark;
+
+import static com.studysquad.squad.domain.QSquad.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.studysquad.squad.domain.SquadStatus;
+
+/**
+ * SquadRepositoryImpl.searchSquadPageByCondition 이 만드는 목록 쿼리와 count 쿼리의 QueryDSL 조립 및 JPQL 직렬화 비용을 측정한다.
+ * DB 실행 비용을 제외하기 위해 EntityManager 없이 분리된 JPAQuery 로 같은 조건을 조립한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SquadSearchQueryBenchmark {
+
+	private static final Long CATEGORY_ID = 1L;
+	private static final long OFFSET = 20L;
+	private static final long PAGE_SIZE = 10L;
+
+	@Benchmark
+	public String buildPageQuery() {
+		JPAQuery<Tuple> query = new JPAQuery<Void>()
+			.select(squad.id,
+				squad.memberCount,
+				squad.squadName,
+				squad.squadExplain,
+				squad.category.id,
+				squad.creatorNickname)
+			.from(squad)
+			.where(squad.squadStatus.eq(SquadStatus.RECRUIT),
+				isMentorEq(true),
+				categoryIdEq(CATEGORY_ID))
+			.offset(OFFSET)
+			.limit(PAGE_SIZE)
+			.orderBy(squad.id.desc());
+
+		return query.toString();
+	}
+
+	@Benchmark
+	public String buildCountQuery() {
+		JPAQuery<Long> query = new JPAQuery<Void>()
+			.select(squad.count())
+			.from(squad)
+			.where(squad.squadStatus.eq(SquadStatus.RECRUIT),
+				isMentorEq(true),
+				categoryIdEq(CATEGORY_ID));
+
+		return query.toString();
+	}
+
+	private BooleanExpression categoryIdEq(Long categoryId) {
+		return categoryId == null ? null : squad.category.id.eq(categoryId);
+	}
+
+	private BooleanExpression isMentorEq(Boolean mentor) {
+		return mentor == null ? null : squad.hasMentor.eq(mentor);
+	}
+}
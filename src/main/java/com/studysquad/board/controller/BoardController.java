@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,7 +21,9 @@ import com.studysquad.board.request.BoardCreate;
 import com.studysquad.board.request.BoardEdit;
 import com.studysquad.board.request.BoardSearchCondition;
 import com.studysquad.board.response.BoardResponse;
+import com.studysquad.board.response.BoardSummary;
 import com.studysquad.board.service.BoardService;
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.global.common.SuccessResponse;
 import com.studysquad.global.security.Login;
 import com.studysquad.user.dto.LoginUser;
@@ -44,14 +47,28 @@ public class BoardController {
 	}
 
 	@GetMapping("/api/boards")
-	public SuccessResponse<Page<BoardResponse>> getBoards(BoardSearchCondition searchCondition, Pageable pageable) {
-		return SuccessResponse.<Page<BoardResponse>>builder()
+	public SuccessResponse<Page<BoardSummary>> getBoards(BoardSearchCondition searchCondition, Pageable pageable) {
+		return SuccessResponse.<Page<BoardSummary>>builder()
 			.status(HttpStatus.OK.value())
 			.message("게시글 페이징 조회 성공")
 			.data(boardService.getBoards(searchCondition, pageable))
 			.build();
 	}
 
+	@GetMapping("/api/boards/cursor")
+	@ResponseStatus(HttpStatus.OK)
+	public SuccessResponse<CursorResponse<BoardSummary>> getBoardsByCursor(BoardSearchCondition searchCondition,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "10") int size,
+		@RequestParam(defaultValue = "true") boolean withTotal) {
+
+		return SuccessResponse.<CursorResponse<BoardSummary>>builder()
+			.status(HttpStatus.OK.value())
+			.message("게시글 페이징 조회 성공")
+			.data(boardService.getBoardsByCursor(searchCondition, cursor, size, withTotal))
+			.build();
+	}
+
 	@GetMapping("/api/squad/{squadId}/board/allowed")
 	@ResponseStatus(HttpStatus.OK)
 	public SuccessResponse<Boolean> isBoardAllowed(@PathVariable Long squadId, @Login LoginUser loginUser) {
@@ -64,10 +81,10 @@ public class BoardController {
 
 	@GetMapping("/api/squad/{squadId}/boards")
 	@ResponseStatus(HttpStatus.OK)
-	public SuccessResponse<List<BoardResponse>> getBoardsWithSquad(@PathVariable Long squadId,
+	public SuccessResponse<List<BoardSummary>> getBoardsWithSquad(@PathVariable Long squadId,
 		@Login LoginUser loginUser) {
 
-		return SuccessResponse.<List<BoardResponse>>builder()
+		return SuccessResponse.<List<BoardSummary>>builder()
 			.status(HttpStatus.OK.value())
 			.message("스쿼드 전체 게시글 리스트 조회 성공")
 			.data(boardService.getBoardsWithSquad(squadId, loginUser))
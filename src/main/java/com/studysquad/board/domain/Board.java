@@ -14,6 +14,8 @@ import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.studysquad.mission.domain.Mission;
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.user.domain.User;
@@ -53,6 +55,10 @@ public class Board {
 
 	private LocalDateTime createAt;
 
+	@ColumnDefault("0")
+	@Column(updatable = false)
+	private int commentCount;
+
 	@Builder
 	public Board(Squad squad, User user, Mission mission, String title, String content) {
 		this.squad = squad;
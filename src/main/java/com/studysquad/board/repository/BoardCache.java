@@ -0,0 +1,15 @@
+package com.studysquad.board.repository;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.studysquad.board.response.BoardResponse;
+
+public interface BoardCache {
+
+	Optional<BoardResponse> get(Long boardId, Function<Long, Optional<BoardResponse>> loader);
+
+	void evict(Long boardId);
+
+	void clear();
+}
@@ -1,7 +1,22 @@
 package com.studysquad.board.repository;
 
+import java.util.List;
+
 import com.studysquad.board.domain.Board;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
+
+	@Query("select b.id from Board b where b.mission.id = :missionId")
+	List<Long> findIdsByMissionId(Long missionId);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Board b set b.commentCount = b.commentCount + 1 where b.id = :boardId")
+	int increaseCommentCount(Long boardId);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Board b set b.commentCount = b.commentCount - 1 where b.id = :boardId and b.commentCount > 0")
+	int decreaseCommentCount(Long boardId);
 }
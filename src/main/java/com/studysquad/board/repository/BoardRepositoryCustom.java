@@ -8,11 +8,18 @@ import org.springframework.data.domain.Pageable;
 
 import com.studysquad.board.request.BoardSearchCondition;
 import com.studysquad.board.response.BoardResponse;
+import com.studysquad.board.response.BoardSummary;
+import com.studysquad.global.common.CursorResponse;
 
 public interface BoardRepositoryCustom {
 	Optional<BoardResponse> getBoardById(Long boardId);
 
-	Page<BoardResponse> getBoards(BoardSearchCondition searchCondition, Pageable pageable);
+	Page<BoardSummary> getBoards(BoardSearchCondition searchCondition, Pageable pageable);
 
-	List<BoardResponse> getBoardsWithSquad(Long squadId);
+	CursorResponse<BoardSummary> getBoardsByCursor(BoardSearchCondition searchCondition, Long cursor, int size,
+		boolean withTotal);
+
+	List<BoardSummary> getBoardsWithSquad(Long squadId);
+
+	long repairCommentCounters();
 }
@@ -1,6 +1,7 @@
 package com.studysquad.board.repository;
 
 import static com.studysquad.board.domain.QBoard.*;
+import static com.studysquad.boardcomment.domain.QBoardComment.*;
 import static com.studysquad.category.domain.QCategory.*;
 import static com.studysquad.mission.domain.QMission.*;
 import static com.studysquad.squad.domain.QSquad.*;
@@ -8,6 +9,7 @@ import static com.studysquad.user.domain.QUser.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,12 +18,19 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.studysquad.board.request.BoardSearchCondition;
 import com.studysquad.board.response.BoardResponse;
+import com.studysquad.board.response.BoardSummary;
 import com.studysquad.board.response.QBoardResponse;
+import com.studysquad.category.repository.CategoryRegistry;
+import com.studysquad.global.common.CursorResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,7 +39,10 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class BoardRepositoryImpl implements BoardRepositoryCustom {
 
+	private static final int EXCERPT_LENGTH = 100;
+	private static final StringExpression EXCERPT = board.content.substring(0, EXCERPT_LENGTH);
 	private final JPAQueryFactory queryFactory;
+	private final CategoryRegistry categoryRegistry;
 
 	@Override
 	public Optional<BoardResponse> getBoardById(Long boardId) {
@@ -46,37 +58,68 @@ public class BoardRepositoryImpl implements BoardRepositoryCustom {
 	}
 
 	@Override
-	public Page<BoardResponse> getBoards(BoardSearchCondition searchCondition, Pageable pageable) {
-		List<BoardResponse> fetch = selectFromBoardResponse()
-			.join(user).on(board.user.id.eq(user.id))
-			.join(squad).on(board.squad.id.eq(squad.id))
-			.join(mission).on(board.mission.id.eq(mission.id))
-			.join(category).on(squad.category.id.eq(category.id))
-			.where(categoryNameEq(searchCondition.getCategoryName()))
+	public Page<BoardSummary> getBoards(BoardSearchCondition searchCondition, Pageable pageable) {
+		if (isUnknownCategory(searchCondition.getCategoryName())) {
+			return Page.empty(pageable);
+		}
+		List<BoardSummary> fetch = selectFromBoardSummary()
+			.where(categoryIdEq(searchCondition.getCategoryName()))
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
-			.fetch();
+			.orderBy(board.id.desc())
+			.fetch()
+			.stream()
+			.map(this::toBoardSummary)
+			.collect(Collectors.toList());
 
-		JPAQuery<Long> countQuery = queryFactory.select(board.count())
-			.from(board)
-			.join(user).on(board.user.id.eq(user.id))
-			.join(squad).on(board.squad.id.eq(squad.id))
-			.join(mission).on(board.mission.id.eq(mission.id))
-			.join(category).on(squad.category.id.eq(category.id))
-			.where(categoryNameEq(searchCondition.getCategoryName()));
+		return PageableExecutionUtils.getPage(fetch, pageable, () -> countBoards(searchCondition));
+	}
+
+	@Override
+	public CursorResponse<BoardSummary> getBoardsByCursor(BoardSearchCondition searchCondition, Long cursor, int size,
+		boolean withTotal) {
+		if (isUnknownCategory(searchCondition.getCategoryName())) {
+			return CursorResponse.of(List.of(), size, BoardSummary::getBoardId, withTotal ? 0L : null);
+		}
+		List<BoardSummary> fetch = selectFromBoardSummary()
+			.where(boardIdLt(cursor),
+				categoryIdEq(searchCondition.getCategoryName()))
+			.limit(size + 1)
+			.orderBy(board.id.desc())
+			.fetch()
+			.stream()
+			.map(this::toBoardSummary)
+			.collect(Collectors.toList());
 
-		return PageableExecutionUtils.getPage(fetch, pageable, countQuery::fetchOne);
+		Long totalCount = withTotal ? countBoards(searchCondition) : null;
+		return CursorResponse.of(fetch, size, BoardSummary::getBoardId, totalCount);
 	}
 
 	@Override
-	public List<BoardResponse> getBoardsWithSquad(Long squadId) {
-		return selectFromBoardResponse()
-			.join(user).on(board.user.id.eq(user.id))
-			.join(squad).on(board.squad.id.eq(squadId))
-			.join(mission).on(board.mission.id.eq(mission.id))
-			.join(category).on(squad.category.id.eq(category.id)
-				.and(squad.id.eq(squadId)))
-			.fetch();
+	public List<BoardSummary> getBoardsWithSquad(Long squadId) {
+		return selectFromBoardSummary()
+			.where(squad.id.eq(squadId))
+			.fetch()
+			.stream()
+			.map(this::toBoardSummary)
+			.collect(Collectors.toList());
+	}
+
+	@Override
+	@Transactional
+	public long repairCommentCounters() {
+		return queryFactory
+			.update(board)
+			.set(board.commentCount, countComments())
+			.where(board.commentCount.ne(countComments()))
+			.execute();
+	}
+
+	private JPQLQuery<Integer> countComments() {
+		return JPAExpressions
+			.select(boardComment.count().intValue())
+			.from(boardComment)
+			.where(boardComment.board.id.eq(board.id));
 	}
 
 	private JPAQuery<BoardResponse> selectFromBoardResponse() {
@@ -94,7 +137,57 @@ public class BoardRepositoryImpl implements BoardRepositoryCustom {
 			.from(board);
 	}
 
-	private BooleanExpression categoryNameEq(String categoryName) {
-		return !StringUtils.hasText(categoryName) ? null : category.categoryName.eq(categoryName);
+	private JPAQuery<Tuple> selectFromBoardSummary() {
+		return queryFactory.select(
+				board.id,
+				user.nickname,
+				squad.category.id,
+				squad.squadName,
+				mission.missionSequence,
+				board.title,
+				EXCERPT,
+				board.commentCount)
+			.from(board)
+			.join(board.user, user)
+			.join(board.squad, squad)
+			.join(board.mission, mission);
+	}
+
+	private BoardSummary toBoardSummary(Tuple tuple) {
+		return BoardSummary.builder()
+			.boardId(tuple.get(board.id))
+			.creator(tuple.get(user.nickname))
+			.categoryName(categoryRegistry.findNameById(tuple.get(squad.category.id)).orElse(null))
+			.squadName(tuple.get(squad.squadName))
+			.missionSequence(tuple.get(mission.missionSequence))
+			.boardTitle(tuple.get(board.title))
+			.excerpt(tuple.get(EXCERPT))
+			.commentCount(tuple.get(board.commentCount))
+			.build();
+	}
+
+	private long countBoards(BoardSearchCondition searchCondition) {
+		JPAQuery<Long> countQuery = queryFactory.select(board.count())
+			.from(board);
+		if (StringUtils.hasText(searchCondition.getCategoryName())) {
+			countQuery.join(board.squad, squad);
+		}
+		return countQuery
+			.where(categoryIdEq(searchCondition.getCategoryName()))
+			.fetchOne();
+	}
+
+	private BooleanExpression boardIdLt(Long cursor) {
+		return cursor == null ? null : board.id.lt(cursor);
+	}
+
+	private boolean isUnknownCategory(String categoryName) {
+		return StringUtils.hasText(categoryName) && categoryRegistry.findIdByName(categoryName).isEmpty();
+	}
+
+	private BooleanExpression categoryIdEq(String categoryName) {
+		return categoryRegistry.findIdByName(categoryName)
+			.map(categoryId -> squad.category.id.eq(categoryId))
+			.orElse(null);
 	}
 }
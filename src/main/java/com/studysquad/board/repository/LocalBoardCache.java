@@ -0,0 +1,68 @@
+package com.studysquad.board.repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.studysquad.board.response.BoardResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+@Component
+@ConditionalOnProperty(name = "board.cache.type", havingValue = "local", matchIfMissing = true)
+public class LocalBoardCache implements BoardCache {
+
+	private static final String CACHE_NAME = "board.detail";
+
+	private final Cache<Long, Optional<BoardResponse>> boards;
+
+	public LocalBoardCache(MeterRegistry meterRegistry,
+		@Value("${board.cache.maximum-size:10000}") long maximumSize,
+		@Value("${board.cache.expire-after-write:600000}") long expireAfterWrite) {
+
+		this.boards = CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofMillis(expireAfterWrite))
+			.recordStats()
+			.build();
+
+		GuavaCacheMetrics.monitor(meterRegistry, boards, CACHE_NAME);
+	}
+
+	@Override
+	public Optional<BoardResponse> get(Long boardId, Function<Long, Optional<BoardResponse>> loader) {
+		try {
+			Optional<BoardResponse> board = boards.get(boardId, () -> loader.apply(boardId));
+
+			if (board.isEmpty()) {
+				boards.asMap().remove(boardId, board);
+			}
+			return board;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		} catch (UncheckedExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw e;
+		}
+	}
+
+	@Override
+	public void evict(Long boardId) {
+		boards.invalidate(boardId);
+	}
+
+	@Override
+	public void clear() {
+		boards.invalidateAll();
+	}
+}
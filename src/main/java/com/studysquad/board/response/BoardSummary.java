@@ -0,0 +1,32 @@
+package com.studysquad.board.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class BoardSummary {
+	private Long boardId;
+	private String creator;
+	private String categoryName;
+	private String squadName;
+	private int missionSequence;
+	private String boardTitle;
+	private String excerpt;
+	private int commentCount;
+
+	@Builder
+	@QueryProjection
+	public BoardSummary(Long boardId, String creator, String categoryName, String squadName, int missionSequence,
+		String boardTitle, String excerpt, int commentCount) {
+		this.boardId = boardId;
+		this.creator = creator;
+		this.categoryName = categoryName;
+		this.squadName = squadName;
+		this.missionSequence = missionSequence;
+		this.boardTitle = boardTitle;
+		this.excerpt = excerpt;
+		this.commentCount = commentCount;
+	}
+}
@@ -0,0 +1,21 @@
+package com.studysquad.board.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.studysquad.board.repository.BoardCache;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class BoardCacheEvictionListener {
+
+	private final BoardCache boardCache;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evict(BoardChangedEvent event) {
+		boardCache.evict(event.getBoardId());
+	}
+}
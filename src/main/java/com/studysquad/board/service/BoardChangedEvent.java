@@ -0,0 +1,11 @@
+package com.studysquad.board.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class BoardChangedEvent {
+
+	private final Long boardId;
+}
@@ -2,31 +2,35 @@ package com.studysquad.board.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.studysquad.board.domain.Board;
+import com.studysquad.board.repository.BoardCache;
 import com.studysquad.board.repository.BoardRepository;
 import com.studysquad.board.request.BoardCreate;
 import com.studysquad.board.request.BoardEdit;
 import com.studysquad.board.request.BoardSearchCondition;
 import com.studysquad.board.response.BoardResponse;
+import com.studysquad.board.response.BoardSummary;
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.global.error.exception.NotFoundBoard;
 import com.studysquad.global.error.exception.NotFoundProcessMission;
 import com.studysquad.global.error.exception.NotFoundSquadBoard;
-import com.studysquad.global.error.exception.NotMentorException;
 import com.studysquad.global.error.exception.NotThreeSquadBoard;
 import com.studysquad.global.error.exception.SquadNotFoundException;
-import com.studysquad.global.error.exception.SquadNotProgressException;
-import com.studysquad.global.error.exception.UserNotFoundException;
 import com.studysquad.mission.domain.Mission;
 import com.studysquad.mission.repository.MissionRepository;
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.squad.domain.SquadStatus;
+import com.studysquad.squad.dto.SquadAccess;
 import com.studysquad.squad.repository.SquadRepository;
-import com.studysquad.user.domain.User;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadActivityType;
+import com.studysquad.squad.service.SquadAuthorizer;
 import com.studysquad.user.dto.LoginUser;
 import com.studysquad.user.repository.UserRepository;
 
@@ -37,6 +41,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BoardService {
 
+	private static final int MAX_CURSOR_SIZE = 100;
+
 	private final BoardRepository boardRepository;
 
 	private final UserRepository userRepository;
@@ -45,28 +51,34 @@ public class BoardService {
 
 	private final MissionRepository missionRepository;
 
+	private final BoardCache boardCache;
+
+	private final SquadAuthorizer squadAuthorizer;
+
+	private final ApplicationEventPublisher eventPublisher;
+
 	public BoardResponse getBoard(Long boardId) {
-		return boardRepository.getBoardById(boardId)
+		return boardCache.get(boardId, boardRepository::getBoardById)
 			.orElseThrow(NotFoundBoard::new);
 	}
 
-	public Page<BoardResponse> getBoards(BoardSearchCondition searchCondition, Pageable pageable) {
+	public Page<BoardSummary> getBoards(BoardSearchCondition searchCondition, Pageable pageable) {
 		return boardRepository.getBoards(searchCondition, pageable);
 	}
 
-	public Boolean isBoardAllowed(Long squadId, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
+	public CursorResponse<BoardSummary> getBoardsByCursor(BoardSearchCondition searchCondition, Long cursor, int size,
+		boolean withTotal) {
+		return boardRepository.getBoardsByCursor(searchCondition, cursor, Math.min(Math.max(size, 1), MAX_CURSOR_SIZE),
+			withTotal);
+	}
 
-		validateMentorOfSquad(squad, user);
+	public Boolean isBoardAllowed(Long squadId, LoginUser loginUser) {
+		SquadAccess access = squadAuthorizer.requireMentor(squadId, loginUser.getId());
 
-		Mission processMission = missionRepository.getProcessMissionEntity(squad.getId())
+		Long processMissionId = access.findProcessMissionId()
 			.orElseThrow(NotFoundProcessMission::new);
 
-		Long squadBoardCount = missionRepository.hasSquadBoardByMissionId(processMission.getId())
+		Long squadBoardCount = missionRepository.hasSquadBoardByMissionId(processMissionId)
 			.orElseThrow(NotFoundSquadBoard::new);
 
 		validateThreeSquadBoard(squadBoardCount);
@@ -74,10 +86,7 @@ public class BoardService {
 		return true;
 	}
 
-	public List<BoardResponse> getBoardsWithSquad(Long squadId, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
+	public List<BoardSummary> getBoardsWithSquad(Long squadId, LoginUser loginUser) {
 		Squad squad = squadRepository.findById(squadId)
 			.orElseThrow(SquadNotFoundException::new);
 
@@ -86,51 +95,41 @@ public class BoardService {
 
 	@Transactional
 	public void createBoard(BoardCreate boardCreate, Long squadId, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
-
-		if (!squad.getSquadStatus().equals(SquadStatus.PROCESS)) {
-			throw new SquadNotProgressException();
-		}
-
-		validateMentorOfSquad(squad, user);
+		SquadAccess access = squadAuthorizer.requireProcessMentor(squadId, loginUser.getId());
 
-		Mission processMission = missionRepository.getProcessMissionEntity(squadId)
+		Long processMissionId = access.findProcessMissionId()
 			.orElseThrow(NotFoundProcessMission::new);
 
-		Long squadBoardCount = missionRepository.hasSquadBoardByMissionId(processMission.getId())
+		Long squadBoardCount = missionRepository.hasSquadBoardByMissionId(processMissionId)
 			.orElseThrow(NotFoundSquadBoard::new);
 
 		validateThreeSquadBoard(squadBoardCount);
 
+		Squad squad = squadRepository.getReferenceById(squadId);
+		Mission processMission = missionRepository.getReferenceById(processMissionId);
+
 		processMission.updateStatusEnd();
 
-		missionRepository.getNextMission(squad.getId(), processMission.getMissionSequence())
+		missionRepository.getNextMission(squadId, processMission.getMissionSequence())
 			.ifPresentOrElse(Mission::updateStatusProcess,
 				() -> squad.updateStatus(SquadStatus.END));
 
-		boardRepository.save(Board.builder()
-			.user(user)
+		Board board = Board.builder()
+			.user(userRepository.getReferenceById(loginUser.getId()))
 			.squad(squad)
 			.mission(processMission)
 			.title(boardCreate.getTitle())
 			.content(boardCreate.getContent())
-			.build());
+			.build();
+
+		boardRepository.save(board);
+		eventPublisher.publishEvent(new SquadActivityEvent(squadId, SquadActivityType.BOARD_CREATED, board.getId()));
 	}
 
 	@Transactional
 	public void edit(Long boardId, Long squadId, BoardEdit boardEdit, LoginUser loginUser) {
 
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
-
-		validateMentorOfSquad(squad, user);
+		squadAuthorizer.requireMentor(squadId, loginUser.getId());
 
 		Board board = boardRepository.findById(boardId)
 			.orElseThrow(NotFoundBoard::new);
@@ -138,35 +137,27 @@ public class BoardService {
 		board.edit(boardEdit.getTitle() != null ? boardEdit.getTitle() : board.getTitle(),
 			boardEdit.getContent() != null ? boardEdit.getContent() : board.getContent());
 
+		eventPublisher.publishEvent(new BoardChangedEvent(board.getId()));
+		eventPublisher.publishEvent(new SquadActivityEvent(squadId, SquadActivityType.BOARD_EDITED, board.getId()));
 	}
 
 	@Transactional
 	public void delete(Long boardId, Long squadId, LoginUser loginUser) {
 
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
-
-		validateMentorOfSquad(squad, user);
+		squadAuthorizer.requireMentor(squadId, loginUser.getId());
 
 		Board board = boardRepository.findById(boardId)
 			.orElseThrow(NotFoundBoard::new);
 
 		boardRepository.delete(board);
+		eventPublisher.publishEvent(new BoardChangedEvent(board.getId()));
+		eventPublisher.publishEvent(new SquadActivityEvent(squadId, SquadActivityType.BOARD_DELETED, board.getId()));
 	}
 
 	private boolean hasThreeSquadBoard(Long squadBoardCount) {
 		return squadBoardCount.equals(3L);
 	}
 
-	private void validateMentorOfSquad(Squad squad, User user) {
-		if (!squadRepository.isMentorOfSquad(squad.getId(), user.getId())) {
-			throw new NotMentorException();
-		}
-	}
-
 	private void validateThreeSquadBoard(Long squadBoardCount) {
 		if (!hasThreeSquadBoard(squadBoardCount)) {
 			throw new NotThreeSquadBoard();
@@ -1,7 +1,5 @@
 package com.studysquad.boardcomment.controller;
 
-import java.util.List;
-
 import javax.validation.Valid;
 
 import org.springframework.http.HttpStatus;
@@ -11,6 +9,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,6 +17,7 @@ import com.studysquad.boardcomment.dto.BoardCommentCreateDto;
 import com.studysquad.boardcomment.dto.BoardCommentEditDto;
 import com.studysquad.boardcomment.dto.BoardCommentResponse;
 import com.studysquad.boardcomment.service.BoardCommentService;
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.global.common.SuccessResponse;
 import com.studysquad.global.security.Login;
 import com.studysquad.user.dto.LoginUser;
@@ -32,12 +32,14 @@ public class BoardCommentController {
 
 	@GetMapping("/api/board/{boardId}/boardcomments")
 	@ResponseStatus(HttpStatus.OK)
-	public SuccessResponse<List<BoardCommentResponse>> getBoardComments(@PathVariable Long boardId) {
+	public SuccessResponse<CursorResponse<BoardCommentResponse>> getBoardComments(@PathVariable Long boardId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
 
-		return SuccessResponse.<List<BoardCommentResponse>>builder()
+		return SuccessResponse.<CursorResponse<BoardCommentResponse>>builder()
 			.status(HttpStatus.OK.value())
 			.message("게시글 댓글 조회 성공")
-			.data(boardCommentService.getBoardComments(boardId))
+			.data(boardCommentService.getBoardComments(boardId, cursor, size))
 			.build();
 	}
 
@@ -9,9 +9,11 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import com.studysquad.board.domain.Board;
 import com.studysquad.boardcomment.dto.BoardCommentEditDto;
@@ -23,6 +25,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_board_comment_board_create_at",
+	columnList = "board_id, create_at, board_comment_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BoardComment {
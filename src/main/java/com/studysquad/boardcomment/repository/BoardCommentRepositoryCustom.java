@@ -1,10 +1,10 @@
 package com.studysquad.boardcomment.repository;
 
-import java.util.List;
-
 import com.studysquad.boardcomment.dto.BoardCommentResponse;
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.common.KeysetCursor;
 
 public interface BoardCommentRepositoryCustom {
 
-	List<BoardCommentResponse> getBoardComments(Long boardId);
+	CursorResponse<BoardCommentResponse> getBoardComments(Long boardId, KeysetCursor cursor, int size);
 }
@@ -1,6 +1,5 @@
 package com.studysquad.boardcomment.repository;
 
-import static com.studysquad.board.domain.QBoard.*;
 import static com.studysquad.boardcomment.domain.QBoardComment.*;
 import static com.studysquad.user.domain.QUser.*;
 
@@ -12,6 +11,8 @@ import org.springframework.transaction.annotation.Transactional;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.studysquad.boardcomment.dto.BoardCommentResponse;
 import com.studysquad.boardcomment.dto.QBoardCommentResponse;
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.common.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,16 +24,21 @@ public class BoardCommentRepositoryImpl implements BoardCommentRepositoryCustom
 	private final JPAQueryFactory queryFactory;
 
 	@Override
-	public List<BoardCommentResponse> getBoardComments(Long boardId) {
-		return queryFactory.select(new QBoardCommentResponse(
+	public CursorResponse<BoardCommentResponse> getBoardComments(Long boardId, KeysetCursor cursor, int size) {
+		List<BoardCommentResponse> fetch = queryFactory.select(new QBoardCommentResponse(
 				boardComment.id,
 				boardComment.boardCommentContent,
 				user.nickname,
 				boardComment.createAt))
 			.from(boardComment)
 			.join(user).on(user.id.eq(boardComment.user.id))
-			.join(board).on(board.id.eq(boardComment.board.id))
-			.where(boardComment.board.id.eq(boardId))
+			.where(boardComment.board.id.eq(boardId),
+				KeysetCursor.after(cursor, boardComment.createAt, boardComment.id))
+			.orderBy(boardComment.createAt.asc(), boardComment.id.asc())
+			.limit(size + 1)
 			.fetch();
+
+		return CursorResponse.of(fetch, size,
+			comment -> KeysetCursor.encode(comment.getCreateAt(), comment.getBoardCommentId()));
 	}
 }
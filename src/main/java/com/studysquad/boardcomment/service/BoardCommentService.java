@@ -1,7 +1,5 @@
 package com.studysquad.boardcomment.service;
 
-import java.util.List;
-
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,11 +10,12 @@ import com.studysquad.boardcomment.dto.BoardCommentCreateDto;
 import com.studysquad.boardcomment.dto.BoardCommentEditDto;
 import com.studysquad.boardcomment.dto.BoardCommentResponse;
 import com.studysquad.boardcomment.repository.BoardCommentRepository;
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.common.KeysetCursor;
 import com.studysquad.global.error.exception.BoardInfoMismatchException;
 import com.studysquad.global.error.exception.NotFoundBoard;
 import com.studysquad.global.error.exception.NotFoundBoardComment;
 import com.studysquad.global.error.exception.UserInfoMismatchException;
-import com.studysquad.global.error.exception.UserNotFoundException;
 import com.studysquad.user.domain.User;
 import com.studysquad.user.dto.LoginUser;
 import com.studysquad.user.repository.UserRepository;
@@ -28,32 +27,32 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class BoardCommentService {
 
+	private static final int MAX_CURSOR_SIZE = 100;
+
 	private final UserRepository userRepository;
 	private final BoardRepository boardRepository;
 	private final BoardCommentRepository boardCommentRepository;
 
-	public List<BoardCommentResponse> getBoardComments(Long boardId) {
-		return boardCommentRepository.getBoardComments(boardId);
+	public CursorResponse<BoardCommentResponse> getBoardComments(Long boardId, String cursor, int size) {
+		return boardCommentRepository.getBoardComments(boardId, KeysetCursor.decode(cursor),
+			Math.min(Math.max(size, 1), MAX_CURSOR_SIZE));
 	}
 
 	@Transactional
 	public void createBoardComment(Long boardId, LoginUser loginUser, BoardCommentCreateDto createRequest) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
 		Board board = boardRepository.findById(boardId)
 			.orElseThrow(NotFoundBoard::new);
 
+		User user = userRepository.getReferenceById(loginUser.getId());
+
 		boardCommentRepository.save(createRequest.toEntity(user, board));
+		boardRepository.increaseCommentCount(board.getId());
 	}
 
 	@Transactional
 	public void editBoardComment(Long boardId, Long boardCommentId, BoardCommentEditDto editRequest,
 		LoginUser loginUser) {
 
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
 		Board board = boardRepository.findById(boardId)
 			.orElseThrow(NotFoundBoard::new);
 
@@ -63,7 +62,7 @@ public class BoardCommentService {
 		if (isBoardCommentNotOwnedByBoard(boardComment, board)) {
 			throw new BoardInfoMismatchException();
 		}
-		if (isBoardCommentNotOwnedByUser(boardComment, user)) {
+		if (isBoardCommentNotOwnedByUser(boardComment, loginUser.getId())) {
 			throw new UserInfoMismatchException();
 		}
 
@@ -73,9 +72,6 @@ public class BoardCommentService {
 	@Transactional
 	public void deleteBoardComment(Long boardId, Long boardCommentId, LoginUser loginUser) {
 
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
 		Board board = boardRepository.findById(boardId)
 			.orElseThrow(NotFoundBoard::new);
 
@@ -85,18 +81,19 @@ public class BoardCommentService {
 		if (isBoardCommentNotOwnedByBoard(boardComment, board)) {
 			throw new BoardInfoMismatchException();
 		}
-		if (isBoardCommentNotOwnedByUser(boardComment, user)) {
+		if (isBoardCommentNotOwnedByUser(boardComment, loginUser.getId())) {
 			throw new UserInfoMismatchException();
 		}
 
 		boardCommentRepository.deleteById(boardComment.getId());
+		boardRepository.decreaseCommentCount(board.getId());
 	}
 
 	private boolean isBoardCommentNotOwnedByBoard(BoardComment boardComment, Board board) {
 		return !boardComment.getBoard().getId().equals(board.getId());
 	}
 
-	private boolean isBoardCommentNotOwnedByUser(BoardComment boardComment, User user) {
-		return !boardComment.getUser().getId().equals(user.getId());
+	private boolean isBoardCommentNotOwnedByUser(BoardComment boardComment, Long userId) {
+		return !boardComment.getUser().getId().equals(userId);
 	}
 }
@@ -0,0 +1,39 @@
+package com.studysquad.boardcomment.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.studysquad.board.repository.BoardRepository;
+import com.studysquad.squadboard.repository.SquadBoardRepository;
+
+@Component
+public class CommentCounterRepairJob {
+
+	private final BoardRepository boardRepository;
+	private final SquadBoardRepository squadBoardRepository;
+	private final boolean repairOnStartup;
+
+	public CommentCounterRepairJob(BoardRepository boardRepository, SquadBoardRepository squadBoardRepository,
+		@Value("${comment.counter-repair.on-startup:false}") boolean repairOnStartup) {
+
+		this.boardRepository = boardRepository;
+		this.squadBoardRepository = squadBoardRepository;
+		this.repairOnStartup = repairOnStartup;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void repairOnStartup() {
+		if (repairOnStartup) {
+			repairCommentCounters();
+		}
+	}
+
+	@Scheduled(cron = "${comment.counter-repair.cron:0 45 4 * * *}")
+	public void repairCommentCounters() {
+		boardRepository.repairCommentCounters();
+		squadBoardRepository.repairCommentCounters();
+	}
+}
@@ -2,6 +2,7 @@ package com.studysquad.category.domain;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
@@ -13,6 +14,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@EntityListeners(CategoryRegistryListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Category {
 
@@ -0,0 +1,12 @@
+package com.studysquad.category.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+
+	private final Long categoryId;
+	private final String categoryName;
+}
@@ -0,0 +1,28 @@
+package com.studysquad.category.domain;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CategoryRegistryListener {
+
+	private final ObjectProvider<ApplicationEventPublisher> eventPublisher;
+
+	@PostPersist
+	@PostUpdate
+	public void register(Category category) {
+		eventPublisher.ifAvailable(publisher -> publisher.publishEvent(
+			new CategoryChangedEvent(category.getId(), category.getCategoryName())));
+	}
+
+	@PostRemove
+	public void unregister(Category category) {
+		eventPublisher.ifAvailable(publisher -> publisher.publishEvent(new CategoryRemovedEvent(category.getId())));
+	}
+}
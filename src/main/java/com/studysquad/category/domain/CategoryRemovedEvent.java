@@ -0,0 +1,11 @@
+package com.studysquad.category.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CategoryRemovedEvent {
+
+	private final Long categoryId;
+}
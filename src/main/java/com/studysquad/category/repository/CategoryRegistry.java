@@ -0,0 +1,158 @@
+package com.studysquad.category.repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.studysquad.category.domain.Category;
+import com.studysquad.category.domain.CategoryChangedEvent;
+import com.studysquad.category.domain.CategoryRemovedEvent;
+
+@Component
+public class CategoryRegistry {
+
+	private final CategoryRepository categoryRepository;
+	private final Cache<String, Boolean> missingNames;
+	private final Cache<Long, Boolean> missingIds;
+	private volatile Map<String, Long> idsByName = Map.of();
+	private volatile Map<Long, String> namesById = Map.of();
+
+	public CategoryRegistry(CategoryRepository categoryRepository,
+		@Value("${category.registry.miss-ttl:30000}") long missTtl,
+		@Value("${category.registry.miss-maximum-size:1000}") long missMaximumSize) {
+
+		this.categoryRepository = categoryRepository;
+		this.missingNames = createMissCache(missTtl, missMaximumSize);
+		this.missingIds = createMissCache(missTtl, missMaximumSize);
+	}
+
+	public Optional<Long> findIdByName(String categoryName) {
+		if (categoryName == null) {
+			return Optional.empty();
+		}
+		Long categoryId = idsByName.get(categoryName);
+
+		if (categoryId != null) {
+			return Optional.of(categoryId);
+		}
+		if (missingNames.getIfPresent(categoryName) != null) {
+			return Optional.empty();
+		}
+		Optional<Long> loaded = categoryRepository.findByCategoryName(categoryName)
+			.map(this::registerLoaded)
+			.map(Category::getId);
+
+		if (loaded.isEmpty()) {
+			missingNames.put(categoryName, Boolean.TRUE);
+		}
+		return loaded;
+	}
+
+	public Optional<String> findNameById(Long categoryId) {
+		if (categoryId == null) {
+			return Optional.empty();
+		}
+		String categoryName = namesById.get(categoryId);
+
+		if (categoryName != null) {
+			return Optional.of(categoryName);
+		}
+		if (missingIds.getIfPresent(categoryId) != null) {
+			return Optional.empty();
+		}
+		Optional<String> loaded = categoryRepository.findById(categoryId)
+			.map(this::registerLoaded)
+			.map(Category::getCategoryName);
+
+		if (loaded.isEmpty()) {
+			missingIds.put(categoryId, Boolean.TRUE);
+		}
+		return loaded;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${category.registry.refresh-interval:600000}",
+		initialDelayString = "${category.registry.refresh-interval:600000}")
+	public synchronized void refresh() {
+		List<Category> categories = categoryRepository.findAll();
+		Map<String, Long> ids = new HashMap<>();
+		Map<Long, String> names = new HashMap<>();
+
+		for (Category category : categories) {
+			ids.put(category.getCategoryName(), category.getId());
+			names.put(category.getId(), category.getCategoryName());
+		}
+		idsByName = Map.copyOf(ids);
+		namesById = Map.copyOf(names);
+		clearMisses();
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void register(CategoryChangedEvent event) {
+		register(event.getCategoryId(), event.getCategoryName());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public synchronized void unregister(CategoryRemovedEvent event) {
+		Map<String, Long> ids = new HashMap<>(idsByName);
+		Map<Long, String> names = new HashMap<>(namesById);
+
+		String name = names.remove(event.getCategoryId());
+		if (name != null) {
+			ids.remove(name);
+		}
+		idsByName = Map.copyOf(ids);
+		namesById = Map.copyOf(names);
+		clearMisses();
+	}
+
+	private Category registerLoaded(Category category) {
+		register(category.getId(), category.getCategoryName());
+		return category;
+	}
+
+	private synchronized void register(Long categoryId, String categoryName) {
+		Map<String, Long> ids = new HashMap<>(idsByName);
+		Map<Long, String> names = new HashMap<>(namesById);
+
+		String previousName = names.put(categoryId, categoryName);
+		if (previousName != null) {
+			ids.remove(previousName);
+		}
+		ids.put(categoryName, categoryId);
+
+		idsByName = Map.copyOf(ids);
+		namesById = Map.copyOf(names);
+		clearMisses();
+	}
+
+	public synchronized void clear() {
+		idsByName = Map.of();
+		namesById = Map.of();
+		clearMisses();
+	}
+
+	private void clearMisses() {
+		missingNames.invalidateAll();
+		missingIds.invalidateAll();
+	}
+
+	private static <K> Cache<K, Boolean> createMissCache(long missTtl, long missMaximumSize) {
+		return CacheBuilder.newBuilder()
+			.maximumSize(missMaximumSize)
+			.expireAfterWrite(Duration.ofMillis(missTtl))
+			.build();
+	}
+}
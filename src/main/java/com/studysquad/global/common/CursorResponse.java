@@ -0,0 +1,48 @@
+package com.studysquad.global.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class CursorResponse<T> {
+	private List<T> content;
+	private boolean hasNext;
+	private Object nextCursor;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long totalCount;
+
+	@Builder
+	public CursorResponse(List<T> content, boolean hasNext, @Nullable Object nextCursor, @Nullable Long totalCount) {
+		this.content = content;
+		this.hasNext = hasNext;
+		this.nextCursor = nextCursor;
+		this.totalCount = totalCount;
+	}
+
+	public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, ?> cursorExtractor) {
+		return of(fetched, size, cursorExtractor, null);
+	}
+
+	public static <T> CursorResponse<T> of(List<T> fetched, int size, Function<T, ?> cursorExtractor,
+		@Nullable Long totalCount) {
+		boolean hasNext = fetched.size() > size;
+		List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+		Object nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+
+		return CursorResponse.<T>builder()
+			.content(content)
+			.hasNext(hasNext)
+			.nextCursor(nextCursor)
+			.totalCount(totalCount)
+			.build();
+	}
+}
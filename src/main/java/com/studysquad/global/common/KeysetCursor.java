@@ -0,0 +1,61 @@
+package com.studysquad.global.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.lang.Nullable;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.studysquad.global.error.exception.InvalidCursorException;
+
+import lombok.Getter;
+
+@Getter
+public class KeysetCursor {
+
+	private static final String DELIMITER = "_";
+
+	private final LocalDateTime createAt;
+	private final Long id;
+
+	public KeysetCursor(LocalDateTime createAt, Long id) {
+		this.createAt = createAt;
+		this.id = id;
+	}
+
+	public static String encode(LocalDateTime createAt, Long id) {
+		return Base64.getUrlEncoder()
+			.withoutPadding()
+			.encodeToString((createAt + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Nullable
+	public static KeysetCursor decode(@Nullable String cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+
+			return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+				Long.valueOf(decoded.substring(delimiterIndex + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+			throw new InvalidCursorException();
+		}
+	}
+
+	@Nullable
+	public static BooleanExpression after(@Nullable KeysetCursor cursor, DateTimePath<LocalDateTime> createAt,
+		NumberPath<Long> id) {
+		if (cursor == null) {
+			return null;
+		}
+		return createAt.gt(cursor.getCreateAt())
+			.or(createAt.eq(cursor.getCreateAt()).and(id.gt(cursor.getId())));
+	}
+}
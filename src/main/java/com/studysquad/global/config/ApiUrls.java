@@ -2,5 +2,9 @@ package com.studysquad.global.config;
 
 public class ApiUrls {
 	public static final String[] PERMIT_API_URLS = {"/api/login", "/api/join", "/api/reissue", "/api/squad/recruit",
-		"/api/squad/{squadId}", "/api/boards", "/api/board/{boardId}", "/api/board/{boardId}/boardcomments"};
+		"/api/squad/recruit/cursor", "/api/squad/{squadId}", "/api/boards", "/api/boards/cursor",
+		"/api/board/{boardId}", "/api/board/{boardId}/boardcomments"};
+	public static final String[] PERMIT_ENDPOINTS = {"health"};
+	public static final String[] ADMIN_ENDPOINTS = {"prometheus"};
+	public static final String[] STREAM_URLS = {"/api/squad/*/activity"};
 }
@@ -0,0 +1,34 @@
+package com.studysquad.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryBuilderCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaBatchConfig {
+
+	private static final String MISSION_SEQUENCE_MAPPING = "META-INF/mission-sequence-orm.xml";
+
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchCustomizer(
+		@Value("${jpa.batch-size:50}") int batchSize) {
+
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+			properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+			properties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+		};
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "jpa.mission-sequence.enabled", havingValue = "true")
+	public EntityManagerFactoryBuilderCustomizer missionSequenceCustomizer() {
+		return builder -> builder.setPersistenceUnitPostProcessors(
+			persistenceUnit -> persistenceUnit.addMappingFileName(MISSION_SEQUENCE_MAPPING));
+	}
+}
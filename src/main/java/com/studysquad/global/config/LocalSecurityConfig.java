@@ -4,14 +4,13 @@ import static org.springframework.boot.autoconfigure.security.servlet.PathReques
 
 import java.util.Arrays;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -22,8 +21,12 @@ import com.studysquad.global.filter.ApiAccessDeniedHandler;
 import com.studysquad.global.filter.ApiAuthenticationEntryPoint;
 import com.studysquad.global.filter.JwtAuthenticationFilter;
 import com.studysquad.global.security.JwtProvider;
+import com.studysquad.global.security.VerifiedTokenCache;
+import com.studysquad.user.domain.Role;
 import com.studysquad.user.service.ApiUserDetailsService;
+import com.studysquad.user.service.TokenVersionService;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Profile({"local", "default"})
@@ -33,7 +36,10 @@ import lombok.RequiredArgsConstructor;
 public class LocalSecurityConfig {
 
 	private final JwtProvider jwtProvider;
+	private final VerifiedTokenCache verifiedTokenCache;
 	private final ApiUserDetailsService userDetailsService;
+	private final TokenVersionService tokenVersionService;
+	private final MeterRegistry meterRegistry;
 	private final ApiAuthenticationEntryPoint entryPoint;
 	private final ApiAccessDeniedHandler deniedHandler;
 
@@ -51,6 +57,8 @@ public class LocalSecurityConfig {
 			.and()
 			.authorizeRequests()
 			.requestMatchers(toH2Console()).permitAll()
+			.requestMatchers(EndpointRequest.to(ApiUrls.PERMIT_ENDPOINTS)).permitAll()
+			.requestMatchers(EndpointRequest.to(ApiUrls.ADMIN_ENDPOINTS)).hasRole(Role.ADMIN.name())
 			.mvcMatchers(ApiUrls.PERMIT_API_URLS).permitAll()
 			.anyRequest()
 			.authenticated()
@@ -63,14 +71,10 @@ public class LocalSecurityConfig {
 		return http.build();
 	}
 
-	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
-
 	@Bean
 	public JwtAuthenticationFilter jwtAuthenticationFilter() {
-		return new JwtAuthenticationFilter(jwtProvider, userDetailsService);
+		return new JwtAuthenticationFilter(jwtProvider, verifiedTokenCache, userDetailsService, tokenVersionService,
+			meterRegistry);
 	}
 
 	@Bean
@@ -0,0 +1,63 @@
+package com.studysquad.global.config;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import com.studysquad.global.filter.JwtAuthenticationFilter;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+@Configuration
+@PropertySource("classpath:metrics-defaults.properties")
+public class MetricsConfig {
+
+	private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+	private static final Set<String> LATENCY_TIMERS = Set.of(HTTP_SERVER_REQUESTS,
+		JwtAuthenticationFilter.AUTHENTICATION_TIMER);
+
+	@Bean
+	public MeterRegistryCustomizer<MeterRegistry> commonTagsCustomizer(
+		@Value("${spring.application.name:studysquad}") String application) {
+
+		return registry -> registry.config().commonTags("application", application);
+	}
+
+	@Bean
+	public MeterFilter latencyHistogramFilter(
+		@Value("${metrics.latency.minimum-expected:1}") long minimumExpected,
+		@Value("${metrics.latency.maximum-expected:10000}") long maximumExpected) {
+
+		return new MeterFilter() {
+			@Override
+			public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+				if (!LATENCY_TIMERS.contains(id.getName())) {
+					return config;
+				}
+				return DistributionStatisticConfig.builder()
+					.percentilesHistogram(true)
+					.minimumExpectedValue((double)Duration.ofMillis(minimumExpected).toNanos())
+					.maximumExpectedValue((double)Duration.ofMillis(maximumExpected).toNanos())
+					.build()
+					.merge(config);
+			}
+		};
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer hibernateStatisticsCustomizer(
+		@Value("${metrics.hibernate.enabled:true}") boolean enabled) {
+
+		return properties -> properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, enabled);
+	}
+}
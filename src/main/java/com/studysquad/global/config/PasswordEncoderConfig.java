@@ -0,0 +1,29 @@
+package com.studysquad.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.studysquad.global.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+	@Bean
+	public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+		@Value("${security.bcrypt.strength:10}") int strength,
+		@Value("${security.bcrypt.pool-size:0}") int poolSize,
+		@Value("${security.bcrypt.queue-capacity:50}") int queueCapacity,
+		@Value("${security.bcrypt.timeout:5000}") long timeout) {
+
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry,
+			poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(),
+			queueCapacity, Duration.ofMillis(timeout));
+	}
+}
@@ -2,14 +2,13 @@ package com.studysquad.global.config;
 
 import java.util.Arrays;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -20,8 +19,12 @@ import com.studysquad.global.filter.ApiAccessDeniedHandler;
 import com.studysquad.global.filter.ApiAuthenticationEntryPoint;
 import com.studysquad.global.filter.JwtAuthenticationFilter;
 import com.studysquad.global.security.JwtProvider;
+import com.studysquad.global.security.VerifiedTokenCache;
+import com.studysquad.user.domain.Role;
 import com.studysquad.user.service.ApiUserDetailsService;
+import com.studysquad.user.service.TokenVersionService;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Profile("prod")
@@ -31,7 +34,10 @@ import lombok.RequiredArgsConstructor;
 public class ProductionSecurityConfig {
 
 	private final JwtProvider jwtProvider;
+	private final VerifiedTokenCache verifiedTokenCache;
 	private final ApiUserDetailsService userDetailsService;
+	private final TokenVersionService tokenVersionService;
+	private final MeterRegistry meterRegistry;
 	private final ApiAuthenticationEntryPoint entryPoint;
 	private final ApiAccessDeniedHandler deniedHandler;
 
@@ -48,6 +54,8 @@ public class ProductionSecurityConfig {
 			.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
 			.and()
 			.authorizeRequests()
+			.requestMatchers(EndpointRequest.to(ApiUrls.PERMIT_ENDPOINTS)).permitAll()
+			.requestMatchers(EndpointRequest.to(ApiUrls.ADMIN_ENDPOINTS)).hasRole(Role.ADMIN.name())
 			.mvcMatchers(ApiUrls.PERMIT_API_URLS).permitAll()
 			.anyRequest()
 			.authenticated()
@@ -60,14 +68,10 @@ public class ProductionSecurityConfig {
 		return http.build();
 	}
 
-	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
-
 	@Bean
 	public JwtAuthenticationFilter jwtAuthenticationFilter() {
-		return new JwtAuthenticationFilter(jwtProvider, userDetailsService);
+		return new JwtAuthenticationFilter(jwtProvider, verifiedTokenCache, userDetailsService, tokenVersionService,
+			meterRegistry);
 	}
 
 	@Bean
@@ -0,0 +1,50 @@
+package com.studysquad.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.studysquad.global.query.QueryStatisticsInterceptor;
+import com.studysquad.global.query.QueryStatisticsListener;
+import com.studysquad.global.query.QueryStatisticsResultSetProxyLogic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration
+@ConditionalOnProperty(name = "query.statistics.enabled", havingValue = "true")
+public class QueryStatisticsConfig {
+
+	private static final String PROXY_NAME = "query-statistics";
+
+	@Bean
+	public static BeanPostProcessor queryStatisticsDataSourcePostProcessor() {
+		QueryStatisticsListener listener = new QueryStatisticsListener();
+
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+					return ProxyDataSourceBuilder.create((DataSource)bean)
+						.name(PROXY_NAME)
+						.listener(listener)
+						.proxyResultSet(QueryStatisticsResultSetProxyLogic::new)
+						.build();
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	public QueryStatisticsInterceptor queryStatisticsInterceptor(MeterRegistry meterRegistry,
+		@Value("${query.statistics.statement-threshold:10}") int statementThreshold,
+		@Value("${query.statistics.repeat-threshold:3}") int repeatThreshold) {
+		return new QueryStatisticsInterceptor(meterRegistry, statementThreshold, repeatThreshold);
+	}
+}
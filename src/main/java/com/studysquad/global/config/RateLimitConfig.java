@@ -0,0 +1,68 @@
+package com.studysquad.global.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studysquad.global.config.RateLimitProperties.Endpoint;
+import com.studysquad.global.filter.RateLimitFilter;
+import com.studysquad.global.security.RateLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+	private static final Duration MINIMUM_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+	@Bean
+	public RateLimiter rateLimiter(MeterRegistry meterRegistry, RateLimitProperties properties) {
+		return new RateLimiter(meterRegistry, properties.getMaximumKeys(), idleTimeout(properties.getEndpoints()));
+	}
+
+	@Bean
+	public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimiter rateLimiter,
+		RateLimitProperties properties, ObjectMapper objectMapper) {
+
+		validateEndpoints(properties.getEndpoints());
+
+		FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+			new RateLimitFilter(rateLimiter, properties.getEndpoints(), objectMapper));
+		registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+		registration.setEnabled(properties.isEnabled());
+
+		return registration;
+	}
+
+	private void validateEndpoints(List<Endpoint> endpoints) {
+		List<String> permitUrls = Arrays.asList(ApiUrls.PERMIT_API_URLS);
+
+		endpoints.stream()
+			.filter(endpoint -> !permitUrls.contains(endpoint.getPath()))
+			.findFirst()
+			.ifPresent(endpoint -> {
+				throw new IllegalStateException("Rate limit path is not a permitted API url: " + endpoint.getPath());
+			});
+	}
+
+	private Duration idleTimeout(List<Endpoint> endpoints) {
+		return endpoints.stream()
+			.flatMap(endpoint -> Stream.of(endpoint.getClient(), endpoint.getAccount()))
+			.filter(Objects::nonNull)
+			.map(RateLimitProperties.Bandwidth::getPeriod)
+			.max(Comparator.naturalOrder())
+			.filter(period -> period.compareTo(MINIMUM_IDLE_TIMEOUT) > 0)
+			.orElse(MINIMUM_IDLE_TIMEOUT);
+	}
+}
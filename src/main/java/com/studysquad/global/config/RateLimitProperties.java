@@ -0,0 +1,60 @@
+package com.studysquad.global.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+	private boolean enabled = true;
+	private long maximumKeys = 100000;
+	private List<Endpoint> endpoints = defaultEndpoints();
+
+	@Getter
+	@Setter
+	public static class Endpoint {
+		private String path;
+		private Bandwidth client;
+		private Bandwidth account;
+	}
+
+	@Getter
+	@Setter
+	public static class Bandwidth {
+		private long capacity;
+		private Duration period;
+	}
+
+	private static List<Endpoint> defaultEndpoints() {
+		List<Endpoint> endpoints = new ArrayList<>();
+
+		endpoints.add(endpoint("/api/login", bandwidth(20, Duration.ofMinutes(1)), bandwidth(5, Duration.ofMinutes(1))));
+		endpoints.add(endpoint("/api/join", bandwidth(10, Duration.ofMinutes(1)), null));
+		endpoints.add(endpoint("/api/reissue", bandwidth(30, Duration.ofMinutes(1)), null));
+
+		return endpoints;
+	}
+
+	private static Endpoint endpoint(String path, Bandwidth client, Bandwidth account) {
+		Endpoint endpoint = new Endpoint();
+		endpoint.setPath(path);
+		endpoint.setClient(client);
+		endpoint.setAccount(account);
+		return endpoint;
+	}
+
+	private static Bandwidth bandwidth(long capacity, Duration period) {
+		Bandwidth bandwidth = new Bandwidth();
+		bandwidth.setCapacity(capacity);
+		bandwidth.setPeriod(period);
+		return bandwidth;
+	}
+}
@@ -2,19 +2,38 @@ package com.studysquad.global.config;
 
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.studysquad.global.query.QueryStatisticsInterceptor;
 import com.studysquad.global.util.LoginUserArgumentResolver;
 import com.studysquad.global.util.RefreshTokenArgumentResolver;
+import com.studysquad.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+	private final UserRepository userRepository;
+	private final ObjectProvider<QueryStatisticsInterceptor> queryStatisticsInterceptor;
+	private final ObjectProvider<OpenEntityManagerInViewInterceptor> openEntityManagerInViewInterceptor;
+
 	@Override
 	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
 		resolvers.add(new RefreshTokenArgumentResolver());
-		resolvers.add(new LoginUserArgumentResolver());
+		resolvers.add(new LoginUserArgumentResolver(userRepository));
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		openEntityManagerInViewInterceptor.ifAvailable(interceptor -> registry.addWebRequestInterceptor(interceptor)
+			.excludePathPatterns(ApiUrls.STREAM_URLS));
+		queryStatisticsInterceptor.ifAvailable(registry::addInterceptor);
 	}
 }
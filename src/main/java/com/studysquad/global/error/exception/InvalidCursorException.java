@@ -0,0 +1,15 @@
+package com.studysquad.global.error.exception;
+
+public class InvalidCursorException extends ApiException {
+
+	private static final String MESSAGE = "유효하지 않은 커서 입니다";
+
+	public InvalidCursorException() {
+		super(MESSAGE);
+	}
+
+	@Override
+	public int getStatusCode() {
+		return 400;
+	}
+}
@@ -0,0 +1,19 @@
+package com.studysquad.global.error.exception;
+
+public class PasswordEncoderBusyException extends ApiException {
+
+	private static final String MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요";
+
+	public PasswordEncoderBusyException() {
+		super(MESSAGE);
+	}
+
+	public PasswordEncoderBusyException(Throwable cause) {
+		super(MESSAGE, cause);
+	}
+
+	@Override
+	public int getStatusCode() {
+		return 503;
+	}
+}
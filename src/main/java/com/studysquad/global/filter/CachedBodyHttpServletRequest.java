@@ -0,0 +1,68 @@
+package com.studysquad.global.filter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+	private final byte[] body;
+
+	public CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+		super(request);
+		this.body = body;
+	}
+
+	public byte[] getBody() {
+		return body;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() {
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+
+		return new ServletInputStream() {
+			@Override
+			public boolean isFinished() {
+				return inputStream.available() == 0;
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setReadListener(ReadListener readListener) {
+				try {
+					readListener.onDataAvailable();
+					readListener.onAllDataRead();
+				} catch (IOException e) {
+					readListener.onError(e);
+				}
+			}
+
+			@Override
+			public int read() {
+				return inputStream.read();
+			}
+		};
+	}
+
+	@Override
+	public BufferedReader getReader() {
+		Charset charset = getCharacterEncoding() != null
+			? Charset.forName(getCharacterEncoding())
+			: StandardCharsets.UTF_8;
+
+		return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+	}
+}
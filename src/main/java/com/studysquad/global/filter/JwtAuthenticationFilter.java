@@ -1,6 +1,7 @@
 package com.studysquad.global.filter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -15,43 +16,83 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.studysquad.global.security.JwtProvider;
+import com.studysquad.global.security.UserPrincipal;
+import com.studysquad.global.security.VerifiedTokenCache;
 import com.studysquad.user.service.ApiUserDetailsService;
+import com.studysquad.user.service.TokenVersionService;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+	public static final String AUTHENTICATION_TIMER = "jwt.authentication";
+	private static final String OUTCOME_ANONYMOUS = "anonymous";
+	private static final String OUTCOME_AUTHENTICATED = "authenticated";
+	private static final String OUTCOME_REJECTED = "rejected";
+
 	private final JwtProvider jwtProvider;
+	private final VerifiedTokenCache verifiedTokenCache;
 	private final ApiUserDetailsService apiUserDetailsService;
+	private final TokenVersionService tokenVersionService;
+	private final MeterRegistry meterRegistry;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
 		FilterChain filterChain) throws ServletException, IOException {
 
-		String token = jwtProvider.extractToken(request)
-			.filter(jwtProvider::isTokenValid)
-			.orElse(null);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = authenticate(request);
 
-		if (token != null) {
-			String username = jwtProvider.getUsernameFromToken(token);
+		sample.stop(Timer.builder(AUTHENTICATION_TIMER)
+			.description("JWT 인증 필터 처리 시간")
+			.tag("outcome", outcome)
+			.register(meterRegistry));
+		filterChain.doFilter(request, response);
+	}
 
-			try {
-				UserDetails userDetails = apiUserDetailsService.loadUserByUsername(username);
+	private String authenticate(HttpServletRequest request) {
+		Optional<String> token = jwtProvider.extractToken(request);
 
-				if (userDetails != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-					UsernamePasswordAuthenticationToken authenticationToken =
-						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-					authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+		if (token.isEmpty()) {
+			return OUTCOME_ANONYMOUS;
+		}
+
+		Claims claims = token.flatMap(verifiedTokenCache::parse).orElse(null);
+
+		if (claims == null) {
+			return OUTCOME_REJECTED;
+		}
+		try {
+			UserDetails userDetails = loadUserDetails(claims);
 
-					SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-				}
-			} catch (AuthenticationException e) {
-				filterChain.doFilter(request, response);
-				return;
+			if (userDetails == null) {
+				return OUTCOME_REJECTED;
 			}
+			if (SecurityContextHolder.getContext().getAuthentication() == null) {
+				UsernamePasswordAuthenticationToken authenticationToken =
+					new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+				authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
+				SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+			}
+			return OUTCOME_AUTHENTICATED;
+		} catch (AuthenticationException e) {
+			return OUTCOME_REJECTED;
 		}
-		filterChain.doFilter(request, response);
+	}
+
+	private UserDetails loadUserDetails(Claims claims) {
+		Optional<UserPrincipal> principal = jwtProvider.getPrincipal(claims);
+
+		if (principal.isPresent()) {
+			return principal
+				.filter(tokenVersionService::isCurrentVersion)
+				.orElse(null);
+		}
+		return apiUserDetailsService.loadUserByUsername(claims.getSubject());
 	}
 }
@@ -0,0 +1,122 @@
+package com.studysquad.global.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studysquad.global.common.FailResponse;
+import com.studysquad.global.config.RateLimitProperties.Endpoint;
+import com.studysquad.global.security.RateLimiter;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final int MAX_CACHED_BODY_SIZE = 16 * 1024;
+	private static final String CLIENT_KEY = "client";
+	private static final String ACCOUNT_KEY = "account";
+	private static final String ACCOUNT_FIELD = "email";
+	private static final String TOO_MANY_REQUESTS_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요";
+	private static final String PAYLOAD_TOO_LARGE_MESSAGE = "요청 본문이 너무 큽니다";
+
+	private final RateLimiter rateLimiter;
+	private final List<Endpoint> endpoints;
+	private final ObjectMapper objectMapper;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+
+		Optional<Endpoint> endpoint = findEndpoint(request);
+
+		if (endpoint.isEmpty()) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		String path = endpoint.get().getPath();
+
+		if (endpoint.get().getClient() != null
+			&& !rateLimiter.tryAcquire(path, CLIENT_KEY, request.getRemoteAddr(), endpoint.get().getClient())) {
+			reject(response, HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_REQUESTS_MESSAGE);
+			return;
+		}
+		if (endpoint.get().getAccount() == null || !isJson(request)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		if (request.getContentLengthLong() > MAX_CACHED_BODY_SIZE) {
+			reject(response, HttpStatus.PAYLOAD_TOO_LARGE, PAYLOAD_TOO_LARGE_MESSAGE);
+			return;
+		}
+		byte[] body = request.getInputStream().readNBytes(MAX_CACHED_BODY_SIZE + 1);
+
+		if (body.length > MAX_CACHED_BODY_SIZE) {
+			reject(response, HttpStatus.PAYLOAD_TOO_LARGE, PAYLOAD_TOO_LARGE_MESSAGE);
+			return;
+		}
+		CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, body);
+		Optional<String> account = extractAccount(cachedRequest);
+
+		if (account.isPresent()
+			&& !rateLimiter.tryAcquire(path, ACCOUNT_KEY, account.get(), endpoint.get().getAccount())) {
+			reject(response, HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_REQUESTS_MESSAGE);
+			return;
+		}
+		filterChain.doFilter(cachedRequest, response);
+	}
+
+	private Optional<Endpoint> findEndpoint(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+
+		return endpoints.stream()
+			.filter(endpoint -> endpoint.getClient() != null || endpoint.getAccount() != null)
+			.filter(endpoint -> pathMatcher.match(endpoint.getPath(), path))
+			.findFirst();
+	}
+
+	private boolean isJson(HttpServletRequest request) {
+		String contentType = request.getContentType();
+
+		return contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE);
+	}
+
+	private Optional<String> extractAccount(CachedBodyHttpServletRequest request) {
+		try {
+			JsonNode account = objectMapper.readTree(request.getBody()).path(ACCOUNT_FIELD);
+
+			return account.isTextual()
+				? Optional.of(account.asText().trim().toLowerCase(Locale.ROOT))
+				: Optional.empty();
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+	}
+
+	private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+		FailResponse error = FailResponse.builder()
+			.status(status.value())
+			.message(message)
+			.build();
+
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setStatus(status.value());
+		response.getWriter().write(objectMapper.writeValueAsString(error));
+	}
+}
@@ -0,0 +1,48 @@
+package com.studysquad.global.query;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+
+@Getter
+public class QueryStatistics {
+
+	private final String handler;
+	private int statementCount;
+	private long rowCount;
+	private long elapsedNanos;
+	private final Map<String, Integer> statementShapes = new HashMap<>();
+
+	public QueryStatistics(String handler) {
+		this.handler = handler;
+	}
+
+	public void recordStatement(String sql, long elapsedNanos) {
+		this.statementCount++;
+		this.elapsedNanos += elapsedNanos;
+		this.statementShapes.merge(toShape(sql), 1, Integer::sum);
+	}
+
+	public void addRows(long rows) {
+		this.rowCount += rows;
+	}
+
+	public Duration getElapsed() {
+		return Duration.ofNanos(elapsedNanos);
+	}
+
+	public List<String> getRepeatedStatements(int threshold) {
+		return statementShapes.entrySet().stream()
+			.filter(entry -> entry.getValue() >= threshold)
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toList());
+	}
+
+	private String toShape(String sql) {
+		return sql.replaceAll("\\s+", " ").trim();
+	}
+}
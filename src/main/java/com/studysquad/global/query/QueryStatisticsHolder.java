@@ -0,0 +1,26 @@
+package com.studysquad.global.query;
+
+import java.util.Optional;
+
+public final class QueryStatisticsHolder {
+
+	private static final ThreadLocal<QueryStatistics> STATISTICS = new ThreadLocal<>();
+
+	private QueryStatisticsHolder() {
+	}
+
+	public static QueryStatistics start(String handler) {
+		QueryStatistics statistics = new QueryStatistics(handler);
+
+		STATISTICS.set(statistics);
+		return statistics;
+	}
+
+	public static Optional<QueryStatistics> current() {
+		return Optional.ofNullable(STATISTICS.get());
+	}
+
+	public static void clear() {
+		STATISTICS.remove();
+	}
+}
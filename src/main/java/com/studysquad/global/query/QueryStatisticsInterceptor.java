@@ -0,0 +1,99 @@
+package com.studysquad.global.query;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class QueryStatisticsInterceptor implements AsyncHandlerInterceptor {
+
+	public static final String STATISTICS_ATTRIBUTE = QueryStatistics.class.getName();
+
+	private static final String HANDLER_TAG = "handler";
+	private static final String REASON_TAG = "reason";
+
+	private final MeterRegistry meterRegistry;
+	private final int statementThreshold;
+	private final int repeatThreshold;
+
+	public QueryStatisticsInterceptor(MeterRegistry meterRegistry, int statementThreshold, int repeatThreshold) {
+		this.meterRegistry = meterRegistry;
+		this.statementThreshold = statementThreshold;
+		this.repeatThreshold = repeatThreshold;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (handler instanceof HandlerMethod) {
+			request.setAttribute(STATISTICS_ATTRIBUTE, QueryStatisticsHolder.start(handlerName((HandlerMethod)handler)));
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+		Exception ex) {
+		QueryStatisticsHolder.current().ifPresent(this::record);
+		QueryStatisticsHolder.clear();
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+		Object handler) {
+		QueryStatisticsHolder.current().ifPresent(this::record);
+		QueryStatisticsHolder.clear();
+	}
+
+	private void record(QueryStatistics statistics) {
+		String handler = statistics.getHandler();
+
+		DistributionSummary.builder("db.request.statements")
+			.tag(HANDLER_TAG, handler)
+			.register(meterRegistry)
+			.record(statistics.getStatementCount());
+		DistributionSummary.builder("db.request.rows")
+			.tag(HANDLER_TAG, handler)
+			.register(meterRegistry)
+			.record(statistics.getRowCount());
+		Timer.builder("db.request.time")
+			.tag(HANDLER_TAG, handler)
+			.register(meterRegistry)
+			.record(statistics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+		if (statistics.getStatementCount() > statementThreshold) {
+			flag(handler, "statements");
+			log.warn("SQL statement threshold exceeded. handler={}, statements={}, threshold={}",
+				handler, statistics.getStatementCount(), statementThreshold);
+		}
+		List<String> repeated = statistics.getRepeatedStatements(repeatThreshold);
+
+		if (!repeated.isEmpty()) {
+			flag(handler, "repeated");
+			log.warn("Repeated SQL statements detected, possible N+1. handler={}, statements={}",
+				handler, repeated);
+		}
+	}
+
+	private void flag(String handler, String reason) {
+		Counter.builder("db.request.flagged")
+			.tag(HANDLER_TAG, handler)
+			.tag(REASON_TAG, reason)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	private String handlerName(HandlerMethod handlerMethod) {
+		return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+	}
+}
@@ -0,0 +1,45 @@
+package com.studysquad.global.query;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+public class QueryStatisticsListener implements QueryExecutionListener {
+
+	private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		QueryStatisticsHolder.current()
+			.ifPresent(statistics -> startedAt.set(System.nanoTime()));
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		Long started = startedAt.get();
+
+		startedAt.remove();
+		QueryStatisticsHolder.current().ifPresent(statistics -> {
+			long elapsed = started == null ? 0L : System.nanoTime() - started;
+
+			queryInfoList.forEach(queryInfo -> statistics.recordStatement(queryInfo.getQuery(),
+				elapsed / queryInfoList.size()));
+			statistics.addRows(updatedRows(execInfo.getResult()));
+		});
+	}
+
+	private long updatedRows(Object result) {
+		if (result instanceof Integer) {
+			return Math.max((Integer)result, 0);
+		}
+		if (result instanceof int[]) {
+			return Arrays.stream((int[])result)
+				.filter(rows -> rows > 0)
+				.sum();
+		}
+		return 0L;
+	}
+}
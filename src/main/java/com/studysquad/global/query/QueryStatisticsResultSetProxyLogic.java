@@ -0,0 +1,41 @@
+package com.studysquad.global.query;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+
+public class QueryStatisticsResultSetProxyLogic implements ResultSetProxyLogic {
+
+	private static final String NEXT = "next";
+
+	private final ResultSet resultSet;
+
+	public QueryStatisticsResultSetProxyLogic(ResultSet resultSet, ConnectionInfo connectionInfo,
+		ProxyConfig proxyConfig) {
+		this.resultSet = resultSet;
+	}
+
+	@Override
+	public Object invoke(Method method, Object[] args) throws Throwable {
+		if (method.getDeclaringClass() == ProxyJdbcObject.class) {
+			return resultSet;
+		}
+		Object result;
+
+		try {
+			result = method.invoke(resultSet, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+		if (NEXT.equals(method.getName()) && Boolean.TRUE.equals(result)) {
+			QueryStatisticsHolder.current()
+				.ifPresent(statistics -> statistics.addRows(1));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,104 @@
+package com.studysquad.global.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.studysquad.global.error.exception.PasswordEncoderBusyException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+	private static final String EXECUTOR_NAME = "password-encoder";
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final Duration timeout;
+	private final Timer queueWaitTimer;
+	private final Timer encodeTimer;
+	private final Timer matchTimer;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry, int poolSize,
+		int queueCapacity, Duration timeout) {
+
+		this.delegate = delegate;
+		this.timeout = timeout;
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			new ThreadFactoryBuilder().setNameFormat(EXECUTOR_NAME + "-%d").setDaemon(true).build(),
+			new ThreadPoolExecutor.AbortPolicy());
+
+		this.queueWaitTimer = Timer.builder("password.encoder.queue.wait")
+			.register(meterRegistry);
+		this.encodeTimer = Timer.builder("password.encoder.duration")
+			.tag("operation", "encode")
+			.register(meterRegistry);
+		this.matchTimer = Timer.builder("password.encoder.duration")
+			.tag("operation", "matches")
+			.register(meterRegistry);
+
+		ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(encodeTimer, () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(matchTimer, () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	private <T> T execute(Timer timer, Callable<T> task) {
+		long submittedAt = System.nanoTime();
+		Future<T> future;
+
+		try {
+			future = executor.submit(() -> {
+				queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				return timer.recordCallable(task);
+			});
+		} catch (RejectedExecutionException e) {
+			throw new PasswordEncoderBusyException(e);
+		}
+		try {
+			return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new PasswordEncoderBusyException(e);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new PasswordEncoderBusyException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -4,12 +4,19 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
@@ -19,29 +26,40 @@ import lombok.Getter;
 public class JwtProvider {
 
 	private final Key secretKey;
+	private final JwtParser jwtParser;
 	private final Long accessTokenExpirationPeriod;
 	private final String accessHeader;
 	private final Long refreshTokenExpirationPeriod;
 	private final String refreshHeader;
+	private final boolean claimsAuthentication;
 	private static final String BEARER = "Bearer ";
+	private static final String USER_ID_CLAIM = "uid";
+	private static final String NICKNAME_CLAIM = "nickname";
+	private static final String ROLE_CLAIM = "role";
+	private static final String TOKEN_VERSION_CLAIM = "ver";
 
 	public JwtProvider(@Value("${jwt.secretKey}") String secretKey,
 		@Value("${jwt.access.expiration}") Long accessTokenExpirationPeriod,
 		@Value("${jwt.access.header}") String accessHeader,
 		@Value("${jwt.refresh.expiration}") Long refreshTokenExpirationPeriod,
-		@Value("${jwt.refresh.header}") String refreshHeader) {
+		@Value("${jwt.refresh.header}") String refreshHeader,
+		@Value("${jwt.access.claims-authentication:true}") boolean claimsAuthentication) {
 
 		this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+		this.jwtParser = Jwts.parserBuilder()
+			.setSigningKey(this.secretKey)
+			.build();
 		this.accessTokenExpirationPeriod = accessTokenExpirationPeriod;
 		this.accessHeader = accessHeader;
 		this.refreshTokenExpirationPeriod = refreshTokenExpirationPeriod;
 		this.refreshHeader = refreshHeader;
+		this.claimsAuthentication = claimsAuthentication;
 	}
 
-	public Token createToken(String email) {
+	public Token createToken(User user) {
 		AccessToken accessToken = AccessToken.builder()
 			.header(accessHeader)
-			.data(createAccessToken(email))
+			.data(createAccessToken(user))
 			.build();
 		RefreshToken refreshToken = RefreshToken.builder()
 			.header(refreshHeader)
@@ -60,31 +78,45 @@ public class JwtProvider {
 			.map(token -> token.replace(BEARER, ""));
 	}
 
-	public String getUsernameFromToken(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(secretKey)
-			.build()
-			.parseClaimsJws(token)
-			.getBody()
-			.getSubject();
+	public Optional<Claims> parse(String token) {
+		try {
+			return Optional.of(jwtParser.parseClaimsJws(token).getBody());
+		} catch (JwtException | IllegalArgumentException e) {
+			return Optional.empty();
+		}
 	}
 
-	public boolean isTokenValid(String token) {
-		try {
-			Jwts.parserBuilder()
-				.setSigningKey(secretKey)
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
-			return true;
-		} catch (Exception e) {
-			return false;
+	public Optional<UserPrincipal> getPrincipal(Claims claims) {
+		if (!claimsAuthentication) {
+			return Optional.empty();
+		}
+		return toPrincipal(claims);
+	}
+
+	private Optional<UserPrincipal> toPrincipal(Claims claims) {
+		Long userId = claims.get(USER_ID_CLAIM, Long.class);
+		String role = claims.get(ROLE_CLAIM, String.class);
+		Long tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Long.class);
+
+		if (userId == null || role == null || tokenVersion == null) {
+			return Optional.empty();
 		}
+		return Optional.of(UserPrincipal.builder()
+			.id(userId)
+			.email(claims.getSubject())
+			.nickname(claims.get(NICKNAME_CLAIM, String.class))
+			.role(Role.valueOf(role))
+			.tokenVersion(tokenVersion)
+			.build());
 	}
 
-	private String createAccessToken(String email) {
+	private String createAccessToken(User user) {
 		return Jwts.builder()
-			.setSubject(email)
+			.setSubject(user.getEmail())
+			.claim(USER_ID_CLAIM, user.getId())
+			.claim(NICKNAME_CLAIM, user.getNickname())
+			.claim(ROLE_CLAIM, user.getRole().name())
+			.claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
 			.setExpiration(expireTime(accessTokenExpirationPeriod))
 			.signWith(secretKey)
 			.compact();
@@ -92,6 +124,7 @@ public class JwtProvider {
 
 	private String createRefreshToken() {
 		return Jwts.builder()
+			.setId(UUID.randomUUID().toString())
 			.setExpiration(expireTime(refreshTokenExpirationPeriod))
 			.signWith(secretKey)
 			.compact();
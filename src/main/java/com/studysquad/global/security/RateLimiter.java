@@ -0,0 +1,51 @@
+package com.studysquad.global.security;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.studysquad.global.config.RateLimitProperties.Bandwidth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class RateLimiter {
+
+	private static final int CONCURRENCY_LEVEL = 16;
+
+	private final Cache<String, TokenBucket> buckets;
+	private final MeterRegistry meterRegistry;
+
+	public RateLimiter(MeterRegistry meterRegistry, long maximumKeys, Duration idleTimeout) {
+		this.meterRegistry = meterRegistry;
+		this.buckets = CacheBuilder.newBuilder()
+			.concurrencyLevel(CONCURRENCY_LEVEL)
+			.maximumSize(maximumKeys)
+			.expireAfterAccess(idleTimeout)
+			.build();
+	}
+
+	public boolean tryAcquire(String endpoint, String keyType, String key, Bandwidth bandwidth) {
+		boolean allowed = getBucket(endpoint + "|" + keyType + "|" + key, bandwidth).tryConsume();
+
+		meterRegistry.counter("rate.limit.requests",
+				"endpoint", endpoint,
+				"key", keyType,
+				"result", allowed ? "allowed" : "rejected")
+			.increment();
+
+		return allowed;
+	}
+
+	public void reset() {
+		buckets.invalidateAll();
+	}
+
+	private TokenBucket getBucket(String key, Bandwidth bandwidth) {
+		try {
+			return buckets.get(key, () -> new TokenBucket(bandwidth.getCapacity(), bandwidth.getPeriod()));
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.studysquad.global.security;
+
+import java.time.Duration;
+
+public class TokenBucket {
+
+	private final long capacity;
+	private final double tokensPerNano;
+	private double tokens;
+	private long lastRefillAt;
+
+	public TokenBucket(long capacity, Duration period) {
+		this.capacity = capacity;
+		this.tokensPerNano = (double)capacity / period.toNanos();
+		this.tokens = capacity;
+		this.lastRefillAt = System.nanoTime();
+	}
+
+	public synchronized boolean tryConsume() {
+		refill();
+
+		if (tokens < 1) {
+			return false;
+		}
+		tokens--;
+		return true;
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+
+		tokens = Math.min(capacity, tokens + (now - lastRefillAt) * tokensPerNano);
+		lastRefillAt = now;
+	}
+}
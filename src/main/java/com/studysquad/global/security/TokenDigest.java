@@ -0,0 +1,17 @@
+package com.studysquad.global.security;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.hash.Hashing;
+
+public final class TokenDigest {
+
+	private TokenDigest() {
+	}
+
+	public static String sha256(String token) {
+		return Hashing.sha256()
+			.hashString(token, StandardCharsets.UTF_8)
+			.toString();
+	}
+}
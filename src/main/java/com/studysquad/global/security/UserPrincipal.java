@@ -0,0 +1,77 @@
+package com.studysquad.global.security;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class UserPrincipal implements UserDetails {
+
+	private final Long id;
+	private final String email;
+	private final String nickname;
+	private final String password;
+	private final Role role;
+	private final long tokenVersion;
+
+	@Builder
+	public UserPrincipal(Long id, String email, String nickname, String password, Role role,
+		long tokenVersion) {
+		this.id = id;
+		this.email = email;
+		this.nickname = nickname;
+		this.password = password;
+		this.role = role;
+		this.tokenVersion = tokenVersion;
+	}
+
+	public static UserPrincipal from(User user) {
+		return UserPrincipal.builder()
+			.id(user.getId())
+			.email(user.getEmail())
+			.nickname(user.getNickname())
+			.password(user.getPassword())
+			.role(user.getRole())
+			.tokenVersion(user.getTokenVersion())
+			.build();
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return Collections.singletonList(new SimpleGrantedAuthority(role.getKey()));
+	}
+
+	@Override
+	public String getUsername() {
+		return email;
+	}
+
+	@Override
+	public boolean isAccountNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isAccountNonLocked() {
+		return true;
+	}
+
+	@Override
+	public boolean isCredentialsNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+}
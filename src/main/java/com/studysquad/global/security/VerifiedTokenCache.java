@@ -0,0 +1,66 @@
+package com.studysquad.global.security;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+
+@Component
+public class VerifiedTokenCache {
+
+	private static final String CACHE_NAME = "jwt.verified-token";
+
+	private final JwtProvider jwtProvider;
+	private final Cache<String, Claims> verifiedTokens;
+	private final boolean enabled;
+
+	public VerifiedTokenCache(JwtProvider jwtProvider, MeterRegistry meterRegistry,
+		@Value("${jwt.cache.enabled:true}") boolean enabled,
+		@Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+
+		this.jwtProvider = jwtProvider;
+		this.enabled = enabled;
+		this.verifiedTokens = CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofMillis(jwtProvider.getAccessTokenExpirationPeriod()))
+			.recordStats()
+			.build();
+
+		GuavaCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+	}
+
+	public Optional<Claims> parse(String token) {
+		if (!enabled) {
+			return jwtProvider.parse(token);
+		}
+		String digest = TokenDigest.sha256(token);
+		Claims cached = verifiedTokens.getIfPresent(digest);
+
+		if (cached != null) {
+			if (isExpired(cached)) {
+				verifiedTokens.invalidate(digest);
+				return Optional.empty();
+			}
+			return Optional.of(cached);
+		}
+		Optional<Claims> claims = jwtProvider.parse(token);
+
+		claims.filter(verified -> verified.getExpiration() != null)
+			.ifPresent(verified -> verifiedTokens.put(digest, verified));
+
+		return claims;
+	}
+
+	private boolean isExpired(Claims claims) {
+		return claims.getExpiration().before(new Date());
+	}
+}
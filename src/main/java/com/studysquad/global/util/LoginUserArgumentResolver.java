@@ -9,11 +9,19 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import com.studysquad.global.error.exception.InvalidLoginUserException;
+import com.studysquad.global.error.exception.UserNotFoundException;
 import com.studysquad.global.security.Login;
-import com.studysquad.user.domain.Role;
+import com.studysquad.global.security.UserPrincipal;
 import com.studysquad.user.dto.LoginUser;
+import com.studysquad.user.repository.UserRepository;
 
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
 public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final UserRepository userRepository;
+
 	@Override
 	public boolean supportsParameter(MethodParameter parameter) {
 		boolean hasLoginAnnotation = parameter.hasParameterAnnotation(Login.class);
@@ -30,10 +38,11 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
 		if (authentication == null) {
 			throw new InvalidLoginUserException();
 		}
-
-		return LoginUser.builder()
-			.email(authentication.getName())
-			.role(Role.USER)
-			.build();
+		if (authentication.getPrincipal() instanceof UserPrincipal) {
+			return LoginUser.from((UserPrincipal)authentication.getPrincipal());
+		}
+		return userRepository.findByEmail(authentication.getName())
+			.map(LoginUser::from)
+			.orElseThrow(UserNotFoundException::new);
 	}
 }
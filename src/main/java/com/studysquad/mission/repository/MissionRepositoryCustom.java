@@ -12,8 +12,6 @@ public interface MissionRepositoryCustom {
 
 	List<MissionResponseDto> getMissions(Long squadId);
 
-	Optional<Mission> getProcessMissionEntity(Long squadId);
-
 	Optional<Long> hasSquadBoardByMissionId(Long missionId);
 
 	Optional<Mission> getNextMission(Long squadId, int sequence);
@@ -52,15 +52,6 @@ public class MissionRepositoryImpl implements MissionRepositoryCustom {
 			.fetch();
 	}
 
-	@Override
-	public Optional<Mission> getProcessMissionEntity(Long squadId) {
-		Mission fetchOne = queryFactory.selectFrom(mission)
-			.where(mission.squad.id.eq(squadId).and(mission.missionStatus.eq(MissionStatus.PROCESS)))
-			.fetchOne();
-
-		return Optional.ofNullable(fetchOne);
-	}
-
 	@Override
 	public Optional<Long> hasSquadBoardByMissionId(Long missionId) {
 		Long count = queryFactory.select(mission.id.count())
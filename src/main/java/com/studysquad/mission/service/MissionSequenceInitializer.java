@@ -0,0 +1,51 @@
+package com.studysquad.mission.service;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jpa.mission-sequence.enabled", havingValue = "true")
+public class MissionSequenceInitializer implements SmartInitializingSingleton {
+
+	private static final long ALLOCATION_SIZE = 50;
+	private static final String H2 = "H2";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		Long maxId = jdbcTemplate.queryForObject("select coalesce(max(mission_id), 0) from mission", Long.class);
+		long nextValue = maxId + ALLOCATION_SIZE + 1;
+
+		if (isH2()) {
+			seedSequence(nextValue);
+			return;
+		}
+		seedSequenceTable(nextValue);
+	}
+
+	private boolean isH2() {
+		String productName = jdbcTemplate.execute(
+			(ConnectionCallback<String>)connection -> connection.getMetaData().getDatabaseProductName());
+
+		return H2.equalsIgnoreCase(productName);
+	}
+
+	private void seedSequence(long nextValue) {
+		jdbcTemplate.execute("create sequence if not exists mission_seq start with 1 increment by " + ALLOCATION_SIZE);
+		jdbcTemplate.execute("alter sequence mission_seq restart with " + nextValue);
+	}
+
+	private void seedSequenceTable(long nextValue) {
+		jdbcTemplate.execute("create table if not exists mission_seq (next_val bigint)");
+		jdbcTemplate.update("insert into mission_seq (next_val) select ? from dual "
+			+ "where not exists (select * from mission_seq)", nextValue);
+		jdbcTemplate.update("update mission_seq set next_val = greatest(next_val, ?)", nextValue);
+	}
+}
@@ -3,17 +3,15 @@ package com.studysquad.mission.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.studysquad.board.repository.BoardRepository;
+import com.studysquad.board.service.BoardChangedEvent;
 import com.studysquad.global.error.exception.MissionNotFoundException;
 import com.studysquad.global.error.exception.NotFoundProcessMission;
-import com.studysquad.global.error.exception.NotMentorException;
-import com.studysquad.global.error.exception.NotSquadUserException;
 import com.studysquad.global.error.exception.ProcessMissionException;
-import com.studysquad.global.error.exception.SquadNotFoundException;
-import com.studysquad.global.error.exception.SquadNotProgressException;
-import com.studysquad.global.error.exception.UserNotFoundException;
 import com.studysquad.mission.domain.Mission;
 import com.studysquad.mission.domain.MissionStatus;
 import com.studysquad.mission.dto.MissionCreateDto;
@@ -21,11 +19,11 @@ import com.studysquad.mission.dto.MissionEditDto;
 import com.studysquad.mission.dto.MissionResponseDto;
 import com.studysquad.mission.repository.MissionRepository;
 import com.studysquad.squad.domain.Squad;
-import com.studysquad.squad.domain.SquadStatus;
 import com.studysquad.squad.repository.SquadRepository;
-import com.studysquad.user.domain.User;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadActivityType;
+import com.studysquad.squad.service.SquadAuthorizer;
 import com.studysquad.user.dto.LoginUser;
-import com.studysquad.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,55 +33,37 @@ import lombok.RequiredArgsConstructor;
 public class MissionService {
 
 	private final MissionRepository missionRepository;
-	private final UserRepository userRepository;
 	private final SquadRepository squadRepository;
+	private final BoardRepository boardRepository;
+	private final SquadAuthorizer squadAuthorizer;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public MissionResponseDto getProcessMission(Long squadId, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
+		squadAuthorizer.requireMember(squadId, loginUser.getId());
 
-		validateUserIsMemberOfSquad(squad, user);
-
-		return missionRepository.getProcessMission(squad.getId())
+		return missionRepository.getProcessMission(squadId)
 			.orElseThrow(NotFoundProcessMission::new);
 	}
 
 	public List<MissionResponseDto> getMissions(Long squadId, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
-
-		validateUserIsMemberOfSquad(squad, user);
+		squadAuthorizer.requireMember(squadId, loginUser.getId());
 
-		return missionRepository.getMissions(squad.getId());
+		return missionRepository.getMissions(squadId);
 	}
 
 	@Transactional
 	public void createMission(Long squadId, List<MissionCreateDto> createRequest, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
+		squadAuthorizer.requireProcessMentor(squadId, loginUser.getId());
 
-		validateProcessSquad(squad);
-		validateMentorOfSquad(squad.getId(), user.getId());
-
-		List<Mission> missions = createMissions(squad, createRequest);
+		List<Mission> missions = createMissions(squadRepository.getReferenceById(squadId), createRequest);
 		missionRepository.saveAll(missions);
+
+		eventPublisher.publishEvent(new SquadActivityEvent(squadId, SquadActivityType.MISSION_CREATED, null));
 	}
 
 	@Transactional
 	public void editMission(Long squadId, Long missionId, MissionEditDto editRequest, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
-
-		validateProcessSquad(squad);
-		validateMentorOfSquad(squad.getId(), user.getId());
+		squadAuthorizer.requireProcessMentor(squadId, loginUser.getId());
 
 		Mission mission = missionRepository.findById(missionId)
 			.orElseThrow(MissionNotFoundException::new);
@@ -92,24 +72,10 @@ public class MissionService {
 			throw new ProcessMissionException();
 		}
 		mission.edit(editRequest);
-	}
 
-	private void validateUserIsMemberOfSquad(Squad squad, User user) {
-		if (!squadRepository.isUserOfSquad(squad.getId(), user.getId())) {
-			throw new NotSquadUserException();
-		}
-	}
-
-	private void validateProcessSquad(Squad squad) {
-		if (!squad.getSquadStatus().equals(SquadStatus.PROCESS)) {
-			throw new SquadNotProgressException();
-		}
-	}
-
-	private void validateMentorOfSquad(Long squadId, Long userId) {
-		if (!squadRepository.isMentorOfSquad(squadId, userId)) {
-			throw new NotMentorException();
-		}
+		boardRepository.findIdsByMissionId(mission.getId())
+			.forEach(boardId -> eventPublisher.publishEvent(new BoardChangedEvent(boardId)));
+		eventPublisher.publishEvent(new SquadActivityEvent(squadId, SquadActivityType.MISSION_EDITED, mission.getId()));
 	}
 
 	private List<Mission> createMissions(Squad squad, List<MissionCreateDto> createRequest) {
@@ -0,0 +1,57 @@
+package com.studysquad.session.domain;
+
+import static javax.persistence.FetchType.*;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import com.studysquad.user.domain.User;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Table(name = "user_session", indexes = {
+	@Index(name = "uk_user_session_token_digest", columnList = "token_digest", unique = true),
+	@Index(name = "idx_user_session_user_id", columnList = "user_id"),
+	@Index(name = "idx_user_session_expire_at", columnList = "expire_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserSession {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "user_session_id")
+	private Long id;
+
+	@ManyToOne(fetch = LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(length = 64, nullable = false)
+	private String tokenDigest;
+
+	@Column(nullable = false)
+	private LocalDateTime expireAt;
+	private String device;
+
+	@Builder
+	public UserSession(User user, String tokenDigest, LocalDateTime expireAt, String device) {
+		this.user = user;
+		this.tokenDigest = tokenDigest;
+		this.expireAt = expireAt;
+		this.device = device;
+	}
+}
@@ -0,0 +1,16 @@
+package com.studysquad.session.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class RefreshTokenSession {
+	private final Long userId;
+	private final String device;
+
+	@Builder
+	public RefreshTokenSession(Long userId, String device) {
+		this.userId = userId;
+		this.device = device;
+	}
+}
@@ -0,0 +1,99 @@
+package com.studysquad.session.repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.studysquad.global.security.TokenDigest;
+import com.studysquad.session.dto.RefreshTokenSession;
+import com.studysquad.user.domain.User;
+import com.studysquad.user.repository.UserRepository;
+
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+	private final Cache<String, RefreshTokenSession> sessions;
+	private final Map<Long, Set<String>> userTokenDigests = new ConcurrentHashMap<>();
+	private final UserRepository userRepository;
+
+	public InMemoryRefreshTokenStore(UserRepository userRepository,
+		@Value("${jwt.refresh.expiration}") Long refreshTokenExpirationPeriod,
+		@Value("${refresh-token.memory.maximum-size:100000}") long maximumSize) {
+
+		this.userRepository = userRepository;
+		this.sessions = CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofMillis(refreshTokenExpirationPeriod))
+			.removalListener(this::onRemoval)
+			.build();
+	}
+
+	@Override
+	public void save(String refreshToken, RefreshTokenSession session) {
+		String tokenDigest = TokenDigest.sha256(refreshToken);
+
+		userTokenDigests.compute(session.getUserId(), (userId, tokenDigests) -> {
+			Set<String> result = tokenDigests != null ? tokenDigests : ConcurrentHashMap.newKeySet();
+			result.add(tokenDigest);
+			return result;
+		});
+		sessions.put(tokenDigest, session);
+	}
+
+	@Override
+	public Optional<RefreshTokenSession> find(String refreshToken) {
+		return Optional.ofNullable(sessions.getIfPresent(TokenDigest.sha256(refreshToken)));
+	}
+
+	@Override
+	public Optional<User> findUser(String refreshToken) {
+		return find(refreshToken)
+			.flatMap(session -> userRepository.findById(session.getUserId()));
+	}
+
+	@Override
+	public boolean rotate(String refreshToken, String newRefreshToken) {
+		RefreshTokenSession session = sessions.asMap().remove(TokenDigest.sha256(refreshToken));
+
+		if (session == null) {
+			return false;
+		}
+		save(newRefreshToken, session);
+		return true;
+	}
+
+	@Override
+	public void deleteAll(Long userId) {
+		Set<String> tokenDigests = userTokenDigests.remove(userId);
+
+		if (tokenDigests != null) {
+			sessions.invalidateAll(tokenDigests);
+		}
+	}
+
+	@Override
+	public void deleteExpired() {
+		sessions.cleanUp();
+	}
+
+	private void onRemoval(RemovalNotification<String, RefreshTokenSession> notification) {
+		if (notification.getCause() == RemovalCause.REPLACED || notification.getValue() == null) {
+			return;
+		}
+		userTokenDigests.computeIfPresent(notification.getValue().getUserId(), (userId, tokenDigests) -> {
+			tokenDigests.remove(notification.getKey());
+			return tokenDigests.isEmpty() ? null : tokenDigests;
+		});
+	}
+}
@@ -0,0 +1,95 @@
+package com.studysquad.session.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.studysquad.global.security.TokenDigest;
+import com.studysquad.session.domain.UserSession;
+import com.studysquad.session.dto.RefreshTokenSession;
+import com.studysquad.user.domain.User;
+import com.studysquad.user.repository.UserRepository;
+
+@Component
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+	private static final int MAX_DEVICE_LENGTH = 255;
+
+	private final UserSessionRepository userSessionRepository;
+	private final UserRepository userRepository;
+	private final Duration refreshTokenExpirationPeriod;
+
+	public JpaRefreshTokenStore(UserSessionRepository userSessionRepository, UserRepository userRepository,
+		@Value("${jwt.refresh.expiration}") Long refreshTokenExpirationPeriod) {
+		this.userSessionRepository = userSessionRepository;
+		this.userRepository = userRepository;
+		this.refreshTokenExpirationPeriod = Duration.ofMillis(refreshTokenExpirationPeriod);
+	}
+
+	@Override
+	@Transactional
+	public void save(String refreshToken, RefreshTokenSession session) {
+		userSessionRepository.save(UserSession.builder()
+			.user(userRepository.getReferenceById(session.getUserId()))
+			.tokenDigest(TokenDigest.sha256(refreshToken))
+			.expireAt(expireAt())
+			.device(truncate(session.getDevice()))
+			.build());
+	}
+
+	@Override
+	public Optional<RefreshTokenSession> find(String refreshToken) {
+		return userSessionRepository.findByTokenDigest(TokenDigest.sha256(refreshToken))
+			.filter(session -> session.getExpireAt().isAfter(LocalDateTime.now()))
+			.map(session -> RefreshTokenSession.builder()
+				.userId(session.getUser().getId())
+				.device(session.getDevice())
+				.build());
+	}
+
+	@Override
+	public Optional<User> findUser(String refreshToken) {
+		return userSessionRepository.findWithUserByTokenDigest(TokenDigest.sha256(refreshToken))
+			.filter(session -> session.getExpireAt().isAfter(LocalDateTime.now()))
+			.map(UserSession::getUser);
+	}
+
+	@Override
+	@Transactional
+	public boolean rotate(String refreshToken, String newRefreshToken) {
+		int updated = userSessionRepository.rotate(TokenDigest.sha256(refreshToken),
+			TokenDigest.sha256(newRefreshToken), expireAt());
+
+		return updated == 1;
+	}
+
+	@Override
+	@Transactional
+	public void deleteAll(Long userId) {
+		userSessionRepository.deleteByUserId(userId);
+	}
+
+	@Override
+	@Transactional
+	public void deleteExpired() {
+		userSessionRepository.deleteExpired(LocalDateTime.now());
+	}
+
+	private LocalDateTime expireAt() {
+		return LocalDateTime.now().plus(refreshTokenExpirationPeriod);
+	}
+
+	private String truncate(String device) {
+		if (device == null || device.length() <= MAX_DEVICE_LENGTH) {
+			return device;
+		}
+		return device.substring(0, MAX_DEVICE_LENGTH);
+	}
+}
@@ -0,0 +1,21 @@
+package com.studysquad.session.repository;
+
+import java.util.Optional;
+
+import com.studysquad.session.dto.RefreshTokenSession;
+import com.studysquad.user.domain.User;
+
+public interface RefreshTokenStore {
+
+	void save(String refreshToken, RefreshTokenSession session);
+
+	Optional<RefreshTokenSession> find(String refreshToken);
+
+	Optional<User> findUser(String refreshToken);
+
+	boolean rotate(String refreshToken, String newRefreshToken);
+
+	void deleteAll(Long userId);
+
+	void deleteExpired();
+}
@@ -0,0 +1,31 @@
+package com.studysquad.session.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.studysquad.session.domain.UserSession;
+
+public interface UserSessionRepository extends JpaRepository<UserSession, Long> {
+
+	Optional<UserSession> findByTokenDigest(String tokenDigest);
+
+	@Query("select s from UserSession s join fetch s.user where s.tokenDigest = :tokenDigest")
+	Optional<UserSession> findWithUserByTokenDigest(String tokenDigest);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update UserSession s set s.tokenDigest = :newTokenDigest, s.expireAt = :expireAt"
+		+ " where s.tokenDigest = :tokenDigest")
+	int rotate(String tokenDigest, String newTokenDigest, LocalDateTime expireAt);
+
+	@Modifying(clearAutomatically = true)
+	@Query("delete from UserSession s where s.user.id = :userId")
+	int deleteByUserId(Long userId);
+
+	@Modifying(clearAutomatically = true)
+	@Query("delete from UserSession s where s.expireAt < :now")
+	int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,20 @@
+package com.studysquad.session.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.studysquad.session.repository.RefreshTokenStore;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+	private final RefreshTokenStore refreshTokenStore;
+
+	@Scheduled(cron = "${session.purge.cron:0 0 4 * * *}")
+	public void purgeExpiredSessions() {
+		refreshTokenStore.deleteExpired();
+	}
+}
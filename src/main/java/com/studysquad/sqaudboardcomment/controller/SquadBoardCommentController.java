@@ -11,9 +11,11 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.global.common.SuccessResponse;
 import com.studysquad.global.security.Login;
 import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentCreateDto;
@@ -44,6 +46,23 @@ public class SquadBoardCommentController {
 			.build();
 	}
 
+	@GetMapping("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomments/cursor")
+	@ResponseStatus(HttpStatus.OK)
+	public SuccessResponse<CursorResponse<SquadBoardCommentResponseDto>> getSquadBoardCommentsByCursor(
+		@Login LoginUser loginUser,
+		@PathVariable Long squadId,
+		@PathVariable Long squadBoardId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+
+		return SuccessResponse.<CursorResponse<SquadBoardCommentResponseDto>>builder()
+			.status(HttpStatus.OK.value())
+			.message("스쿼드 게시글 댓글 커서 조회 성공")
+			.data(squadBoardCommentService.getSquadBoardCommentsByCursor(loginUser, squadId, squadBoardId, cursor,
+				size))
+			.build();
+	}
+
 	@PostMapping("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomment")
 	@ResponseStatus(HttpStatus.CREATED)
 	public SuccessResponse<Void> createSquadBoardComment(@RequestBody @Valid SquadBoardCommentCreateDto createDto,
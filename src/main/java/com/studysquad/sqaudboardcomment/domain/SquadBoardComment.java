@@ -9,8 +9,10 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 
 import com.studysquad.squadboard.domain.SquadBoard;
 import com.studysquad.user.domain.User;
@@ -21,6 +23,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_squad_board_comment_board_create_at",
+	columnList = "squad_board_id, create_at, squad_board_comment_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SquadBoardComment {
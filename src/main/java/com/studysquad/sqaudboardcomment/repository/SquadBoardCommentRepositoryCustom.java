@@ -2,6 +2,8 @@ package com.studysquad.sqaudboardcomment.repository;
 
 import java.util.List;
 
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.common.KeysetCursor;
 import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentResponseDto;
 
 public interface SquadBoardCommentRepositoryCustom {
@@ -9,4 +11,7 @@ public interface SquadBoardCommentRepositoryCustom {
 	Boolean isUserOfSquadBoardComment(Long userId, Long squadBoardId, Long commentId);
 
 	List<SquadBoardCommentResponseDto> getSquadBoardComments(Long squadBoardId);
+
+	CursorResponse<SquadBoardCommentResponseDto> getSquadBoardComments(Long squadId, Long squadBoardId,
+		KeysetCursor cursor, int size);
 }
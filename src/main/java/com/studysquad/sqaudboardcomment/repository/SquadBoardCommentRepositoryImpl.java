@@ -1,7 +1,6 @@
 package com.studysquad.sqaudboardcomment.repository;
 
 import static com.studysquad.sqaudboardcomment.domain.QSquadBoardComment.*;
-import static com.studysquad.squadboard.domain.QSquadBoard.*;
 import static com.studysquad.user.domain.QUser.*;
 
 import java.util.List;
@@ -9,7 +8,10 @@ import java.util.List;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.common.KeysetCursor;
 import com.studysquad.sqaudboardcomment.dto.QSquadBoardCommentResponseDto;
 import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentResponseDto;
 
@@ -37,6 +39,27 @@ public class SquadBoardCommentRepositoryImpl implements SquadBoardCommentReposit
 
 	@Override
 	public List<SquadBoardCommentResponseDto> getSquadBoardComments(Long squadBoardId) {
+		return selectFromSquadBoardCommentResponse()
+			.where(squadBoardComment.squadBoard.id.eq(squadBoardId))
+			.fetch();
+	}
+
+	@Override
+	public CursorResponse<SquadBoardCommentResponseDto> getSquadBoardComments(Long squadId, Long squadBoardId,
+		KeysetCursor cursor, int size) {
+		List<SquadBoardCommentResponseDto> fetch = selectFromSquadBoardCommentResponse()
+			.where(squadBoardComment.squadBoard.id.eq(squadBoardId),
+				squadBoardComment.squadBoard.squad.id.eq(squadId),
+				KeysetCursor.after(cursor, squadBoardComment.createAt, squadBoardComment.id))
+			.orderBy(squadBoardComment.createAt.asc(), squadBoardComment.id.asc())
+			.limit(size + 1)
+			.fetch();
+
+		return CursorResponse.of(fetch, size,
+			comment -> KeysetCursor.encode(comment.getCreateAt(), comment.getSquadBoardCommentId()));
+	}
+
+	private JPAQuery<SquadBoardCommentResponseDto> selectFromSquadBoardCommentResponse() {
 		return queryFactory.select(new QSquadBoardCommentResponseDto(
 				squadBoardComment.id,
 				squadBoardComment.squadBoardCommentContent,
@@ -44,9 +67,6 @@ public class SquadBoardCommentRepositoryImpl implements SquadBoardCommentReposit
 				squadBoardComment.createAt
 			))
 			.from(squadBoardComment)
-			.join(user).on(squadBoardComment.user.id.eq(user.id))
-			.join(squadBoard).on(squadBoardComment.squadBoard.id.eq(squadBoard.id))
-			.where(squadBoardComment.squadBoard.id.eq(squadBoardId))
-			.fetch();
+			.join(user).on(squadBoardComment.user.id.eq(user.id));
 	}
 }
@@ -2,22 +2,25 @@ package com.studysquad.sqaudboardcomment.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.common.KeysetCursor;
 import com.studysquad.global.error.exception.NotFoundSquadBoard;
 import com.studysquad.global.error.exception.NotFoundSquadBoardCommentException;
 import com.studysquad.global.error.exception.NotSquadBoardCommentUserException;
 import com.studysquad.global.error.exception.NotSquadUserException;
-import com.studysquad.global.error.exception.SquadNotFoundException;
-import com.studysquad.global.error.exception.UserNotFoundException;
 import com.studysquad.sqaudboardcomment.domain.SquadBoardComment;
 import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentCreateDto;
 import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentEditDto;
 import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentResponseDto;
 import com.studysquad.sqaudboardcomment.repository.SquadBoardCommentRepository;
-import com.studysquad.squad.domain.Squad;
-import com.studysquad.squad.repository.SquadRepository;
+import com.studysquad.squad.dto.SquadAccess;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadActivityType;
+import com.studysquad.squad.service.SquadAuthorizer;
 import com.studysquad.squadboard.domain.SquadBoard;
 import com.studysquad.squadboard.repository.SquadBoardRepository;
 import com.studysquad.user.domain.User;
@@ -31,56 +34,66 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class SquadBoardCommentService {
 
+	private static final int MAX_CURSOR_SIZE = 100;
+
 	private final SquadBoardRepository squadBoardRepository;
 	private final UserRepository userRepository;
-	private final SquadRepository squadRepository;
+	private final SquadAuthorizer squadAuthorizer;
 	private final SquadBoardCommentRepository squadBoardCommentRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public List<SquadBoardCommentResponseDto> getSquadBoardComments(LoginUser loginUser, Long squadId,
 		Long squadBoardId) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
+		SquadAccess access = squadAuthorizer.getAccess(squadId, loginUser.getId());
 
 		SquadBoard squadBoard = squadBoardRepository.findById(squadBoardId)
 			.orElseThrow(NotFoundSquadBoard::new);
 
-		if (!squadRepository.isUserOfSquad(squad.getId(), user.getId()))
+		if (!access.isMember())
 			throw new NotSquadUserException();
 
 		return squadBoardCommentRepository.getSquadBoardComments(squadBoard.getId());
 	}
 
+	public CursorResponse<SquadBoardCommentResponseDto> getSquadBoardCommentsByCursor(LoginUser loginUser,
+		Long squadId, Long squadBoardId, String cursor, int size) {
+		squadAuthorizer.requireMember(squadId, loginUser.getId());
+
+		CursorResponse<SquadBoardCommentResponseDto> response = squadBoardCommentRepository.getSquadBoardComments(
+			squadId, squadBoardId, KeysetCursor.decode(cursor), Math.min(Math.max(size, 1), MAX_CURSOR_SIZE));
+
+		if (response.getContent().isEmpty() && !squadBoardRepository.existsByIdAndSquadId(squadBoardId, squadId)) {
+			throw new NotFoundSquadBoard();
+		}
+		return response;
+	}
+
 	@Transactional
 	public void createSquadBoardComment(LoginUser loginUser, Long squadId, Long squadBoardId,
 		SquadBoardCommentCreateDto requestDto) {
 
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
+		SquadAccess access = squadAuthorizer.getAccess(squadId, loginUser.getId());
 
 		SquadBoard squadBoard = squadBoardRepository.findById(squadBoardId)
 			.orElseThrow(NotFoundSquadBoard::new);
 
-		if (!squadRepository.isUserOfSquad(squad.getId(), user.getId())) {
+		if (!access.isMember()) {
 			throw new NotSquadUserException();
 		}
 
+		User user = userRepository.getReferenceById(loginUser.getId());
+
 		squadBoardCommentRepository.save(requestDto.toEntity(squadBoard, user));
+		squadBoardRepository.increaseCommentCount(squadBoard.getId());
+
+		eventPublisher.publishEvent(
+			new SquadActivityEvent(squadId, SquadActivityType.SQUAD_BOARD_COMMENT_CREATED, squadBoard.getId()));
 	}
 
 	@Transactional
 	public void editSquadBoardComment(LoginUser loginUser, Long squadId, Long squadBoardId, Long commentId,
 		SquadBoardCommentEditDto requestDto) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
+		SquadAccess access = squadAuthorizer.getAccess(squadId, loginUser.getId());
 
 		SquadBoard squadBoard = squadBoardRepository.findById(squadBoardId)
 			.orElseThrow(NotFoundSquadBoard::new);
@@ -88,24 +101,23 @@ public class SquadBoardCommentService {
 		SquadBoardComment comment = squadBoardCommentRepository.findById(commentId)
 			.orElseThrow(NotFoundSquadBoardCommentException::new);
 
-		if (!squadRepository.isUserOfSquad(squad.getId(), user.getId()))
+		if (!access.isMember())
 			throw new NotSquadUserException();
 
-		if (!squadBoardCommentRepository.isUserOfSquadBoardComment(user.getId(), squadBoard.getId(), comment.getId())) {
+		if (!squadBoardCommentRepository.isUserOfSquadBoardComment(loginUser.getId(), squadBoard.getId(), comment.getId())) {
 			throw new NotSquadBoardCommentUserException();
 		}
 		comment.edit(requestDto.getSquadBoardCommentContent());
+
+		eventPublisher.publishEvent(
+			new SquadActivityEvent(squadId, SquadActivityType.SQUAD_BOARD_COMMENT_EDITED, squadBoard.getId()));
 	}
 
 	@Transactional
 	public void deleteSquadBoardComment(LoginUser loginUser, Long squadId, Long squadBoardId,
 		Long squadBoardCommentId) {
 
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
+		SquadAccess access = squadAuthorizer.getAccess(squadId, loginUser.getId());
 
 		SquadBoard squadBoard = squadBoardRepository.findById(squadBoardId)
 			.orElseThrow(NotFoundSquadBoard::new);
@@ -113,12 +125,16 @@ public class SquadBoardCommentService {
 		SquadBoardComment comment = squadBoardCommentRepository.findById(squadBoardCommentId)
 			.orElseThrow(NotFoundSquadBoardCommentException::new);
 
-		if (!squadRepository.isUserOfSquad(squad.getId(), user.getId()))
+		if (!access.isMember())
 			throw new NotSquadUserException();
 
-		if (!squadBoardCommentRepository.isUserOfSquadBoardComment(user.getId(), squadBoard.getId(), comment.getId()))
+		if (!squadBoardCommentRepository.isUserOfSquadBoardComment(loginUser.getId(), squadBoard.getId(), comment.getId()))
 			throw new NotSquadBoardCommentUserException();
 
 		squadBoardCommentRepository.deleteById(comment.getId());
+		squadBoardRepository.decreaseCommentCount(squadBoard.getId());
+
+		eventPublisher.publishEvent(
+			new SquadActivityEvent(squadId, SquadActivityType.SQUAD_BOARD_COMMENT_DELETED, squadBoard.getId()));
 	}
 }
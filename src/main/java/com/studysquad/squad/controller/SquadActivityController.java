@@ -0,0 +1,24 @@
+package com.studysquad.squad.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.studysquad.global.security.Login;
+import com.studysquad.squad.service.SquadActivityService;
+import com.studysquad.user.dto.LoginUser;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class SquadActivityController {
+
+	private final SquadActivityService squadActivityService;
+
+	@GetMapping("/api/squad/{squadId}/activity")
+	public SseEmitter subscribe(@PathVariable Long squadId, @Login LoginUser loginUser) {
+		return squadActivityService.subscribe(squadId, loginUser);
+	}
+}
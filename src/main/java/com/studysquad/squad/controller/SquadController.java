@@ -9,9 +9,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.global.common.SuccessResponse;
 import com.studysquad.global.security.Login;
 import com.studysquad.squad.dto.EndSquadDto;
@@ -21,6 +23,7 @@ import com.studysquad.squad.dto.SquadJoinDto;
 import com.studysquad.squad.dto.SquadResponseDto;
 import com.studysquad.squad.dto.SquadSearchCondition;
 import com.studysquad.squad.dto.UserSquadResponseDto;
+import com.studysquad.squad.service.SquadJoinFacade;
 import com.studysquad.squad.service.SquadService;
 import com.studysquad.user.dto.LoginUser;
 
@@ -31,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 public class SquadController {
 
 	private final SquadService squadService;
+	private final SquadJoinFacade squadJoinFacade;
 
 	@GetMapping("/api/squad/{squadId}")
 	@ResponseStatus(HttpStatus.OK)
@@ -77,6 +81,20 @@ public class SquadController {
 			.build();
 	}
 
+	@GetMapping("/api/squad/recruit/cursor")
+	@ResponseStatus(HttpStatus.OK)
+	public SuccessResponse<CursorResponse<SquadResponseDto>> getRecruitSquadsByCursor(
+		SquadSearchCondition searchCondition,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "10") int size) {
+
+		return SuccessResponse.<CursorResponse<SquadResponseDto>>builder()
+			.status(HttpStatus.OK.value())
+			.message("모집중인 스쿼드 조회 성공")
+			.data(squadService.getRecruitSquadsByCursor(searchCondition, cursor, size))
+			.build();
+	}
+
 	@GetMapping("/api/squads")
 	@ResponseStatus(HttpStatus.OK)
 	public SuccessResponse<Page<UserSquadResponseDto>> getUserSquads(@Login LoginUser loginUser,
@@ -108,7 +126,7 @@ public class SquadController {
 		@PathVariable("squadId") Long squadId,
 		@Login LoginUser loginUser) {
 
-		squadService.joinSquad(joinRequest, squadId, loginUser);
+		squadJoinFacade.joinSquad(joinRequest, squadId, loginUser);
 
 		return SuccessResponse.<Void>builder()
 			.status(HttpStatus.OK.value())
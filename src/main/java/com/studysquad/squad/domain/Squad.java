@@ -11,8 +11,12 @@ import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.ColumnDefault;
 
 import com.studysquad.category.domain.Category;
 
@@ -24,6 +28,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_squad_status", columnList = "squad_status"))
 public class Squad {
 
 	@Id
@@ -41,6 +46,15 @@ public class Squad {
 	private SquadStatus squadStatus;
 	private LocalDateTime createAt;
 
+	@ColumnDefault("0")
+	@Column(updatable = false)
+	private int memberCount;
+	@ColumnDefault("false")
+	@Column(updatable = false)
+	private boolean hasMentor;
+	@Column(updatable = false)
+	private String creatorNickname;
+
 	@Builder
 	public Squad(Category category, String squadName, String squadExplain, SquadStatus squadStatus,
 		LocalDateTime createAt) {
@@ -54,4 +68,10 @@ public class Squad {
 	public void updateStatus(SquadStatus status) {
 		this.squadStatus = status;
 	}
+
+	public void registerCreator(String nickname, boolean isMentor) {
+		this.creatorNickname = nickname;
+		this.memberCount = 1;
+		this.hasMentor = isMentor;
+	}
 }
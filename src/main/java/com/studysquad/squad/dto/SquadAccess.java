@@ -0,0 +1,35 @@
+package com.studysquad.squad.dto;
+
+import java.util.Optional;
+
+import com.studysquad.squad.domain.SquadStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class SquadAccess {
+	private final Long squadId;
+	private final SquadStatus squadStatus;
+	private final boolean member;
+	private final boolean mentor;
+	private final Long processMissionId;
+
+	@Builder
+	public SquadAccess(Long squadId, SquadStatus squadStatus, boolean member, boolean mentor,
+		Long processMissionId) {
+		this.squadId = squadId;
+		this.squadStatus = squadStatus;
+		this.member = member;
+		this.mentor = mentor;
+		this.processMissionId = processMissionId;
+	}
+
+	public boolean isProcess() {
+		return squadStatus == SquadStatus.PROCESS;
+	}
+
+	public Optional<Long> findProcessMissionId() {
+		return Optional.ofNullable(processMissionId);
+	}
+}
@@ -0,0 +1,50 @@
+package com.studysquad.squad.repository;
+
+import static com.studysquad.mission.domain.QMission.*;
+import static com.studysquad.squad.domain.QSquad.*;
+import static com.studysquad.usersquad.domain.QUserSquad.*;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.studysquad.mission.domain.MissionStatus;
+import com.studysquad.squad.dto.SquadAccess;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SquadAccessRepository {
+
+	private final JPAQueryFactory queryFactory;
+
+	public Optional<SquadAccess> findAccess(Long squadId, Long userId) {
+		Tuple fetchOne = queryFactory
+			.select(squad.id, squad.squadStatus, userSquad.id, userSquad.isMentor, mission.id)
+			.from(squad)
+			.leftJoin(userSquad).on(userSquad.squad.id.eq(squad.id)
+				.and(userSquad.user.id.eq(userId)))
+			.leftJoin(mission).on(mission.squad.id.eq(squad.id)
+				.and(mission.missionStatus.eq(MissionStatus.PROCESS)))
+			.where(squad.id.eq(squadId))
+			.fetchFirst();
+
+		return Optional.ofNullable(fetchOne)
+			.map(this::toSquadAccess);
+	}
+
+	private SquadAccess toSquadAccess(Tuple tuple) {
+		return SquadAccess.builder()
+			.squadId(tuple.get(squad.id))
+			.squadStatus(tuple.get(squad.squadStatus))
+			.member(tuple.get(userSquad.id) != null)
+			.mentor(Boolean.TRUE.equals(tuple.get(userSquad.isMentor)))
+			.processMissionId(tuple.get(mission.id))
+			.build();
+	}
+}
@@ -1,9 +1,33 @@
 package com.studysquad.squad.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.studysquad.squad.domain.Squad;
 
 public interface SquadRepository extends JpaRepository<Squad, Long>, SquadRepositoryCustom {
 
+	@Modifying(clearAutomatically = true)
+	@Query("update Squad s set s.memberCount = s.memberCount + 1, s.hasMentor = true"
+		+ " where s.id = :squadId"
+		+ " and s.squadStatus = com.studysquad.squad.domain.SquadStatus.RECRUIT"
+		+ " and s.memberCount < :capacity"
+		+ " and s.hasMentor = false")
+	int occupyMentorSeat(Long squadId, int capacity);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update Squad s set s.memberCount = s.memberCount + 1"
+		+ " where s.id = :squadId"
+		+ " and s.squadStatus = com.studysquad.squad.domain.SquadStatus.RECRUIT"
+		+ " and s.memberCount < :capacity"
+		+ " and (s.hasMentor = true or s.memberCount < :capacity - 1)")
+	int occupyMenteeSeat(Long squadId, int capacity);
+
+	@Modifying(clearAutomatically = true)
+	@Query("update Squad s set s.squadStatus = com.studysquad.squad.domain.SquadStatus.PROCESS"
+		+ " where s.id = :squadId"
+		+ " and s.squadStatus = com.studysquad.squad.domain.SquadStatus.RECRUIT"
+		+ " and s.memberCount >= :capacity")
+	int closeRecruitIfFull(Long squadId, int capacity);
 }
@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.squad.dto.EndSquadDto;
 import com.studysquad.squad.dto.ProcessSquadDto;
 import com.studysquad.squad.dto.SquadResponseDto;
@@ -13,10 +14,6 @@ import com.studysquad.squad.dto.UserSquadResponseDto;
 
 public interface SquadRepositoryCustom {
 
-	Boolean isUserOfSquad(Long squadId, Long userId);
-
-	Boolean isMentorOfSquad(Long squadId, Long userId);
-
 	Optional<ProcessSquadDto> getProcessSquad(Long userId);
 
 	Optional<SquadResponseDto> findSquadBySquadId(Long squadId);
@@ -25,5 +22,10 @@ public interface SquadRepositoryCustom {
 
 	Page<SquadResponseDto> searchSquadPageByCondition(SquadSearchCondition searchCondition, Pageable pageable);
 
+	CursorResponse<SquadResponseDto> searchSquadCursorByCondition(SquadSearchCondition searchCondition, Long cursor,
+		int size);
+
 	Page<UserSquadResponseDto> getUserSquads(Long userId, Pageable pageable);
+
+	long repairMemberCounters();
 }
@@ -7,6 +7,7 @@ import static com.studysquad.usersquad.domain.QUserSquad.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,20 +16,23 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.studysquad.category.repository.CategoryRegistry;
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.squad.domain.SquadStatus;
 import com.studysquad.squad.dto.EndSquadDto;
 import com.studysquad.squad.dto.ProcessSquadDto;
 import com.studysquad.squad.dto.QEndSquadDto;
 import com.studysquad.squad.dto.QProcessSquadDto;
-import com.studysquad.squad.dto.QSquadResponseDto;
 import com.studysquad.squad.dto.QUserSquadResponseDto;
 import com.studysquad.squad.dto.SquadResponseDto;
 import com.studysquad.squad.dto.SquadSearchCondition;
 import com.studysquad.squad.dto.UserSquadResponseDto;
-import com.studysquad.usersquad.domain.QUserSquad;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,33 +42,7 @@ import lombok.RequiredArgsConstructor;
 public class SquadRepositoryImpl implements SquadRepositoryCustom {
 
 	private final JPAQueryFactory queryFactory;
-
-	@Override
-	public Boolean isUserOfSquad(Long squadId, Long userId) {
-		Integer fetchOne = queryFactory
-			.selectOne()
-			.from(squad)
-			.join(userSquad).on(userSquad.squad.id.eq(squad.id))
-			.where(squad.id.eq(squadId)
-				.and(userSquad.user.id.eq(userId)))
-			.fetchFirst();
-
-		return fetchOne != null;
-	}
-
-	@Override
-	public Boolean isMentorOfSquad(Long squadId, Long userId) {
-		Integer fetchOne = queryFactory
-			.selectOne()
-			.from(squad)
-			.join(userSquad).on(userSquad.squad.id.eq(squad.id))
-			.where(squad.id.eq(squadId)
-				.and(userSquad.user.id.eq(userId))
-				.and(userSquad.isMentor.isTrue()))
-			.fetchFirst();
-
-		return fetchOne != null;
-	}
+	private final CategoryRegistry categoryRegistry;
 
 	@Override
 	public Optional<ProcessSquadDto> getProcessSquad(Long userId) {
@@ -85,22 +63,10 @@ public class SquadRepositoryImpl implements SquadRepositoryCustom {
 
 	@Override
 	public Optional<SquadResponseDto> findSquadBySquadId(Long squadId) {
-		SquadResponseDto fetchOne = queryFactory
-			.select(new QSquadResponseDto(
-				squad.id,
-				userSquad.user.count().as("userCount"),
-				squad.squadName,
-				squad.squadExplain,
-				category.categoryName,
-				user.nickname.max().as("creatorName")))
-			.from(squad)
-			.join(userSquad).on(squad.id.eq(userSquad.squad.id))
-			.join(category).on(squad.category.id.eq(category.id))
-			.leftJoin(user).on(userSquad.user.id.eq(user.id).and(userSquad.isCreator.isTrue()))
+		Tuple fetchOne = selectFromSquadResponse()
 			.where(squad.id.eq(squadId).and(squad.squadStatus.eq(SquadStatus.RECRUIT)))
-			.groupBy(squad.id)
 			.fetchOne();
-		return Optional.ofNullable(fetchOne);
+		return Optional.ofNullable(fetchOne).map(this::toSquadResponseDto);
 	}
 
 	@Override
@@ -122,54 +88,52 @@ public class SquadRepositoryImpl implements SquadRepositoryCustom {
 
 	@Override
 	public Page<SquadResponseDto> searchSquadPageByCondition(SquadSearchCondition searchCondition, Pageable pageable) {
-		QUserSquad userSquad = new QUserSquad("userSquad");
-		QUserSquad mentorUserSquad = new QUserSquad("mentorUserSquad");
-
-		List<SquadResponseDto> fetch = queryFactory
-			.select(new QSquadResponseDto(
-				squad.id,
-				userSquad.user.count().as("userCount"),
-				squad.squadName,
-				squad.squadExplain,
-				category.categoryName,
-				user.nickname.max().as("creatorName")
-			))
-			.from(squad)
-			.join(userSquad)
-			.on(squad.id.eq(userSquad.squad.id))
-			.join(category)
-			.on(squad.category.id.eq(category.id))
-			.leftJoin(user)
-			.on(userSquad.user.id.eq(user.id).and(userSquad.isCreator.isTrue()))
-			.leftJoin(mentorUserSquad)
-			.on(userSquad.squad.id.eq(mentorUserSquad.squad.id).and(mentorUserSquad.isMentor.isTrue()))
+		if (isUnknownCategory(searchCondition.getCategoryName())) {
+			return Page.empty(pageable);
+		}
+		List<SquadResponseDto> fetch = selectFromSquadResponse()
 			.where(squad.squadStatus.eq(SquadStatus.RECRUIT),
-				isMentorEq(mentorUserSquad, searchCondition.getMentor()),
-				categoryNameEq(searchCondition.getCategoryName()))
-			.groupBy(squad.id)
+				isMentorEq(searchCondition.getMentor()),
+				categoryIdEq(searchCondition.getCategoryName()))
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.orderBy(squad.id.desc())
-			.fetch();
+			.fetch()
+			.stream()
+			.map(this::toSquadResponseDto)
+			.collect(Collectors.toList());
 
 		JPAQuery<Long> countQuery = queryFactory
-			.select(squad.id.countDistinct())
+			.select(squad.count())
 			.from(squad)
-			.join(userSquad)
-			.on(userSquad.squad.id.eq(squad.id))
-			.join(category)
-			.on(category.id.eq(squad.category.id))
-			.leftJoin(user)
-			.on(userSquad.user.id.eq(user.id).and(userSquad.isCreator.isTrue()))
-			.leftJoin(mentorUserSquad)
-			.on(mentorUserSquad.squad.id.eq(userSquad.squad.id).and(mentorUserSquad.isMentor.isTrue()))
 			.where(squad.squadStatus.eq(SquadStatus.RECRUIT),
-				isMentorEq(mentorUserSquad, searchCondition.getMentor()),
-				categoryNameEq(searchCondition.getCategoryName()));
+				isMentorEq(searchCondition.getMentor()),
+				categoryIdEq(searchCondition.getCategoryName()));
 
 		return PageableExecutionUtils.getPage(fetch, pageable, countQuery::fetchOne);
 	}
 
+	@Override
+	public CursorResponse<SquadResponseDto> searchSquadCursorByCondition(SquadSearchCondition searchCondition,
+		Long cursor, int size) {
+		if (isUnknownCategory(searchCondition.getCategoryName())) {
+			return CursorResponse.of(List.of(), size, SquadResponseDto::getSquadId);
+		}
+		List<SquadResponseDto> fetch = selectFromSquadResponse()
+			.where(squad.squadStatus.eq(SquadStatus.RECRUIT),
+				squadIdLt(cursor),
+				isMentorEq(searchCondition.getMentor()),
+				categoryIdEq(searchCondition.getCategoryName()))
+			.limit(size + 1)
+			.orderBy(squad.id.desc())
+			.fetch()
+			.stream()
+			.map(this::toSquadResponseDto)
+			.collect(Collectors.toList());
+
+		return CursorResponse.of(fetch, size, SquadResponseDto::getSquadId);
+	}
+
 	@Override
 	public Page<UserSquadResponseDto> getUserSquads(Long userId, Pageable pageable) {
 		List<UserSquadResponseDto> fetch = queryFactory
@@ -198,14 +162,107 @@ public class SquadRepositoryImpl implements SquadRepositoryCustom {
 		return PageableExecutionUtils.getPage(fetch, pageable, countQuery::fetchOne);
 	}
 
-	private BooleanExpression categoryNameEq(String categoryName) {
-		return !StringUtils.hasText(categoryName) ? null : category.categoryName.eq(categoryName);
+	@Override
+	@Transactional
+	public long repairMemberCounters() {
+		long repaired = queryFactory
+			.update(squad)
+			.set(squad.memberCount, countMembers())
+			.where(squad.memberCount.ne(countMembers()))
+			.execute();
+
+		repaired += queryFactory
+			.update(squad)
+			.set(squad.creatorNickname, creatorNickname())
+			.where(creatorExists(),
+				squad.creatorNickname.isNull().or(squad.creatorNickname.ne(creatorNickname())))
+			.execute();
+
+		repaired += queryFactory
+			.update(squad)
+			.set(squad.hasMentor, true)
+			.where(squad.hasMentor.isFalse(), mentorExists())
+			.execute();
+		repaired += queryFactory
+			.update(squad)
+			.set(squad.hasMentor, false)
+			.where(squad.hasMentor.isTrue(), mentorExists().not())
+			.execute();
+
+		return repaired;
 	}
 
-	private BooleanExpression isMentorEq(QUserSquad mentorUserSquad, Boolean mentor) {
-		if (mentor == null) {
-			return null;
-		}
-		return mentor ? mentorUserSquad.isMentor.isNotNull() : mentorUserSquad.isMentor.isNull();
+	private JPAQuery<Tuple> selectFromSquadResponse() {
+		return queryFactory
+			.select(squad.id,
+				squad.memberCount,
+				squad.squadName,
+				squad.squadExplain,
+				squad.category.id,
+				squad.creatorNickname)
+			.from(squad);
+	}
+
+	private SquadResponseDto toSquadResponseDto(Tuple tuple) {
+		return SquadResponseDto.builder()
+			.squadId(tuple.get(squad.id))
+			.userCount(tuple.get(squad.memberCount).longValue())
+			.squadName(tuple.get(squad.squadName))
+			.squadExplain(tuple.get(squad.squadExplain))
+			.categoryName(categoryRegistry.findNameById(tuple.get(squad.category.id)).orElse(null))
+			.creatorName(tuple.get(squad.creatorNickname))
+			.build();
+	}
+
+	private JPQLQuery<Integer> countMembers() {
+		return JPAExpressions
+			.select(userSquad.count().intValue())
+			.from(userSquad)
+			.where(userSquad.squad.id.eq(squad.id));
+	}
+
+	private JPQLQuery<String> creatorNickname() {
+		return JPAExpressions
+			.select(user.nickname)
+			.from(userSquad)
+			.join(userSquad.user, user)
+			.where(userSquad.squad.id.eq(squad.id)
+				.and(userSquad.isCreator.isTrue()));
+	}
+
+	private BooleanExpression creatorExists() {
+		return JPAExpressions
+			.selectOne()
+			.from(userSquad)
+			.where(userSquad.squad.id.eq(squad.id)
+				.and(userSquad.isCreator.isTrue()))
+			.exists();
+	}
+
+	private BooleanExpression mentorExists() {
+		return JPAExpressions
+			.selectOne()
+			.from(userSquad)
+			.where(userSquad.squad.id.eq(squad.id)
+				.and(userSquad.isMentor.isTrue()))
+			.exists();
+	}
+
+	private BooleanExpression squadIdLt(Long cursor) {
+		return cursor == null ? null : squad.id.lt(cursor);
+	}
+
+	private boolean isUnknownCategory(String categoryName) {
+		return StringUtils.hasText(categoryName) && categoryRegistry.findIdByName(categoryName).isEmpty();
+	}
+
+	private BooleanExpression categoryIdEq(String categoryName) {
+		return categoryRegistry.findIdByName(categoryName)
+			.map(categoryId -> squad.category.id.eq(categoryId))
+			.orElse(null);
+	}
+
+	private BooleanExpression isMentorEq(Boolean mentor) {
+		return mentor == null ? null : squad.hasMentor.eq(mentor);
 	}
 }
@@ -0,0 +1,192 @@
+package com.studysquad.squad.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Component
+public class SquadActivityBroadcaster implements DisposableBean {
+
+	private static final String EXECUTOR_NAME = "squad-activity";
+	private static final String CONNECTED = "connected";
+	private static final String HEARTBEAT = "heartbeat";
+
+	private final Map<Long, Set<SquadActivitySubscription>> subscriptions = new ConcurrentHashMap<>();
+	private final AtomicLong eventSequence = new AtomicLong();
+	private final ThreadPoolExecutor executor;
+	private final Counter overflowCounter;
+	private final Counter stalledCounter;
+	private final int bufferSize;
+	private final long timeout;
+	private final long sendTimeout;
+
+	public SquadActivityBroadcaster(MeterRegistry meterRegistry,
+		@Value("${squad.activity.pool-size:2}") int poolSize,
+		@Value("${squad.activity.queue-size:1000}") int queueSize,
+		@Value("${squad.activity.buffer-size:32}") int bufferSize,
+		@Value("${squad.activity.timeout:1800000}") long timeout,
+		@Value("${squad.activity.send-timeout:5000}") long sendTimeout) {
+
+		this.bufferSize = bufferSize;
+		this.timeout = timeout;
+		this.sendTimeout = sendTimeout;
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueSize),
+			new ThreadFactoryBuilder().setNameFormat(EXECUTOR_NAME + "-%d").setDaemon(true).build());
+
+		this.overflowCounter = Counter.builder("squad.activity.overflow")
+			.register(meterRegistry);
+		this.stalledCounter = Counter.builder("squad.activity.stalled")
+			.register(meterRegistry);
+		Gauge.builder("squad.activity.subscriptions", subscriptions,
+				map -> map.values().stream().mapToInt(Set::size).sum())
+			.register(meterRegistry);
+
+		ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+	}
+
+	public SseEmitter subscribe(Long squadId, Long userId) {
+		SseEmitter emitter = new SseEmitter(timeout);
+		SquadActivitySubscription subscription = new SquadActivitySubscription(squadId, userId, emitter, bufferSize);
+
+		emitter.onCompletion(() -> unsubscribe(subscription));
+		emitter.onError(e -> unsubscribe(subscription));
+		emitter.onTimeout(() -> {
+			unsubscribe(subscription);
+			emitter.complete();
+		});
+
+		subscriptions.compute(squadId, (id, squadSubscriptions) -> {
+			Set<SquadActivitySubscription> result =
+				squadSubscriptions != null ? squadSubscriptions : ConcurrentHashMap.newKeySet();
+			result.add(subscription);
+			return result;
+		});
+
+		deliver(subscription, () -> SseEmitter.event().comment(CONNECTED));
+		return emitter;
+	}
+
+	public void broadcast(SquadActivityEvent event) {
+		Set<SquadActivitySubscription> squadSubscriptions = subscriptions.get(event.getSquadId());
+
+		if (squadSubscriptions == null) {
+			return;
+		}
+		String eventId = String.valueOf(eventSequence.incrementAndGet());
+
+		squadSubscriptions.forEach(subscription -> deliver(subscription, () -> SseEmitter.event()
+			.id(eventId)
+			.name(event.getType().name())
+			.data(event, MediaType.APPLICATION_JSON)));
+	}
+
+	public void sendHeartbeats() {
+		subscriptions.values().forEach(squadSubscriptions -> squadSubscriptions
+			.forEach(subscription -> deliver(subscription, () -> SseEmitter.event().comment(HEARTBEAT))));
+	}
+
+	@Scheduled(fixedDelayString = "${squad.activity.send-timeout:5000}")
+	public void closeStalledSubscriptions() {
+		long now = System.currentTimeMillis();
+
+		subscriptions.values().forEach(squadSubscriptions -> squadSubscriptions.stream()
+			.filter(subscription -> subscription.isStalled(now, sendTimeout))
+			.forEach(subscription -> {
+				stalledCounter.increment();
+				unsubscribe(subscription);
+				subscription.cancel();
+				subscription.getEmitter().complete();
+			}));
+	}
+
+	public void close(Long squadId, Long userId) {
+		Set<SquadActivitySubscription> squadSubscriptions = subscriptions.get(squadId);
+
+		if (squadSubscriptions == null) {
+			return;
+		}
+		squadSubscriptions.stream()
+			.filter(subscription -> subscription.getUserId().equals(userId))
+			.forEach(subscription -> {
+				unsubscribe(subscription);
+				subscription.getEmitter().complete();
+			});
+	}
+
+	public Map<Long, Set<Long>> getSubscribers() {
+		return subscriptions.entrySet().stream()
+			.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stream()
+				.map(SquadActivitySubscription::getUserId)
+				.collect(Collectors.toSet())));
+	}
+
+	public int getSubscriptionCount(Long squadId) {
+		Set<SquadActivitySubscription> squadSubscriptions = subscriptions.get(squadId);
+
+		return squadSubscriptions != null ? squadSubscriptions.size() : 0;
+	}
+
+	@Override
+	public void destroy() {
+		subscriptions.values().forEach(squadSubscriptions -> squadSubscriptions.forEach(subscription -> {
+			subscription.close();
+			subscription.getEmitter().complete();
+		}));
+		subscriptions.clear();
+		executor.shutdown();
+	}
+
+	private void deliver(SquadActivitySubscription subscription, Supplier<SseEventBuilder> event) {
+		if (subscription.isClosed()) {
+			return;
+		}
+		if (!subscription.offer(event.get())) {
+			overflow(subscription);
+			return;
+		}
+		if (subscription.startDraining()) {
+			try {
+				subscription.setDrainTask(executor.submit(subscription::drain));
+			} catch (RejectedExecutionException e) {
+				overflow(subscription);
+			}
+		}
+	}
+
+	private void overflow(SquadActivitySubscription subscription) {
+		overflowCounter.increment();
+		unsubscribe(subscription);
+		subscription.getEmitter().complete();
+	}
+
+	private void unsubscribe(SquadActivitySubscription subscription) {
+		subscription.close();
+		subscriptions.computeIfPresent(subscription.getSquadId(), (id, squadSubscriptions) -> {
+			squadSubscriptions.remove(subscription);
+			return squadSubscriptions.isEmpty() ? null : squadSubscriptions;
+		});
+	}
+}
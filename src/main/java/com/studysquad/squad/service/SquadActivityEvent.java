@@ -0,0 +1,13 @@
+package com.studysquad.squad.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class SquadActivityEvent {
+
+	private final Long squadId;
+	private final SquadActivityType type;
+	private final Long targetId;
+}
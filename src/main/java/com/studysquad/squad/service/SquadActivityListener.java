@@ -0,0 +1,19 @@
+package com.studysquad.squad.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SquadActivityListener {
+
+	private final SquadActivityBroadcaster squadActivityBroadcaster;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void broadcast(SquadActivityEvent event) {
+		squadActivityBroadcaster.broadcast(event);
+	}
+}
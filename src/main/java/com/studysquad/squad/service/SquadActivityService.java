@@ -0,0 +1,51 @@
+package com.studysquad.squad.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.studysquad.user.dto.LoginUser;
+import com.studysquad.usersquad.repository.UserSquadRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SquadActivityService {
+
+	private final SquadAuthorizer squadAuthorizer;
+	private final SquadActivityBroadcaster squadActivityBroadcaster;
+	private final UserSquadRepository userSquadRepository;
+
+	public SseEmitter subscribe(Long squadId, LoginUser loginUser) {
+		squadAuthorizer.requireMember(squadId, loginUser.getId());
+
+		return squadActivityBroadcaster.subscribe(squadId, loginUser.getId());
+	}
+
+	@Scheduled(fixedDelayString = "${squad.activity.heartbeat-interval:15000}")
+	public void sendHeartbeats() {
+		closeNonMemberSubscriptions();
+		squadActivityBroadcaster.sendHeartbeats();
+	}
+
+	private void closeNonMemberSubscriptions() {
+		Map<Long, Set<Long>> subscribers = squadActivityBroadcaster.getSubscribers();
+
+		if (subscribers.isEmpty()) {
+			return;
+		}
+		Set<Long> userIds = subscribers.values().stream()
+			.flatMap(Set::stream)
+			.collect(Collectors.toSet());
+		Map<Long, Set<Long>> members = userSquadRepository.findMemberIds(subscribers.keySet(), userIds);
+
+		subscribers.forEach((squadId, subscriberIds) -> subscriberIds.stream()
+			.filter(userId -> !members.getOrDefault(squadId, Set.of()).contains(userId))
+			.forEach(userId -> squadActivityBroadcaster.close(squadId, userId)));
+	}
+}
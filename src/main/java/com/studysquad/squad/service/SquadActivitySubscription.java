@@ -0,0 +1,100 @@
+package com.studysquad.squad.service;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class SquadActivitySubscription {
+
+	private final Long squadId;
+	private final Long userId;
+	private final SseEmitter emitter;
+	private final BlockingQueue<SseEventBuilder> buffer;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private volatile boolean closed;
+	private volatile long sendStartedAt;
+	private volatile Future<?> drainTask;
+
+	SquadActivitySubscription(Long squadId, Long userId, SseEmitter emitter, int bufferSize) {
+		this.squadId = squadId;
+		this.userId = userId;
+		this.emitter = emitter;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+	}
+
+	Long getSquadId() {
+		return squadId;
+	}
+
+	Long getUserId() {
+		return userId;
+	}
+
+	SseEmitter getEmitter() {
+		return emitter;
+	}
+
+	boolean isClosed() {
+		return closed;
+	}
+
+	boolean offer(SseEventBuilder event) {
+		return !closed && buffer.offer(event);
+	}
+
+	boolean isStalled(long now, long sendTimeout) {
+		long startedAt = sendStartedAt;
+
+		return startedAt != 0 && now - startedAt > sendTimeout;
+	}
+
+	void setDrainTask(Future<?> drainTask) {
+		this.drainTask = drainTask;
+	}
+
+	boolean startDraining() {
+		return draining.compareAndSet(false, true);
+	}
+
+	void drain() {
+		do {
+			SseEventBuilder event;
+
+			while (!closed && (event = buffer.poll()) != null) {
+				send(event);
+			}
+			draining.set(false);
+		} while (!closed && !buffer.isEmpty() && startDraining());
+	}
+
+	void close() {
+		closed = true;
+		buffer.clear();
+	}
+
+	void cancel() {
+		close();
+		Future<?> task = drainTask;
+
+		if (task != null) {
+			task.cancel(true);
+		}
+	}
+
+	private void send(SseEventBuilder event) {
+		sendStartedAt = System.currentTimeMillis();
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			close();
+			emitter.completeWithError(e);
+		} finally {
+			sendStartedAt = 0;
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.studysquad.squad.service;
+
+public enum SquadActivityType {
+	MISSION_CREATED,
+	MISSION_EDITED,
+	SQUAD_BOARD_CREATED,
+	SQUAD_BOARD_EDITED,
+	SQUAD_BOARD_COMMENT_CREATED,
+	SQUAD_BOARD_COMMENT_EDITED,
+	SQUAD_BOARD_COMMENT_DELETED,
+	BOARD_CREATED,
+	BOARD_EDITED,
+	BOARD_DELETED
+}
@@ -0,0 +1,66 @@
+package com.studysquad.squad.service;
+
+import org.springframework.stereotype.Component;
+
+import com.studysquad.global.error.exception.NotMenteeException;
+import com.studysquad.global.error.exception.NotMentorException;
+import com.studysquad.global.error.exception.NotSquadUserException;
+import com.studysquad.global.error.exception.SquadNotFoundException;
+import com.studysquad.global.error.exception.SquadNotProgressException;
+import com.studysquad.squad.dto.SquadAccess;
+import com.studysquad.squad.repository.SquadAccessRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SquadAuthorizer {
+
+	private final SquadAccessRepository squadAccessRepository;
+
+	public SquadAccess getAccess(Long squadId, Long userId) {
+		return squadAccessRepository.findAccess(squadId, userId)
+			.orElseThrow(SquadNotFoundException::new);
+	}
+
+	public SquadAccess requireMember(Long squadId, Long userId) {
+		SquadAccess access = getAccess(squadId, userId);
+
+		if (!access.isMember()) {
+			throw new NotSquadUserException();
+		}
+		return access;
+	}
+
+	public SquadAccess requireMentor(Long squadId, Long userId) {
+		SquadAccess access = getAccess(squadId, userId);
+
+		validateMentor(access);
+		return access;
+	}
+
+	public SquadAccess requireProcessMentor(Long squadId, Long userId) {
+		SquadAccess access = getAccess(squadId, userId);
+
+		if (!access.isProcess()) {
+			throw new SquadNotProgressException();
+		}
+		validateMentor(access);
+		return access;
+	}
+
+	public SquadAccess requireNotMentor(Long squadId, Long userId) {
+		SquadAccess access = getAccess(squadId, userId);
+
+		if (access.isMentor()) {
+			throw new NotMenteeException();
+		}
+		return access;
+	}
+
+	private void validateMentor(SquadAccess access) {
+		if (!access.isMentor()) {
+			throw new NotMentorException();
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.studysquad.squad.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.studysquad.squad.repository.SquadRepository;
+
+@Component
+public class SquadCounterRepairJob {
+
+	private final SquadRepository squadRepository;
+	private final boolean repairOnStartup;
+
+	public SquadCounterRepairJob(SquadRepository squadRepository,
+		@Value("${squad.counter-repair.on-startup:false}") boolean repairOnStartup) {
+
+		this.squadRepository = squadRepository;
+		this.repairOnStartup = repairOnStartup;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void repairOnStartup() {
+		if (repairOnStartup) {
+			repairMemberCounters();
+		}
+	}
+
+	@Scheduled(cron = "${squad.counter-repair.cron:0 30 4 * * *}")
+	public void repairMemberCounters() {
+		squadRepository.repairMemberCounters();
+	}
+}
@@ -0,0 +1,48 @@
+package com.studysquad.squad.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import com.studysquad.squad.dto.SquadJoinDto;
+import com.studysquad.user.dto.LoginUser;
+
+@Component
+public class SquadJoinFacade {
+
+	private final SquadService squadService;
+	private final int maxAttempts;
+	private final long backoff;
+
+	public SquadJoinFacade(SquadService squadService,
+		@Value("${squad.join.max-attempts:3}") int maxAttempts,
+		@Value("${squad.join.backoff:50}") long backoff) {
+
+		this.squadService = squadService;
+		this.maxAttempts = Math.max(maxAttempts, 1);
+		this.backoff = Math.max(backoff, 0);
+	}
+
+	public void joinSquad(SquadJoinDto joinRequest, Long squadId, LoginUser loginUser) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				squadService.joinSquad(joinRequest, squadId, loginUser);
+				return;
+			} catch (ConcurrencyFailureException e) {
+				if (attempt >= maxAttempts || !sleep(backoff * attempt)) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	private boolean sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -1,14 +1,16 @@
 package com.studysquad.squad.service;
 
-import java.util.List;
-
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.studysquad.category.domain.Category;
+import com.studysquad.category.repository.CategoryRegistry;
 import com.studysquad.category.repository.CategoryRepository;
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.error.exception.ApiException;
 import com.studysquad.global.error.exception.ExistActiveSquadException;
 import com.studysquad.global.error.exception.InvalidCategoryException;
 import com.studysquad.global.error.exception.MentorAlreadyExistException;
@@ -17,7 +19,6 @@ import com.studysquad.global.error.exception.NotFoundEndSquad;
 import com.studysquad.global.error.exception.NotFoundProcessSquad;
 import com.studysquad.global.error.exception.SquadAlreadyFullException;
 import com.studysquad.global.error.exception.SquadNotFoundException;
-import com.studysquad.global.error.exception.UserNotFoundException;
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.squad.domain.SquadStatus;
 import com.studysquad.squad.dto.EndSquadDto;
@@ -28,7 +29,6 @@ import com.studysquad.squad.dto.SquadResponseDto;
 import com.studysquad.squad.dto.SquadSearchCondition;
 import com.studysquad.squad.dto.UserSquadResponseDto;
 import com.studysquad.squad.repository.SquadRepository;
-import com.studysquad.user.domain.User;
 import com.studysquad.user.dto.LoginUser;
 import com.studysquad.user.repository.UserRepository;
 import com.studysquad.usersquad.domain.UserSquad;
@@ -41,18 +41,16 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class SquadService {
 
-	private static final int UPDATE_SQUAD_SIZE = 3;
 	private static final int MAX_SQUAD_USERS = 4;
+	private static final int MAX_CURSOR_SIZE = 100;
 	private final UserRepository userRepository;
 	private final SquadRepository squadRepository;
 	private final UserSquadRepository userSquadRepository;
 	private final CategoryRepository categoryRepository;
+	private final CategoryRegistry categoryRegistry;
 
 	public ProcessSquadDto getProcessSquad(LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		return squadRepository.getProcessSquad(user.getId())
+		return squadRepository.getProcessSquad(loginUser.getId())
 			.orElseThrow(NotFoundProcessSquad::new);
 	}
 
@@ -62,10 +60,7 @@ public class SquadService {
 	}
 
 	public EndSquadDto getEndSquad(Long squadId, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		return squadRepository.getEndSquad(squadId, user.getId())
+		return squadRepository.getEndSquad(squadId, loginUser.getId())
 			.orElseThrow(NotFoundEndSquad::new);
 	}
 
@@ -73,22 +68,23 @@ public class SquadService {
 		return squadRepository.searchSquadPageByCondition(searchCondition, pageable);
 	}
 
-	public Page<UserSquadResponseDto> getUserSquads(LoginUser loginUser, Pageable pageable) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
+	public CursorResponse<SquadResponseDto> getRecruitSquadsByCursor(SquadSearchCondition searchCondition, Long cursor,
+		int size) {
+		return squadRepository.searchSquadCursorByCondition(searchCondition, cursor,
+			Math.min(Math.max(size, 1), MAX_CURSOR_SIZE));
+	}
 
-		return squadRepository.getUserSquads(user.getId(), pageable);
+	public Page<UserSquadResponseDto> getUserSquads(LoginUser loginUser, Pageable pageable) {
+		return squadRepository.getUserSquads(loginUser.getId(), pageable);
 	}
 
 	@Transactional
 	public void createSquad(SquadCreateDto createRequest, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		if (userSquadRepository.hasActiveSquadByUserId(user.getId())) {
+		if (userSquadRepository.hasActiveSquadByUserId(loginUser.getId())) {
 			throw new ExistActiveSquadException();
 		}
-		Category category = categoryRepository.findByCategoryName(createRequest.getCategoryName())
+		Category category = categoryRegistry.findIdByName(createRequest.getCategoryName())
+			.map(categoryRepository::getReferenceById)
 			.orElseThrow(InvalidCategoryException::new);
 
 		Squad squad = Squad.builder()
@@ -97,9 +93,10 @@ public class SquadService {
 			.squadExplain(createRequest.getSquadExplain())
 			.squadStatus(SquadStatus.RECRUIT)
 			.build();
+		squad.registerCreator(loginUser.getNickname(), createRequest.isMentor());
 
 		UserSquad userSquad = UserSquad.builder()
-			.user(user)
+			.user(userRepository.getReferenceById(loginUser.getId()))
 			.squad(squad)
 			.isMentor(createRequest.isMentor())
 			.isCreator(true)
@@ -111,49 +108,42 @@ public class SquadService {
 
 	@Transactional
 	public void joinSquad(SquadJoinDto joinRequest, Long squadId, LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		if (userSquadRepository.hasActiveSquadByUserId(user.getId())) {
+		if (userSquadRepository.hasActiveSquadByUserId(loginUser.getId())) {
 			throw new ExistActiveSquadException();
 		}
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
-		List<UserSquad> userSquads = userSquadRepository.findBySquadId(squad.getId());
+		int occupied = joinRequest.isMentor()
+			? squadRepository.occupyMentorSeat(squadId, MAX_SQUAD_USERS)
+			: squadRepository.occupyMenteeSeat(squadId, MAX_SQUAD_USERS);
 
-		if (userSquads.size() >= MAX_SQUAD_USERS) {
-			throw new SquadAlreadyFullException();
-		}
-		if (joinRequest.isMentor() && isMentorIncluded(userSquads)) {
-			throw new MentorAlreadyExistException();
-		}
-		if (!joinRequest.isMentor() && isMenteeCountExceeded(userSquads)) {
-			throw new MentorRequiredException();
-		}
-		if (userSquads.size() >= UPDATE_SQUAD_SIZE) {
-			squad.updateStatus(SquadStatus.PROCESS);
+		if (occupied == 0) {
+			throw rejectJoin(squadId, joinRequest.isMentor());
 		}
+		squadRepository.closeRecruitIfFull(squadId, MAX_SQUAD_USERS);
+
 		UserSquad userSquad = UserSquad.builder()
-			.user(user)
-			.squad(squad)
+			.user(userRepository.getReferenceById(loginUser.getId()))
+			.squad(squadRepository.getReferenceById(squadId))
 			.isMentor(joinRequest.isMentor())
 			.isCreator(false)
 			.build();
 
-		userSquadRepository.save(userSquad);
+		try {
+			userSquadRepository.save(userSquad);
+		} catch (DataIntegrityViolationException e) {
+			throw new ExistActiveSquadException();
+		}
 	}
 
-	private boolean isMentorIncluded(List<UserSquad> userSquads) {
-		long count = userSquads.stream()
-			.filter(UserSquad::isMentor)
-			.count();
-		return count != 0;
-	}
+	private ApiException rejectJoin(Long squadId, boolean isMentor) {
+		Squad squad = squadRepository.findById(squadId)
+			.orElseThrow(SquadNotFoundException::new);
 
-	private boolean isMenteeCountExceeded(List<UserSquad> userSquads) {
-		long count = userSquads.stream()
-			.filter(userSquad -> !userSquad.isMentor())
-			.count();
-		return count >= 3;
+		if (squad.getSquadStatus() != SquadStatus.RECRUIT || squad.getMemberCount() >= MAX_SQUAD_USERS) {
+			return new SquadAlreadyFullException();
+		}
+		if (isMentor) {
+			return new MentorAlreadyExistException();
+		}
+		return new MentorRequiredException();
 	}
 }
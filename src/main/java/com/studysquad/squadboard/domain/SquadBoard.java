@@ -12,6 +12,8 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.studysquad.mission.domain.Mission;
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.user.domain.User;
@@ -42,6 +44,9 @@ public class SquadBoard {
 	private String squadBoardTitle;
 	private String squadBoardContent;
 	private LocalDateTime createAt;
+	@ColumnDefault("0")
+	@Column(updatable = false)
+	private int commentCount;
 
 	@Builder
 	public SquadBoard(User user, Squad squad, Mission mission, String squadBoardTitle, String squadBoardContent) {
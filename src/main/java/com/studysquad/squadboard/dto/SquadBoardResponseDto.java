@@ -15,17 +15,19 @@ public class SquadBoardResponseDto {
 	private String squadBoardTitle;
 	private String squadBoardContent;
 	private String creator;
+	private int commentCount;
 
 	@Builder
 	@QueryProjection
 	public SquadBoardResponseDto(Long squadBoardId, int missionSequence, String squadBoardTitle,
 		String squadBoardContent,
-		String creator) {
+		String creator, int commentCount) {
 		this.squadBoardId = squadBoardId;
 		this.missionSequence = missionSequence;
 		this.squadBoardTitle = squadBoardTitle;
 		this.squadBoardContent = squadBoardContent;
 		this.creator = creator;
+		this.commentCount = commentCount;
 	}
 
 }
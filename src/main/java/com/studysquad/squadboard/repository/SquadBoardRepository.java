@@ -3,6 +3,8 @@ package com.studysquad.squadboard.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.studysquad.squadboard.domain.SquadBoard;
 
@@ -10,4 +12,15 @@ public interface SquadBoardRepository extends JpaRepository<SquadBoard, Long>, S
 
 	Optional<SquadBoard> findBySquadBoardTitle(String squadBoardTitle);
 
+	boolean existsByIdAndSquadId(Long squadBoardId, Long squadId);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update SquadBoard b set b.commentCount = b.commentCount + 1 where b.id = :squadBoardId")
+	int increaseCommentCount(Long squadBoardId);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update SquadBoard b set b.commentCount = b.commentCount - 1"
+		+ " where b.id = :squadBoardId and b.commentCount > 0")
+	int decreaseCommentCount(Long squadBoardId);
+
 }
@@ -14,4 +14,6 @@ public interface SquadBoardRepositoryCustom {
 	List<SquadBoardResponseDto> getSquadBoards(Long squadId);
 
 	Boolean hasSquadBoardByProgressMission(Long userId, Long missionId);
+
+	long repairCommentCounters();
 }
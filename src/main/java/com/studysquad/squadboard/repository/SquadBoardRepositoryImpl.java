@@ -1,6 +1,7 @@
 package com.studysquad.squadboard.repository;
 
 import static com.studysquad.mission.domain.QMission.*;
+import static com.studysquad.sqaudboardcomment.domain.QSquadBoardComment.*;
 import static com.studysquad.squadboard.domain.QSquadBoard.*;
 import static com.studysquad.user.domain.QUser.*;
 
@@ -10,6 +11,8 @@ import java.util.Optional;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.studysquad.mission.domain.MissionStatus;
 import com.studysquad.squadboard.dto.QSquadBoardResponseDto;
@@ -31,7 +34,8 @@ public class SquadBoardRepositoryImpl implements SquadBoardRepositoryCustom {
 				mission.missionSequence,
 				squadBoard.squadBoardTitle,
 				squadBoard.squadBoardContent,
-				squadBoard.user.nickname))
+				squadBoard.user.nickname,
+				squadBoard.commentCount))
 			.from(squadBoard)
 			.join(mission).on(squadBoard.mission.id.eq(mission.id))
 			.join(user).on(user.id.eq(squadBoard.user.id))
@@ -47,7 +51,8 @@ public class SquadBoardRepositoryImpl implements SquadBoardRepositoryCustom {
 				mission.missionSequence,
 				squadBoard.squadBoardTitle,
 				squadBoard.squadBoardContent,
-				squadBoard.user.nickname
+				squadBoard.user.nickname,
+				squadBoard.commentCount
 			))
 			.from(squadBoard)
 			.join(mission).on(squadBoard.mission.id.eq(mission.id))
@@ -84,4 +89,21 @@ public class SquadBoardRepositoryImpl implements SquadBoardRepositoryCustom {
 
 		return fetchOne != null;
 	}
+
+	@Override
+	@Transactional
+	public long repairCommentCounters() {
+		return queryFactory
+			.update(squadBoard)
+			.set(squadBoard.commentCount, countComments())
+			.where(squadBoard.commentCount.ne(countComments()))
+			.execute();
+	}
+
+	private JPQLQuery<Integer> countComments() {
+		return JPAExpressions
+			.select(squadBoardComment.count().intValue())
+			.from(squadBoardComment)
+			.where(squadBoardComment.squadBoard.id.eq(squadBoard.id));
+	}
 }
@@ -2,20 +2,22 @@ package com.studysquad.squadboard.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.studysquad.global.error.exception.ExistSquadBoardByProcessMission;
 import com.studysquad.global.error.exception.NotFoundProcessMission;
 import com.studysquad.global.error.exception.NotFoundSquadBoard;
-import com.studysquad.global.error.exception.NotMenteeException;
-import com.studysquad.global.error.exception.NotSquadUserException;
 import com.studysquad.global.error.exception.SquadNotFoundException;
-import com.studysquad.global.error.exception.UserNotFoundException;
 import com.studysquad.mission.domain.Mission;
 import com.studysquad.mission.repository.MissionRepository;
 import com.studysquad.squad.domain.Squad;
+import com.studysquad.squad.dto.SquadAccess;
 import com.studysquad.squad.repository.SquadRepository;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadActivityType;
+import com.studysquad.squad.service.SquadAuthorizer;
 import com.studysquad.squadboard.domain.SquadBoard;
 import com.studysquad.squadboard.dto.SquadBoardCreateDto;
 import com.studysquad.squadboard.dto.SquadBoardEditDto;
@@ -36,77 +38,64 @@ public class SquadBoardService {
 	private final UserRepository userRepository;
 	private final SquadRepository squadRepository;
 	private final MissionRepository missionRepository;
+	private final SquadAuthorizer squadAuthorizer;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public SquadBoardResponseDto getSquadBoard(LoginUser loginUser, Long squadId, Long squadBoardId) {
 
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
+		squadAuthorizer.requireMember(squadId, loginUser.getId());
 
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
-
-		if (!squadRepository.isUserOfSquad(squad.getId(), user.getId())) {
-			throw new NotSquadUserException();
-		}
-
-		return squadBoardRepository.getSquadBoard(squad.getId(), squadBoardId)
+		return squadBoardRepository.getSquadBoard(squadId, squadBoardId)
 			.orElseThrow(NotFoundSquadBoard::new);
 
 	}
 
 	public List<SquadBoardResponseDto> getSquadBoards(LoginUser loginUser, Long squadId) {
 
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
-
-		if (!squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			throw new NotSquadUserException();
+		squadAuthorizer.requireMember(squadId, loginUser.getId());
 
-		return squadBoardRepository.getSquadBoards(squad.getId());
+		return squadBoardRepository.getSquadBoards(squadId);
 	}
 
 	@Transactional
 	public void createSquadBoard(SquadBoardCreateDto squadBoardDto, LoginUser loginUser, Long squadId) {
 
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
+		SquadAccess access = squadAuthorizer.requireNotMentor(squadId, loginUser.getId());
 
-		Squad squad = squadRepository.findById(squadId)
-			.orElseThrow(SquadNotFoundException::new);
-
-		if (squadRepository.isMentorOfSquad(squad.getId(), user.getId())) {
-			throw new NotMenteeException();
-		}
-
-		Mission processMission = missionRepository.getProcessMissionEntity(squad.getId())
+		Long processMissionId = access.findProcessMissionId()
 			.orElseThrow(NotFoundProcessMission::new);
 
-		if (squadBoardRepository.hasSquadBoardByProgressMission(user.getId(), processMission.getId())) {
+		if (squadBoardRepository.hasSquadBoardByProgressMission(loginUser.getId(), processMissionId)) {
 			throw new ExistSquadBoardByProcessMission();
 		}
 
-		squadBoardRepository.save(squadBoardDto.toEntity(squad, user, processMission));
+		Squad squad = squadRepository.getReferenceById(squadId);
+		User user = userRepository.getReferenceById(loginUser.getId());
+		Mission processMission = missionRepository.getReferenceById(processMissionId);
+
+		SquadBoard squadBoard = squadBoardDto.toEntity(squad, user, processMission);
+
+		squadBoardRepository.save(squadBoard);
+		eventPublisher.publishEvent(
+			new SquadActivityEvent(squadId, SquadActivityType.SQUAD_BOARD_CREATED, squadBoard.getId()));
 	}
 
 	@Transactional
 	public void editSquadBoard(SquadBoardEditDto requestDto, LoginUser loginUser, Long squadId,
 		Long squadBoardId) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
-			.orElseThrow(UserNotFoundException::new);
-
 		Squad squad = squadRepository.findById(squadId)
 			.orElseThrow(SquadNotFoundException::new);
 
 		SquadBoard squadBoard = squadBoardRepository.findById(squadBoardId)
 			.orElseThrow(NotFoundSquadBoard::new);
 
-		if (!squadBoardRepository.hasSquadBoard(user.getId(), squadBoard.getId(), squad.getId())) {
+		if (!squadBoardRepository.hasSquadBoard(loginUser.getId(), squadBoard.getId(), squad.getId())) {
 			throw new NotFoundSquadBoard();
 		}
 
 		squadBoard.edit(requestDto.getSquadBoardTitle(), requestDto.getSquadBoardContent());
+
+		eventPublisher.publishEvent(
+			new SquadActivityEvent(squad.getId(), SquadActivityType.SQUAD_BOARD_EDITED, squadBoard.getId()));
 	}
 }
@@ -4,9 +4,11 @@ import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,8 +32,10 @@ public class AuthController {
 
 	@PostMapping("/api/login")
 	@ResponseStatus(HttpStatus.OK)
-	public SuccessResponse<Void> signIn(@RequestBody @Valid LoginRequestDto loginDto, HttpServletResponse response) {
-		Token token = authService.login(loginDto);
+	public SuccessResponse<Void> signIn(@RequestBody @Valid LoginRequestDto loginDto,
+		@RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
+		HttpServletResponse response) {
+		Token token = authService.login(loginDto, userAgent);
 
 		setAccessToken(response, token.getAccessToken());
 		setRefreshToken(response, token.getRefreshToken());
@@ -9,6 +9,8 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,22 +31,14 @@ public class User {
 	private String nickname;
 	@Enumerated(EnumType.STRING)
 	private Role role;
-	private String refreshToken;
+	@ColumnDefault("0")
+	private long tokenVersion;
 
 	@Builder
-	public User(String email, String password, String nickname, Role role, String refreshToken) {
+	public User(String email, String password, String nickname, Role role) {
 		this.email = email;
 		this.password = password;
 		this.nickname = nickname;
 		this.role = role;
-		this.refreshToken = refreshToken;
-	}
-
-	public void updateRefreshToken(String refreshToken) {
-		this.refreshToken = refreshToken;
-	}
-
-	public void invalidateRefreshToken() {
-		this.refreshToken = null;
 	}
 }
@@ -1,18 +1,42 @@
 package com.studysquad.user.dto;
 
+import com.studysquad.global.security.UserPrincipal;
 import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
 
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 public class LoginUser {
+	private Long id;
 	private String email;
+	private String nickname;
 	private Role role;
 
 	@Builder
-	public LoginUser(String email, Role role) {
+	public LoginUser(Long id, String email, String nickname, Role role) {
+		this.id = id;
 		this.email = email;
+		this.nickname = nickname;
 		this.role = role;
 	}
+
+	public static LoginUser from(UserPrincipal principal) {
+		return LoginUser.builder()
+			.id(principal.getId())
+			.email(principal.getEmail())
+			.nickname(principal.getNickname())
+			.role(principal.getRole())
+			.build();
+	}
+
+	public static LoginUser from(User user) {
+		return LoginUser.builder()
+			.id(user.getId())
+			.email(user.getEmail())
+			.nickname(user.getNickname())
+			.role(user.getRole())
+			.build();
+	}
 }
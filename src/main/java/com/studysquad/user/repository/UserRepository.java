@@ -3,15 +3,22 @@ package com.studysquad.user.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.studysquad.user.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-	Optional<User> findByRefreshToken(String refreshToken);
-
 	Optional<User> findByEmail(String email);
 
 	boolean existsByEmail(String email);
 
 	boolean existsByNickname(String nickname);
+
+	@Query("select u.tokenVersion from User u where u.id = :userId")
+	Optional<Long> findTokenVersionById(Long userId);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.id = :userId")
+	int increaseTokenVersion(Long userId);
 }
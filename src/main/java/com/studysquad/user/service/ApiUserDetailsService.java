@@ -6,6 +6,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.studysquad.global.security.UserPrincipal;
 import com.studysquad.user.domain.User;
 import com.studysquad.user.repository.UserRepository;
 
@@ -23,10 +24,6 @@ public class ApiUserDetailsService implements UserDetailsService {
 		User user = userRepository.findByEmail(username)
 			.orElseThrow(() -> new UsernameNotFoundException("일치하는 이메일을 찾을 수 없습니다."));
 
-		return org.springframework.security.core.userdetails.User.builder()
-			.username(user.getEmail())
-			.password(user.getPassword())
-			.roles(user.getRole().name())
-			.build();
+		return UserPrincipal.from(user);
 	}
 }
@@ -1,7 +1,9 @@
 package com.studysquad.user.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.studysquad.global.error.exception.DuplicateEmailException;
@@ -12,6 +14,8 @@ import com.studysquad.global.error.exception.UserNotFoundException;
 import com.studysquad.global.security.JwtProvider;
 import com.studysquad.global.security.RefreshToken;
 import com.studysquad.global.security.Token;
+import com.studysquad.session.dto.RefreshTokenSession;
+import com.studysquad.session.repository.RefreshTokenStore;
 import com.studysquad.user.domain.User;
 import com.studysquad.user.dto.JoinRequestDto;
 import com.studysquad.user.dto.LoginRequestDto;
@@ -28,9 +32,11 @@ public class AuthService {
 	private final UserRepository userRepository;
 	private final JwtProvider jwtProvider;
 	private final PasswordEncoder passwordEncoder;
+	private final ApplicationEventPublisher eventPublisher;
+	private final RefreshTokenStore refreshTokenStore;
 
-	@Transactional
-	public Token login(LoginRequestDto loginRequestDto) {
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Token login(LoginRequestDto loginRequestDto, String device) {
 		String email = loginRequestDto.getEmail();
 		String password = loginRequestDto.getPassword();
 
@@ -41,14 +47,17 @@ public class AuthService {
 			throw new InvalidSigningInformation();
 		}
 
-		Token token = jwtProvider.createToken(email);
+		Token token = jwtProvider.createToken(user);
 
-		user.updateRefreshToken(token.getRefreshToken().getData());
+		refreshTokenStore.save(token.getRefreshToken().getData(), RefreshTokenSession.builder()
+			.userId(user.getId())
+			.device(device)
+			.build());
 
 		return token;
 	}
 
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void join(JoinRequestDto joinRequestDto) {
 		if (userRepository.existsByEmail(joinRequestDto.getEmail())) {
 			throw new DuplicateEmailException();
@@ -65,24 +74,32 @@ public class AuthService {
 	public Token reissue(RefreshToken refreshToken) {
 		String refreshTokenValue = refreshToken.getData();
 
-		if (!jwtProvider.isTokenValid(refreshTokenValue)) {
-			throw new InvalidTokenException();
-		}
+		jwtProvider.parse(refreshTokenValue)
+			.orElseThrow(InvalidTokenException::new);
 
-		User user = userRepository.findByRefreshToken(refreshTokenValue)
+		User user = refreshTokenStore.findUser(refreshTokenValue)
 			.orElseThrow(UserNotFoundException::new);
-		Token token = jwtProvider.createToken(user.getEmail());
+		Token token = jwtProvider.createToken(user);
 
-		user.updateRefreshToken(token.getRefreshToken().getData());
+		if (!refreshTokenStore.rotate(refreshTokenValue, token.getRefreshToken().getData())) {
+			throw new InvalidTokenException();
+		}
 
 		return token;
 	}
 
 	@Transactional
 	public void logout(LoginUser loginUser) {
-		User user = userRepository.findByEmail(loginUser.getEmail())
+		Long userId = loginUser.getId();
+
+		if (userRepository.increaseTokenVersion(userId) == 0) {
+			throw new UserNotFoundException();
+		}
+		refreshTokenStore.deleteAll(userId);
+
+		Long tokenVersion = userRepository.findTokenVersionById(userId)
 			.orElseThrow(UserNotFoundException::new);
 
-		user.invalidateRefreshToken();
+		eventPublisher.publishEvent(new TokenVersionChangedEvent(userId, tokenVersion));
 	}
 }
@@ -0,0 +1,19 @@
+package com.studysquad.user.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class TokenVersionCacheListener {
+
+	private final TokenVersionService tokenVersionService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void updateVersion(TokenVersionChangedEvent event) {
+		tokenVersionService.updateVersion(event.getUserId(), event.getTokenVersion());
+	}
+}
@@ -0,0 +1,12 @@
+package com.studysquad.user.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TokenVersionChangedEvent {
+
+	private final Long userId;
+	private final long tokenVersion;
+}
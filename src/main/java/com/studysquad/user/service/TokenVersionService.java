@@ -0,0 +1,44 @@
+package com.studysquad.user.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.studysquad.global.security.UserPrincipal;
+import com.studysquad.user.repository.UserRepository;
+
+@Service
+public class TokenVersionService {
+
+	private final LoadingCache<Long, Optional<Long>> tokenVersions;
+
+	public TokenVersionService(UserRepository userRepository,
+		@Value("${jwt.access.expiration}") Long accessTokenExpirationPeriod,
+		@Value("${jwt.token-version.cache-size:10000}") long cacheSize,
+		@Value("${jwt.token-version.cache-ttl:30000}") long cacheTtl) {
+
+		this.tokenVersions = CacheBuilder.newBuilder()
+			.maximumSize(cacheSize)
+			.expireAfterWrite(Duration.ofMillis(Math.min(accessTokenExpirationPeriod, cacheTtl)))
+			.build(CacheLoader.from(userRepository::findTokenVersionById));
+	}
+
+	public boolean isCurrentVersion(UserPrincipal principal) {
+		return tokenVersions.getUnchecked(principal.getId())
+			.map(version -> version == principal.getTokenVersion())
+			.orElse(false);
+	}
+
+	public void updateVersion(Long userId, long tokenVersion) {
+		tokenVersions.put(userId, Optional.of(tokenVersion));
+	}
+
+	public void invalidateAll() {
+		tokenVersions.invalidateAll();
+	}
+}
@@ -9,6 +9,8 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.user.domain.User;
@@ -20,6 +22,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_squad_user_squad",
+	columnNames = {"user_id", "squad_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserSquad {
 
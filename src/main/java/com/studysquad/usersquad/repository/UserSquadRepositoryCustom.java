@@ -1,5 +1,11 @@
 package com.studysquad.usersquad.repository;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
 public interface UserSquadRepositoryCustom {
 	Boolean hasActiveSquadByUserId(Long userId);
+
+	Map<Long, Set<Long>> findMemberIds(Collection<Long> squadIds, Collection<Long> userIds);
 }
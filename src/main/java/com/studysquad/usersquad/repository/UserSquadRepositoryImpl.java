@@ -3,6 +3,11 @@ package com.studysquad.usersquad.repository;
 import static com.studysquad.squad.domain.QSquad.*;
 import static com.studysquad.usersquad.domain.QUserSquad.*;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,4 +36,17 @@ public class UserSquadRepositoryImpl implements UserSquadRepositoryCustom {
 
 		return fetchOne != null;
 	}
+
+	@Override
+	public Map<Long, Set<Long>> findMemberIds(Collection<Long> squadIds, Collection<Long> userIds) {
+		return queryFactory
+			.select(userSquad.squad.id, userSquad.user.id)
+			.from(userSquad)
+			.where(userSquad.squad.id.in(squadIds)
+				.and(userSquad.user.id.in(userIds)))
+			.fetch()
+			.stream()
+			.collect(Collectors.groupingBy(tuple -> tuple.get(userSquad.squad.id),
+				Collectors.mapping(tuple -> tuple.get(userSquad.user.id), Collectors.toSet())));
+	}
 }
@@ -0,0 +1,50 @@
+package com.studysquad.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ActuatorSecurityTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	@DisplayName("헬스 체크는 인증 없이 조회")
+	void successGetHealthWithoutAuthentication() throws Exception {
+		mockMvc.perform(get("/actuator/health"))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	@DisplayName("인증 없이 메트릭 조회 실패")
+	void failGetPrometheusWithoutAuthentication() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("일반 사용자 메트릭 조회 실패")
+	void failGetPrometheusWithUserRole() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isForbidden());
+	}
+
+	@Test
+	@WithMockUser(username = "admin@aaa.com", roles = "ADMIN")
+	@DisplayName("관리자 메트릭 조회")
+	void successGetPrometheusWithAdminRole() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isOk());
+	}
+}
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -24,15 +25,21 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studysquad.controller.util.DatabaseCleanUp;
+import com.studysquad.global.filter.JwtAuthenticationFilter;
 import com.studysquad.global.security.JwtProvider;
 import com.studysquad.global.security.RefreshToken;
 import com.studysquad.global.security.Token;
+import com.studysquad.session.dto.RefreshTokenSession;
+import com.studysquad.session.repository.RefreshTokenStore;
 import com.studysquad.user.domain.Role;
 import com.studysquad.user.domain.User;
 import com.studysquad.user.dto.JoinRequestDto;
 import com.studysquad.user.dto.LoginRequestDto;
 import com.studysquad.user.repository.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 public class AuthControllerTest {
@@ -49,6 +56,10 @@ public class AuthControllerTest {
 	ObjectMapper objectMapper;
 	@Autowired
 	JwtProvider jwtProvider;
+	@Autowired
+	RefreshTokenStore refreshTokenStore;
+	@Autowired
+	MeterRegistry meterRegistry;
 
 	@BeforeEach
 	void init() {
@@ -74,6 +85,76 @@ public class AuthControllerTest {
 			.andDo(print());
 	}
 
+	@Test
+	@DisplayName("같은 계정으로 로그인 요청이 제한 횟수를 넘으면 실패 응답 바디 리턴")
+	void failLoginExceedAccountRateLimitReturnFailResponseBody() throws Exception {
+		LoginRequestDto login = LoginRequestDto.builder()
+			.email("aaa@aaa.com")
+			.password("wrongPassword")
+			.build();
+
+		String json = objectMapper.writeValueAsString(login);
+
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(post("/api/login")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(json))
+				.andExpect(status().isUnauthorized());
+		}
+
+		mockMvc.perform(post("/api/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json))
+			.andExpect(status().isTooManyRequests())
+			.andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.value()))
+			.andExpect(jsonPath("$.message").value("요청이 너무 많습니다. 잠시 후 다시 시도해주세요"))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("같은 IP의 회원가입 요청이 제한 횟수를 넘으면 실패")
+	void failJoinExceedClientRateLimit() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			mockMvc.perform(post("/api/join")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(createJoinJson(i)))
+				.andExpect(status().isOk());
+		}
+
+		mockMvc.perform(post("/api/join")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(createJoinJson(10)))
+			.andExpect(status().isTooManyRequests())
+			.andExpect(jsonPath("$.status").value(HttpStatus.TOO_MANY_REQUESTS.value()))
+			.andDo(print());
+
+		mockMvc.perform(post("/api/join")
+				.with(request -> {
+					request.setRemoteAddr("10.0.0.2");
+					return request;
+				})
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(createJoinJson(11)))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	@DisplayName("로그인 요청 본문이 제한 크기를 넘으면 실패")
+	void failLoginWithTooLargeBody() throws Exception {
+		LoginRequestDto login = LoginRequestDto.builder()
+			.email("aaa@aaa.com")
+			.password("a".repeat(16 * 1024))
+			.build();
+
+		mockMvc.perform(post("/api/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(login)))
+			.andExpect(status().isPayloadTooLarge())
+			.andExpect(jsonPath("$.status").value(HttpStatus.PAYLOAD_TOO_LARGE.value()))
+			.andExpect(jsonPath("$.message").value("요청 본문이 너무 큽니다"))
+			.andDo(print());
+	}
+
 	@Test
 	@DisplayName("로그인 성공 후 헤더에 토큰 발급")
 	void afterSuccessLoginIssueTokenForHeader() throws Exception {
@@ -126,15 +207,22 @@ public class AuthControllerTest {
 
 		String json = objectMapper.writeValueAsString(login);
 
-		mockMvc.perform(post("/api/login")
+		Cookie refreshTokenCookie = mockMvc.perform(post("/api/login")
 				.contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.USER_AGENT, "device")
 				.content(json))
 			.andExpect(status().isOk())
-			.andDo(print());
-
-		Optional<User> findUser = userRepository.findById(user.getId());
-		assertThat(findUser).isNotEmpty();
-		assertThat(findUser.get().getRefreshToken()).isNotNull();
+			.andDo(print())
+			.andReturn()
+			.getResponse()
+			.getCookie("Authorization-refresh");
+
+		assertThat(refreshTokenCookie).isNotNull();
+		assertThat(refreshTokenStore.find(refreshTokenCookie.getValue()))
+			.hasValueSatisfying(session -> {
+				assertThat(session.getUserId()).isEqualTo(user.getId());
+				assertThat(session.getDevice()).isEqualTo("device");
+			});
 	}
 
 	@Test
@@ -433,12 +521,11 @@ public class AuthControllerTest {
 	@Test
 	@DisplayName("토큰 재발급 성공")
 	void successfulReissueToken() throws Exception {
-		User user = createUser();
-		Token token = jwtProvider.createToken(user.getEmail());
+		User user = userRepository.save(createUser());
+		Token token = jwtProvider.createToken(user);
 		RefreshToken refreshToken = token.getRefreshToken();
-		user.updateRefreshToken(refreshToken.getData());
 
-		userRepository.save(user);
+		refreshTokenStore.save(refreshToken.getData(), createSession(user));
 
 		Cookie requestCookie = new Cookie(refreshToken.getHeader(), refreshToken.getData());
 
@@ -456,9 +543,9 @@ public class AuthControllerTest {
 					.filter(cookie -> cookie.getName().equals(refreshToken.getHeader()))
 					.findFirst();
 
-				User findUser = userRepository.findById(user.getId()).get();
 				assertThat(myCookie).isPresent();
-				assertThat(myCookie.get().getValue()).isEqualTo(findUser.getRefreshToken());
+				assertThat(refreshTokenStore.find(myCookie.get().getValue())).isPresent();
+				assertThat(refreshTokenStore.find(refreshToken.getData())).isEmpty();
 			})
 			.andDo(print());
 	}
@@ -493,12 +580,11 @@ public class AuthControllerTest {
 	@Test
 	@DisplayName("존재하지 않는 사용자 정보를 가지고 요청시 실패 응답 바디 리턴")
 	void failReissueExistTokenReturnFailResponseBody() throws Exception {
-		User user = createUser();
-		Token token = jwtProvider.createToken(user.getEmail());
+		User user = userRepository.save(createUser());
+		Token token = jwtProvider.createToken(user);
 		RefreshToken refreshToken = token.getRefreshToken();
-		user.updateRefreshToken("refreshToken");
 
-		userRepository.save(user);
+		refreshTokenStore.save("refreshToken", createSession(user));
 
 		Cookie requestCookie = new Cookie(refreshToken.getHeader(), refreshToken.getData());
 
@@ -523,11 +609,10 @@ public class AuthControllerTest {
 	@Test
 	@DisplayName("로그아웃 성공")
 	void successLogout() throws Exception {
-		User user = createUser();
-		Token token = jwtProvider.createToken(user.getEmail());
-		user.updateRefreshToken(token.getRefreshToken().getData());
+		User user = userRepository.save(createUser());
+		Token token = jwtProvider.createToken(user);
 
-		userRepository.save(user);
+		refreshTokenStore.save(token.getRefreshToken().getData(), createSession(user));
 
 		mockMvc.perform(post("/api/logout")
 				.header(token.getAccessToken().getHeader(), "Bearer " + token.getAccessToken().getData()))
@@ -536,15 +621,16 @@ public class AuthControllerTest {
 			.andExpect(jsonPath("$.message").value("로그아웃 성공"))
 			.andDo(print());
 
-		Optional<User> findUser = userRepository.findById(user.getId());
-		assertThat(findUser).isNotEmpty();
-		assertThat(findUser.get().getRefreshToken()).isNull();
+		assertThat(refreshTokenStore.find(token.getRefreshToken().getData())).isEmpty();
 	}
 
 	@Test
 	@DisplayName("유효하지 않는 토큰으로 로그아웃 요청 시 실패 응답 바디 리턴")
 	void failLogoutInvalidAccessTokenReturnFailResponseBody() throws Exception {
-		Token token = jwtProvider.createToken("invalidUserData");
+		Token token = jwtProvider.createToken(User.builder()
+			.email("invalidUserData")
+			.role(Role.USER)
+			.build());
 
 		mockMvc.perform(post("/api/logout")
 				.header(token.getAccessToken().getHeader(), "Bearer " + token.getAccessToken().getData()))
@@ -555,6 +641,62 @@ public class AuthControllerTest {
 			.andDo(print());
 	}
 
+	@Test
+	@DisplayName("로그아웃 이후 기존 어세스 토큰으로 요청 시 실패 응답 바디 리턴")
+	void failRequestWithRevokedAccessTokenAfterLogout() throws Exception {
+		User user = userRepository.save(createUser());
+		Token token = jwtProvider.createToken(user);
+
+		mockMvc.perform(post("/api/logout")
+				.header(token.getAccessToken().getHeader(), "Bearer " + token.getAccessToken().getData()))
+			.andExpect(status().isOk());
+
+		mockMvc.perform(post("/api/logout")
+				.header(token.getAccessToken().getHeader(), "Bearer " + token.getAccessToken().getData()))
+			.andExpect(status().isUnauthorized())
+			.andExpect(jsonPath("$.status").value(HttpStatus.UNAUTHORIZED.value()))
+			.andExpect(jsonPath("$.message").value("인증되지 않은 사용자 입니다."))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("JWT 인증 결과별 처리 시간 기록")
+	void recordJwtAuthenticationTimerByOutcome() throws Exception {
+		User user = userRepository.save(createUser());
+		Token token = jwtProvider.createToken(user);
+		long authenticatedBefore = authenticationCount("authenticated");
+		long rejectedBefore = authenticationCount("rejected");
+
+		mockMvc.perform(post("/api/logout")
+				.header(token.getAccessToken().getHeader(), "Bearer " + token.getAccessToken().getData()))
+			.andExpect(status().isOk());
+
+		mockMvc.perform(post("/api/logout")
+				.header(token.getAccessToken().getHeader(), "Bearer " + token.getAccessToken().getData()))
+			.andExpect(status().isUnauthorized());
+
+		assertThat(authenticationCount("authenticated")).isEqualTo(authenticatedBefore + 1);
+		assertThat(authenticationCount("rejected")).isEqualTo(rejectedBefore + 1);
+	}
+
+	private long authenticationCount(String outcome) {
+		Timer timer = meterRegistry.find(JwtAuthenticationFilter.AUTHENTICATION_TIMER)
+			.tag("outcome", outcome)
+			.timer();
+
+		return timer == null ? 0 : timer.count();
+	}
+
+	private String createJoinJson(int index) throws Exception {
+		JoinRequestDto join = JoinRequestDto.builder()
+			.email(String.format("user%d@aaa.com", index))
+			.password("1234")
+			.nickname("nickname" + index)
+			.build();
+
+		return objectMapper.writeValueAsString(join);
+	}
+
 	private User createUser() {
 		return User.builder()
 			.email("aaa@aaa.com")
@@ -563,4 +705,11 @@ public class AuthControllerTest {
 			.role(Role.USER)
 			.build();
 	}
+
+	private RefreshTokenSession createSession(User user) {
+		return RefreshTokenSession.builder()
+			.userId(user.getId())
+			.device("device")
+			.build();
+	}
 }
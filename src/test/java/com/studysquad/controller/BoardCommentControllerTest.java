@@ -28,6 +28,7 @@ import com.studysquad.boardcomment.domain.BoardComment;
 import com.studysquad.boardcomment.dto.BoardCommentCreateDto;
 import com.studysquad.boardcomment.dto.BoardCommentEditDto;
 import com.studysquad.boardcomment.repository.BoardCommentRepository;
+import com.studysquad.boardcomment.service.CommentCounterRepairJob;
 import com.studysquad.controller.util.DatabaseCleanUp;
 import com.studysquad.user.domain.User;
 import com.studysquad.user.repository.UserRepository;
@@ -47,6 +48,8 @@ public class BoardCommentControllerTest {
 	@Autowired
 	BoardCommentRepository boardCommentRepository;
 	@Autowired
+	CommentCounterRepairJob commentCounterRepairJob;
+	@Autowired
 	ObjectMapper objectMapper;
 
 	@BeforeEach
@@ -55,7 +58,7 @@ public class BoardCommentControllerTest {
 	}
 
 	@Test
-	@DisplayName("게시글 댓글 전체 조회 성공")
+	@DisplayName("게시글 댓글 첫 페이지 조회 성공")
 	void successGetBoardComments() throws Exception {
 		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
 		Board board = boardRepository.save(createBoard(user));
@@ -66,7 +69,69 @@ public class BoardCommentControllerTest {
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.status").value(HttpStatus.OK.value()))
 			.andExpect(jsonPath("$.message").value("게시글 댓글 조회 성공"))
-			.andExpect(jsonPath("$.data.length()").value(boardComments.size()))
+			.andExpect(jsonPath("$.data.content.length()").value(20))
+			.andExpect(jsonPath("$.data.content[0].boardCommentId").value(boardComments.get(0).getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(true))
+			.andExpect(jsonPath("$.data.nextCursor").isString())
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("게시글 댓글 커서 다음 페이지 조회 성공")
+	void successGetBoardCommentsWithCursor() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		Board board = boardRepository.save(createBoard(user));
+		Board otherBoard = boardRepository.save(createBoard(user));
+		List<BoardComment> boardComments = boardCommentRepository.saveAll(createBoardComments(user, board));
+		boardCommentRepository.saveAll(createBoardComments(user, otherBoard));
+
+		String cursor = getFirstPageCursor(board);
+
+		mockMvc.perform(get("/api/board/{boardId}/boardcomments", board.getId())
+				.param("cursor", cursor)
+				.param("size", "20")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(10))
+			.andExpect(jsonPath("$.data.content[0].boardCommentId").value(boardComments.get(20).getId()))
+			.andExpect(jsonPath("$.data.content[9].boardCommentId").value(boardComments.get(29).getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(false))
+			.andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("커서 댓글이 삭제된 경우 다음 댓글부터 조회")
+	void successGetBoardCommentsWithDeletedCursor() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		Board board = boardRepository.save(createBoard(user));
+		List<BoardComment> boardComments = boardCommentRepository.saveAll(createBoardComments(user, board));
+
+		String cursor = getFirstPageCursor(board);
+		boardCommentRepository.deleteById(boardComments.get(19).getId());
+
+		mockMvc.perform(get("/api/board/{boardId}/boardcomments", board.getId())
+				.param("cursor", cursor)
+				.param("size", "20")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(10))
+			.andExpect(jsonPath("$.data.content[0].boardCommentId").value(boardComments.get(20).getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(false))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("유효하지 않은 커서로 게시글 댓글 조회 시 실패")
+	void failGetBoardCommentsWithInvalidCursor() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		Board board = boardRepository.save(createBoard(user));
+
+		mockMvc.perform(get("/api/board/{boardId}/boardcomments", board.getId())
+				.param("cursor", "invalidCursor")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("유효하지 않은 커서 입니다"))
 			.andDo(print());
 	}
 
@@ -90,6 +155,10 @@ public class BoardCommentControllerTest {
 			.andExpect(jsonPath("$.status").value(HttpStatus.CREATED.value()))
 			.andExpect(jsonPath("$.message").value("게시글 댓글 생성 성공"))
 			.andDo(print());
+
+		Board result = boardRepository.findById(board.getId()).orElseThrow();
+
+		assertThat(result.getCommentCount()).isEqualTo(1);
 	}
 
 	@Test
@@ -214,6 +283,20 @@ public class BoardCommentControllerTest {
 		assertThat(result).isEmpty();
 	}
 
+	@Test
+	@DisplayName("게시글 댓글 수 보정 성공")
+	void successRepairCommentCounters() {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		Board board = boardRepository.save(createBoard(user));
+		boardCommentRepository.saveAll(createBoardComments(user, board));
+
+		commentCounterRepairJob.repairCommentCounters();
+
+		Board result = boardRepository.findById(board.getId()).orElseThrow();
+
+		assertThat(result.getCommentCount()).isEqualTo(30);
+	}
+
 	@Test
 	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
 	@DisplayName("게시글 정보가 일치하지 않으면 게시글 댓글 삭제 실패")
@@ -250,6 +333,18 @@ public class BoardCommentControllerTest {
 			.andDo(print());
 	}
 
+	private String getFirstPageCursor(Board board) throws Exception {
+		String content = mockMvc.perform(get("/api/board/{boardId}/boardcomments", board.getId())
+				.param("size", "20")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+
+		return objectMapper.readTree(content).path("data").path("nextCursor").asText();
+	}
+
 	private User createUser(String email, String nickname) {
 		return User.builder()
 			.email(email)
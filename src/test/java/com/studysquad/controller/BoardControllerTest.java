@@ -18,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studysquad.board.domain.Board;
@@ -28,6 +29,8 @@ import com.studysquad.board.request.BoardSearchCondition;
 import com.studysquad.category.domain.Category;
 import com.studysquad.category.repository.CategoryRepository;
 import com.studysquad.controller.util.DatabaseCleanUp;
+import com.studysquad.global.query.QueryStatistics;
+import com.studysquad.global.query.QueryStatisticsInterceptor;
 import com.studysquad.mission.domain.Mission;
 import com.studysquad.mission.domain.MissionStatus;
 import com.studysquad.mission.repository.MissionRepository;
@@ -42,7 +45,7 @@ import com.studysquad.user.repository.UserRepository;
 import com.studysquad.usersquad.domain.UserSquad;
 import com.studysquad.usersquad.repository.UserSquadRepository;
 
-@SpringBootTest
+@SpringBootTest(properties = "query.statistics.enabled=true")
 @AutoConfigureMockMvc(addFilters = false)
 public class BoardControllerTest {
 
@@ -154,6 +157,69 @@ public class BoardControllerTest {
 
 	}
 
+	@Test
+	@DisplayName("게시글 목록 조회 시 게시글 내용은 요약만 리턴")
+	void successGetBoardsReturnExcerpt() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		Category category = categoryRepository.save(createCategory("JAVA"));
+		Squad squad = squadRepository.save(
+			createSquad(category, "squadJavaA", "squadJavaExplain", SquadStatus.PROCESS));
+		Mission mission = missionRepository.save(createMission(squad, 0, MissionStatus.END));
+		boardRepository.save(Board.builder()
+			.squad(squad)
+			.user(user)
+			.mission(mission)
+			.title("title")
+			.content("a".repeat(1000))
+			.build());
+
+		mockMvc.perform(get("/api/boards/cursor")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content[0].excerpt").value("a".repeat(100)))
+			.andExpect(jsonPath("$.data.content[0].boardContent").doesNotExist())
+			.andExpect(jsonPath("$.data.content[0].missionContent").doesNotExist())
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("게시글 커서 조회 시 다음 커서와 전체 개수 리턴")
+	void successGetBoardsByCursor() throws Exception {
+		List<Board> boards = createBoardsData();
+
+		mockMvc.perform(get("/api/boards/cursor")
+				.contentType(MediaType.APPLICATION_JSON)
+				.param("size", "2")
+				.param("categoryName", "JAVA"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value(HttpStatus.OK.value()))
+			.andExpect(jsonPath("$.message").value("게시글 페이징 조회 성공"))
+			.andExpect(jsonPath("$.data.content.length()").value(2))
+			.andExpect(jsonPath("$.data.content[0].boardId").value(boards.get(2).getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(true))
+			.andExpect(jsonPath("$.data.nextCursor").value(boards.get(1).getId()))
+			.andExpect(jsonPath("$.data.totalCount").value(3))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("게시글 커서 조회 시 withTotal=false 이면 전체 개수를 조회하지 않음")
+	void successGetBoardsByCursorWithoutTotal() throws Exception {
+		List<Board> boards = createBoardsData();
+
+		mockMvc.perform(get("/api/boards/cursor")
+				.contentType(MediaType.APPLICATION_JSON)
+				.param("cursor", String.valueOf(boards.get(1).getId()))
+				.param("size", "2")
+				.param("withTotal", "false"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(1))
+			.andExpect(jsonPath("$.data.content[0].boardId").value(boards.get(0).getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(false))
+			.andExpect(jsonPath("$.data.totalCount").doesNotExist())
+			.andDo(print());
+	}
+
 	@Test
 	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
 	@DisplayName("게시글 작성 여부 조회 성공")
@@ -305,13 +371,14 @@ public class BoardControllerTest {
 
 		String json = objectMapper.writeValueAsString(request);
 
-		mockMvc.perform(post("/api/squad/{squadId}/board", squad.getId())
+		MvcResult result = mockMvc.perform(post("/api/squad/{squadId}/board", squad.getId())
 				.contentType(MediaType.APPLICATION_JSON)
 				.content(json))
 			.andExpect(status().isCreated())
 			.andExpect(jsonPath("$.status").value(HttpStatus.CREATED.value()))
 			.andExpect(jsonPath("$.message").value("게시글 작성 성공"))
-			.andDo(print());
+			.andDo(print())
+			.andReturn();
 
 		Board board = boardRepository.findAll().get(0);
 		Optional<Mission> processMission = missionRepository.findById(mission2.getId());
@@ -321,6 +388,12 @@ public class BoardControllerTest {
 		assertThat(board.getTitle()).isEqualTo(request.getTitle());
 		assertThat(board.getContent()).isEqualTo(request.getContent());
 		assertThat(processMission.get().getMissionStatus()).isEqualTo(MissionStatus.PROCESS);
+
+		QueryStatistics statistics = (QueryStatistics)result.getRequest()
+			.getAttribute(QueryStatisticsInterceptor.STATISTICS_ATTRIBUTE);
+		assertThat(statistics.getHandler()).isEqualTo("BoardController#board");
+		assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(10);
+		assertThat(statistics.getRepeatedStatements(3)).isEmpty();
 	}
 
 	@Test
@@ -495,6 +568,68 @@ public class BoardControllerTest {
 		assertThat(findBoard.get().getContent()).isEqualTo(request.getContent());
 	}
 
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("게시글 수정 후 단건 조회 시 수정된 게시글 리턴")
+	void successGetBoardAfterUpdate() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		Category category = categoryRepository.save(createCategory("JAVA"));
+		Squad squad = squadRepository.save(createSquad(category, "squadName", "squadExplain", SquadStatus.PROCESS));
+		Mission mission = missionRepository.save(createMission(squad, 1, MissionStatus.PROCESS));
+		userSquadRepository.save(createMentorUserSquad(squad, user));
+
+		Board board = boardRepository.save(createBoard(squad, user, mission));
+
+		mockMvc.perform(get("/api/board/{boardId}", board.getId())
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(jsonPath("$.data.boardTitle").value("title"));
+
+		String json = objectMapper.writeValueAsString(BoardEdit.builder()
+			.title("title2")
+			.content("content2")
+			.build());
+
+		mockMvc.perform(patch("/api/squad/{squadId}/board/{boardId}", squad.getId(), board.getId())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json))
+			.andExpect(status().isOk());
+
+		mockMvc.perform(get("/api/board/{boardId}", board.getId())
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.boardTitle").value("title2"))
+			.andExpect(jsonPath("$.data.boardContent").value("content2"))
+			.andDo(print());
+	}
+
+	private List<Board> createBoardsData() {
+		User userA = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		User userB = userRepository.save(createUser("bbb@bbb.com", "userB"));
+		User userC = userRepository.save(createUser("ccc@ccc.com", "userC"));
+		User userD = userRepository.save(createUser("ddd@ddd.com", "userD"));
+
+		Category categoryJava = categoryRepository.save(createCategory("JAVA"));
+		Category categoryPython = categoryRepository.save(createCategory("Python"));
+
+		Squad squadA = squadRepository.save(
+			createSquad(categoryJava, "squadJavaA", "squadJavaExplain", SquadStatus.PROCESS));
+		Squad squadB = squadRepository.save(
+			createSquad(categoryJava, "squadJavaB", "squadJavaExplain", SquadStatus.PROCESS));
+		Squad squadC = squadRepository.save(
+			createSquad(categoryJava, "squadJavaC", "squadJavaExplain", SquadStatus.PROCESS));
+		Squad squadD = squadRepository.save(
+			createSquad(categoryPython, "squadPythonA", "squadPythonExplain", SquadStatus.PROCESS));
+
+		Mission missionA = missionRepository.save(createMission(squadA, 0, MissionStatus.END));
+		Mission missionB = missionRepository.save(createMission(squadB, 0, MissionStatus.END));
+		Mission missionC = missionRepository.save(createMission(squadC, 0, MissionStatus.END));
+		Mission missionD = missionRepository.save(createMission(squadD, 0, MissionStatus.END));
+
+		return boardRepository.saveAll(List.of(createBoard(squadA, userA, missionA),
+			createBoard(squadB, userB, missionB), createBoard(squadC, userC, missionC),
+			createBoard(squadD, userD, missionD)));
+	}
+
 	private User createUser(String email, String nickname) {
 		return User.builder()
 			.email(email)
@@ -0,0 +1,62 @@
+package com.studysquad.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+	"server.forward-headers-strategy=native",
+	"rate-limit.endpoints[0].path=/api/login",
+	"rate-limit.endpoints[0].account.capacity=2",
+	"rate-limit.endpoints[0].account.period=1m",
+	"rate-limit.endpoints[1].path=/api/reissue",
+	"rate-limit.endpoints[1].client.capacity=2",
+	"rate-limit.endpoints[1].client.period=1m"
+})
+public class RateLimitControllerTest {
+
+	@LocalServerPort
+	int port;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	@Test
+	@DisplayName("계정 제한만 설정된 엔드포인트도 같은 계정의 요청을 제한")
+	void failLoginExceedAccountRateLimitWithoutClientLimit() throws Exception {
+		String json = "{\"email\":\"account-only@aaa.com\",\"password\":\"wrongPassword\"}";
+
+		assertThat(post("/api/login", "203.0.113.1", json)).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(post("/api/login", "203.0.113.2", json)).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(post("/api/login", "203.0.113.3", json)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+	}
+
+	@Test
+	@DisplayName("프록시가 전달한 클라이언트 주소별로 요청을 제한")
+	void failReissueExceedClientRateLimitByForwardedAddress() throws Exception {
+		assertThat(post("/api/reissue", "198.51.100.1", "{}")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(post("/api/reissue", "198.51.100.1", "{}")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+		assertThat(post("/api/reissue", "198.51.100.1", "{}")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+		assertThat(post("/api/reissue", "198.51.100.2", "{}")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+	}
+
+	private int post(String path, String forwardedFor, String json) throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+			.header("Content-Type", "application/json")
+			.header("X-Forwarded-For", forwardedFor)
+			.POST(HttpRequest.BodyPublishers.ofString(json))
+			.build();
+
+		return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+}
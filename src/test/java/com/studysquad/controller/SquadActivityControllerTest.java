@@ -0,0 +1,176 @@
+package com.studysquad.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studysquad.controller.util.DatabaseCleanUp;
+import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentCreateDto;
+import com.studysquad.squad.domain.Squad;
+import com.studysquad.squad.domain.SquadStatus;
+import com.studysquad.squad.repository.SquadRepository;
+import com.studysquad.squad.service.SquadActivityBroadcaster;
+import com.studysquad.squad.service.SquadActivityService;
+import com.studysquad.squad.service.SquadActivityType;
+import com.studysquad.squadboard.domain.SquadBoard;
+import com.studysquad.squadboard.repository.SquadBoardRepository;
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+import com.studysquad.user.repository.UserRepository;
+import com.studysquad.usersquad.domain.UserSquad;
+import com.studysquad.usersquad.repository.UserSquadRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+public class SquadActivityControllerTest {
+
+	private static final long AWAIT_MILLIS = 5000;
+
+	@Autowired
+	MockMvc mockMvc;
+	@Autowired
+	DatabaseCleanUp databaseCleanUp;
+	@Autowired
+	ObjectMapper objectMapper;
+	@Autowired
+	UserRepository userRepository;
+	@Autowired
+	SquadRepository squadRepository;
+	@Autowired
+	UserSquadRepository userSquadRepository;
+	@Autowired
+	SquadBoardRepository squadBoardRepository;
+	@Autowired
+	SquadActivityService squadActivityService;
+	@Autowired
+	SquadActivityBroadcaster squadActivityBroadcaster;
+
+	@BeforeEach
+	void init() {
+		databaseCleanUp.cleanUp();
+	}
+
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("스쿼드 활동 구독 후 커밋된 댓글 생성 이벤트 수신")
+	void successSubscribeSquadActivity() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		Squad squad = squadRepository.save(createSquad(SquadStatus.PROCESS));
+		userSquadRepository.save(createUserSquad(user, squad));
+		SquadBoard squadBoard = squadBoardRepository.save(createSquadBoard(squad, user));
+
+		MvcResult subscription = mockMvc.perform(get("/api/squad/{squadId}/activity", squad.getId())
+				.accept(MediaType.TEXT_EVENT_STREAM))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		SquadBoardCommentCreateDto request = SquadBoardCommentCreateDto.builder()
+			.squadBoardCommentContent("squadBoardCommentContent")
+			.build();
+
+		mockMvc.perform(
+				post("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomment", squad.getId(),
+					squadBoard.getId())
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isCreated());
+
+		String stream = awaitContent(subscription, SquadActivityType.SQUAD_BOARD_COMMENT_CREATED.name());
+
+		assertThat(subscription.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+		assertThat(stream).contains("event:" + SquadActivityType.SQUAD_BOARD_COMMENT_CREATED.name());
+		assertThat(stream).contains("\"targetId\":" + squadBoard.getId());
+	}
+
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("스쿼드에 속하지 않은 사용자 스쿼드 활동 구독 실패")
+	void failSubscribeSquadActivityWithNotSquadUser() throws Exception {
+		userRepository.save(createUser("aaa@aaa.com", "userA"));
+		Squad squad = squadRepository.save(createSquad(SquadStatus.PROCESS));
+
+		mockMvc.perform(get("/api/squad/{squadId}/activity", squad.getId()))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("스쿼드에 속한 사용자가 아닙니다"))
+			.andDo(print());
+	}
+
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("스쿼드를 떠난 사용자의 구독은 다음 하트비트에서 종료")
+	void successCloseSubscriptionOfLeftMember() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		Squad squad = squadRepository.save(createSquad(SquadStatus.PROCESS));
+		UserSquad userSquad = userSquadRepository.save(createUserSquad(user, squad));
+
+		mockMvc.perform(get("/api/squad/{squadId}/activity", squad.getId())
+				.accept(MediaType.TEXT_EVENT_STREAM))
+			.andExpect(request().asyncStarted());
+
+		squadActivityService.sendHeartbeats();
+		assertThat(squadActivityBroadcaster.getSubscriptionCount(squad.getId())).isEqualTo(1);
+
+		userSquadRepository.delete(userSquad);
+		squadActivityService.sendHeartbeats();
+
+		assertThat(squadActivityBroadcaster.getSubscriptionCount(squad.getId())).isZero();
+	}
+
+	private String awaitContent(MvcResult result, String expected) throws Exception {
+		long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+		String content = result.getResponse().getContentAsString();
+
+		while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+			content = result.getResponse().getContentAsString();
+		}
+		return content;
+	}
+
+	private User createUser(String email, String nickname) {
+		return User.builder()
+			.email(email)
+			.nickname(nickname)
+			.role(Role.USER)
+			.build();
+	}
+
+	private Squad createSquad(SquadStatus status) {
+		return Squad.builder()
+			.squadName("squadName")
+			.squadExplain("squadExplain")
+			.squadStatus(status)
+			.build();
+	}
+
+	private UserSquad createUserSquad(User user, Squad squad) {
+		return UserSquad.builder()
+			.user(user)
+			.squad(squad)
+			.isMentor(false)
+			.isCreator(false)
+			.build();
+	}
+
+	private SquadBoard createSquadBoard(Squad squad, User user) {
+		return SquadBoard.builder()
+			.squad(squad)
+			.user(user)
+			.squadBoardTitle("squadBoardTitle")
+			.squadBoardContent("squadBoardContent")
+			.build();
+	}
+}
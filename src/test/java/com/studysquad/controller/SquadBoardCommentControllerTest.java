@@ -17,9 +17,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studysquad.controller.util.DatabaseCleanUp;
+import com.studysquad.global.query.QueryStatistics;
+import com.studysquad.global.query.QueryStatisticsInterceptor;
 import com.studysquad.sqaudboardcomment.domain.SquadBoardComment;
 import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentCreateDto;
 import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentEditDto;
@@ -35,7 +38,7 @@ import com.studysquad.user.repository.UserRepository;
 import com.studysquad.usersquad.domain.UserSquad;
 import com.studysquad.usersquad.repository.UserSquadRepository;
 
-@SpringBootTest
+@SpringBootTest(properties = "query.statistics.enabled=true")
 @AutoConfigureMockMvc(addFilters = false)
 public class SquadBoardCommentControllerTest {
 
@@ -170,6 +173,169 @@ public class SquadBoardCommentControllerTest {
 			.andDo(print());
 	}
 
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("스쿼드 게시글 댓글 커서 조회")
+	void getSquadBoardCommentsByCursor() throws Exception {
+		User user1 = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		User user2 = userRepository.save(createUser("bbb@bbb.com", "userB"));
+
+		Squad squad = squadRepository.save(createSquad(SquadStatus.PROCESS));
+
+		userSquadRepository.save(createUserSquad(user1, squad, false, false));
+		userSquadRepository.save(createUserSquad(user2, squad, false, false));
+
+		SquadBoard squadBoard = squadBoardRepository.save(createSquadBoard(squad, user2));
+
+		SquadBoardComment comment1 = squadBoardCommentRepository.save(
+			createSquadBoardComment(squadBoard, user1, "squadBoardComment1"));
+		SquadBoardComment comment2 = squadBoardCommentRepository.save(
+			createSquadBoardComment(squadBoard, user2, "squadBoardComment2"));
+		SquadBoardComment comment3 = squadBoardCommentRepository.save(
+			createSquadBoardComment(squadBoard, user1, "squadBoardComment3"));
+
+		MvcResult result = mockMvc.perform(
+				get("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomments/cursor", squad.getId(),
+					squadBoard.getId())
+					.param("size", "2")
+					.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value(HttpStatus.OK.value()))
+			.andExpect(jsonPath("$.message").value("스쿼드 게시글 댓글 커서 조회 성공"))
+			.andExpect(jsonPath("$.data.content.length()").value(2))
+			.andExpect(jsonPath("$.data.content[0].squadBoardCommentId").value(comment1.getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(true))
+			.andExpect(jsonPath("$.data.nextCursor").isString())
+			.andDo(print())
+			.andReturn();
+
+		mockMvc.perform(
+				get("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomments/cursor", squad.getId(),
+					squadBoard.getId())
+					.param("cursor", getNextCursor(result))
+					.param("size", "2")
+					.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(1))
+			.andExpect(jsonPath("$.data.content[0].squadBoardCommentId").value(comment3.getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(false))
+			.andDo(print());
+
+		// @WithMockUser 는 토큰 클레임이 없어 로그인 사용자 조회 1회가 더해진다
+		QueryStatistics statistics = (QueryStatistics)result.getRequest()
+			.getAttribute(QueryStatisticsInterceptor.STATISTICS_ATTRIBUTE);
+		assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(3);
+	}
+
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("스쿼드 게시글 댓글 커서 조회시 스쿼드 게시글이 유효하지 않을 경우 오류 응답 바디 리턴")
+	void failGetSquadBoardCommentsByCursorNotFoundSquadBoard() throws Exception {
+		Long notFoundSquadBoardId = 100L;
+
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+
+		Squad squad = squadRepository.save(createSquad(SquadStatus.PROCESS));
+
+		userSquadRepository.save(createUserSquad(user, squad, false, false));
+
+		mockMvc.perform(get("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomments/cursor",
+				squad.getId(), notFoundSquadBoardId)
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isNotFound())
+			.andExpect(jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()))
+			.andExpect(jsonPath("$.message").value("스쿼드 게시글을 찾을 수 없습니다"))
+			.andDo(print());
+	}
+
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("커서 댓글이 삭제된 경우 다음 스쿼드 게시글 댓글부터 조회")
+	void getSquadBoardCommentsByDeletedCursor() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+
+		Squad squad = squadRepository.save(createSquad(SquadStatus.PROCESS));
+
+		userSquadRepository.save(createUserSquad(user, squad, false, false));
+
+		SquadBoard squadBoard = squadBoardRepository.save(createSquadBoard(squad, user));
+
+		squadBoardCommentRepository.save(createSquadBoardComment(squadBoard, user, "squadBoardComment1"));
+		SquadBoardComment comment2 = squadBoardCommentRepository.save(
+			createSquadBoardComment(squadBoard, user, "squadBoardComment2"));
+		SquadBoardComment comment3 = squadBoardCommentRepository.save(
+			createSquadBoardComment(squadBoard, user, "squadBoardComment3"));
+
+		MvcResult firstPage = mockMvc.perform(
+				get("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomments/cursor", squad.getId(),
+					squadBoard.getId())
+					.param("size", "2")
+					.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andReturn();
+
+		squadBoardCommentRepository.deleteById(comment2.getId());
+
+		mockMvc.perform(
+				get("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomments/cursor", squad.getId(),
+					squadBoard.getId())
+					.param("cursor", getNextCursor(firstPage))
+					.param("size", "2")
+					.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(1))
+			.andExpect(jsonPath("$.data.content[0].squadBoardCommentId").value(comment3.getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(false))
+			.andDo(print());
+	}
+
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("유효하지 않은 커서로 스쿼드 게시글 댓글 커서 조회시 오류 응답 바디 리턴")
+	void failGetSquadBoardCommentsByCursorWithInvalidCursor() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+
+		Squad squad = squadRepository.save(createSquad(SquadStatus.PROCESS));
+
+		userSquadRepository.save(createUserSquad(user, squad, false, false));
+
+		SquadBoard squadBoard = squadBoardRepository.save(createSquadBoard(squad, user));
+
+		mockMvc.perform(
+				get("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomments/cursor", squad.getId(),
+					squadBoard.getId())
+					.param("cursor", "invalidCursor")
+					.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("유효하지 않은 커서 입니다"))
+			.andDo(print());
+	}
+
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("다른 스쿼드의 게시글 댓글 커서 조회시 오류 응답 바디 리턴")
+	void failGetSquadBoardCommentsByCursorWithOtherSquadBoard() throws Exception {
+		User user = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		User otherUser = userRepository.save(createUser("bbb@bbb.com", "userB"));
+
+		Squad squad = squadRepository.save(createSquad(SquadStatus.PROCESS));
+		Squad otherSquad = squadRepository.save(createSquad(SquadStatus.PROCESS));
+
+		userSquadRepository.save(createUserSquad(user, squad, false, false));
+		userSquadRepository.save(createUserSquad(otherUser, otherSquad, false, false));
+
+		SquadBoard otherSquadBoard = squadBoardRepository.save(createSquadBoard(otherSquad, otherUser));
+		squadBoardCommentRepository.save(createSquadBoardComment(otherSquadBoard, otherUser, "squadBoardComment"));
+
+		mockMvc.perform(get("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomments/cursor",
+				squad.getId(), otherSquadBoard.getId())
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isNotFound())
+			.andExpect(jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()))
+			.andExpect(jsonPath("$.message").value("스쿼드 게시글을 찾을 수 없습니다"))
+			.andDo(print());
+	}
+
 	@Test
 	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
 	@DisplayName("스쿼드 게시글 댓글 생성 성공")
@@ -200,6 +366,7 @@ public class SquadBoardCommentControllerTest {
 		SquadBoardComment findComment = squadBoardCommentRepository.findAll().get(0);
 
 		assertThat(findComment.getSquadBoardCommentContent()).isEqualTo(request.getSquadBoardCommentContent());
+		assertThat(squadBoardRepository.findById(squadBoard.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
 	}
 
 	@Test
@@ -498,6 +665,13 @@ public class SquadBoardCommentControllerTest {
 
 	}
 
+	private String getNextCursor(MvcResult result) throws Exception {
+		return objectMapper.readTree(result.getResponse().getContentAsString())
+			.path("data")
+			.path("nextCursor")
+			.asText();
+	}
+
 	private User createUser(String email, String userName) {
 		return User.builder()
 			.email(email)
@@ -91,6 +91,9 @@ public class SquadControllerTest {
 		assertThat(squad.get(0)).isNotNull();
 		assertThat(squad.get(0).getSquadName()).isEqualTo("squad");
 		assertThat(squad.get(0).getSquadExplain()).isEqualTo("squadExplain");
+		assertThat(squad.get(0).getMemberCount()).isEqualTo(1);
+		assertThat(squad.get(0).isHasMentor()).isTrue();
+		assertThat(squad.get(0).getCreatorNickname()).isEqualTo("userA");
 	}
 
 	@Test
@@ -164,6 +167,7 @@ public class SquadControllerTest {
 			"squad", "squadExplain", SquadStatus.RECRUIT));
 
 		userSquadRepository.save(createUserSquad(userB, squad, true, true));
+		squadRepository.repairMemberCounters();
 
 		SquadJoinDto request = SquadJoinDto.builder()
 			.mentor(false)
@@ -177,6 +181,10 @@ public class SquadControllerTest {
 			.andExpect(jsonPath("$.status").value(HttpStatus.OK.value()))
 			.andExpect(jsonPath("$.message").value("스쿼드 가입 성공"))
 			.andDo(print());
+
+		Squad findSquad = squadRepository.findById(squad.getId()).get();
+		assertThat(findSquad.getMemberCount()).isEqualTo(2);
+		assertThat(findSquad.isHasMentor()).isTrue();
 	}
 
 	@Test
@@ -197,6 +205,7 @@ public class SquadControllerTest {
 		userSquadRepository.save(createUserSquad(userB, squad, true, true));
 		userSquadRepository.save(createUserSquad(userC, squad, false, false));
 		userSquadRepository.save(createUserSquad(userD, squad, false, false));
+		squadRepository.repairMemberCounters();
 
 		SquadJoinDto request = SquadJoinDto.builder()
 			.mentor(false)
@@ -230,6 +239,7 @@ public class SquadControllerTest {
 
 		userSquadRepository.save(createUserSquad(user, squad, true, true));
 		userSquadRepository.save(createUserSquad(userWithActiveSquad, squad, false, false));
+		squadRepository.repairMemberCounters();
 
 		SquadJoinDto request = SquadJoinDto.builder()
 			.mentor(false)
@@ -287,6 +297,7 @@ public class SquadControllerTest {
 		userSquadRepository.save(createUserSquad(userB, squad, false, false));
 		userSquadRepository.save(createUserSquad(userC, squad, false, false));
 		userSquadRepository.save(createUserSquad(userD, squad, false, false));
+		squadRepository.repairMemberCounters();
 
 		SquadJoinDto request = SquadJoinDto.builder()
 			.mentor(false)
@@ -316,6 +327,7 @@ public class SquadControllerTest {
 			"squad", "squadExplain", SquadStatus.RECRUIT));
 
 		userSquadRepository.save(createUserSquad(user, squad, true, true));
+		squadRepository.repairMemberCounters();
 
 		SquadJoinDto request = SquadJoinDto.builder()
 			.mentor(true)
@@ -349,6 +361,7 @@ public class SquadControllerTest {
 		userSquadRepository.save(createUserSquad(userB, squad, false, true));
 		userSquadRepository.save(createUserSquad(userC, squad, false, false));
 		userSquadRepository.save(createUserSquad(userD, squad, false, false));
+		squadRepository.repairMemberCounters();
 
 		SquadJoinDto request = SquadJoinDto.builder()
 			.mentor(false)
@@ -428,6 +441,64 @@ public class SquadControllerTest {
 			.andDo(print());
 	}
 
+	@Test
+	@DisplayName("존재하지 않는 카테고리로 모집중인 스쿼드 조회 시 빈 페이지 리턴")
+	void successGetRecruitSquadsWithUnknownCategory() throws Exception {
+		Category category = categoryRepository.save(createCategory("JAVA"));
+		List<User> users = createUsersData();
+		List<Squad> squads = createSquadsData(category);
+		createUserSquadsData(users, squads);
+
+		mockMvc.perform(get("/api/squad/recruit")
+				.contentType(MediaType.APPLICATION_JSON)
+				.param("categoryName", "unknown"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(0))
+			.andExpect(jsonPath("$.data.totalElements").value(0))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("모집중인 스쿼드 커서 조회 시 다음 커서 리턴")
+	void successGetRecruitSquadsByCursor() throws Exception {
+		Category category = categoryRepository.save(createCategory("JAVA"));
+		List<User> users = createUsersData();
+		List<Squad> squads = createSquadsData(category);
+		createUserSquadsData(users, squads);
+
+		mockMvc.perform(get("/api/squad/recruit/cursor")
+				.contentType(MediaType.APPLICATION_JSON)
+				.param("size", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value(HttpStatus.OK.value()))
+			.andExpect(jsonPath("$.message").value("모집중인 스쿼드 조회 성공"))
+			.andExpect(jsonPath("$.data.content.length()").value(2))
+			.andExpect(jsonPath("$.data.content[0].squadId").value(squads.get(4).getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(true))
+			.andExpect(jsonPath("$.data.nextCursor").value(squads.get(3).getId()))
+			.andDo(print());
+	}
+
+	@Test
+	@DisplayName("모집중인 스쿼드 커서 조회 시 마지막 페이지는 다음 커서가 없음")
+	void successGetRecruitSquadsByCursorLastPage() throws Exception {
+		Category category = categoryRepository.save(createCategory("JAVA"));
+		List<User> users = createUsersData();
+		List<Squad> squads = createSquadsData(category);
+		createUserSquadsData(users, squads);
+
+		mockMvc.perform(get("/api/squad/recruit/cursor")
+				.contentType(MediaType.APPLICATION_JSON)
+				.param("cursor", String.valueOf(squads.get(2).getId()))
+				.param("size", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.content.length()").value(2))
+			.andExpect(jsonPath("$.data.content[0].squadId").value(squads.get(1).getId()))
+			.andExpect(jsonPath("$.data.hasNext").value(false))
+			.andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+			.andDo(print());
+	}
+
 	@Test
 	@DisplayName("멘토를 모집중인 스쿼드 조회")
 	void successGetRecruitMentorSquads() throws Exception {
@@ -541,6 +612,7 @@ public class SquadControllerTest {
 		userSquadRepository.save(createUserSquad(userA, squad, true, true));
 		userSquadRepository.save(createUserSquad(userB, squad, false, false));
 		userSquadRepository.save(createUserSquad(userC, squad, false, false));
+		squadRepository.repairMemberCounters();
 
 		mockMvc.perform(get("/api/squad/{squadId}", squad.getId())
 				.contentType(MediaType.APPLICATION_JSON))
@@ -555,6 +627,31 @@ public class SquadControllerTest {
 			.andDo(print());
 	}
 
+	@Test
+	@DisplayName("스쿼드 인원 집계 컬럼을 스쿼드 멤버 정보로 복구")
+	void successRepairMemberCounters() {
+		User userA = userRepository.save(createUser("aaa@aaa.com", "userA"));
+		User userB = userRepository.save(createUser("bbb@bbb.com", "userB"));
+		Category category = categoryRepository.save(createCategory("JAVA"));
+		Squad mentorSquad = squadRepository.save(createSquad(category,
+			"squad", "squadExplain", SquadStatus.RECRUIT));
+		Squad menteeSquad = squadRepository.save(createSquad(category,
+			"squad2", "squadExplain2", SquadStatus.RECRUIT));
+		userSquadRepository.save(createUserSquad(userA, mentorSquad, true, true));
+		userSquadRepository.save(createUserSquad(userB, menteeSquad, false, true));
+
+		squadRepository.repairMemberCounters();
+
+		Squad findMentorSquad = squadRepository.findById(mentorSquad.getId()).get();
+		Squad findMenteeSquad = squadRepository.findById(menteeSquad.getId()).get();
+		assertThat(findMentorSquad.getMemberCount()).isEqualTo(1);
+		assertThat(findMentorSquad.isHasMentor()).isTrue();
+		assertThat(findMentorSquad.getCreatorNickname()).isEqualTo(userA.getNickname());
+		assertThat(findMenteeSquad.getMemberCount()).isEqualTo(1);
+		assertThat(findMenteeSquad.isHasMentor()).isFalse();
+		assertThat(findMenteeSquad.getCreatorNickname()).isEqualTo(userB.getNickname());
+	}
+
 	@Test
 	@DisplayName("존재하지 않는 스쿼드 아이디로 조회")
 	void failGetRecruitSquadInvalidSquadId() throws Exception {
@@ -705,6 +802,7 @@ public class SquadControllerTest {
 					.build();
 			})
 			.forEach(userSquadRepository::save);
+		squadRepository.repairMemberCounters();
 	}
 
 	private List<Squad> createSquadsData(Category category) {
@@ -2,24 +2,43 @@ package com.studysquad.controller.util;
 
 import static com.google.common.base.CaseFormat.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.studysquad.board.repository.BoardCache;
+import com.studysquad.category.repository.CategoryRegistry;
+import com.studysquad.global.security.RateLimiter;
+import com.studysquad.user.service.TokenVersionService;
+
 @Component
 public class DatabaseCleanUp implements InitializingBean {
 
 	private final EntityManager em;
+	private final TokenVersionService tokenVersionService;
+	private final RateLimiter rateLimiter;
+	private final BoardCache boardCache;
+	private final CategoryRegistry categoryRegistry;
 	private List<String> tableNames;
+	private List<String> identityTableNames;
 
-	public DatabaseCleanUp(EntityManager em) {
+	public DatabaseCleanUp(EntityManager em, TokenVersionService tokenVersionService, RateLimiter rateLimiter,
+		BoardCache boardCache, CategoryRegistry categoryRegistry) {
 		this.em = em;
+		this.tokenVersionService = tokenVersionService;
+		this.rateLimiter = rateLimiter;
+		this.boardCache = boardCache;
+		this.categoryRegistry = categoryRegistry;
 	}
 
 	@Override
@@ -28,6 +47,11 @@ public class DatabaseCleanUp implements InitializingBean {
 			.filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
 			.map(e -> UPPER_CAMEL.to(LOWER_UNDERSCORE, e.getName()))
 			.collect(Collectors.toList());
+		identityTableNames = em.getMetamodel().getEntities().stream()
+			.filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
+			.filter(e -> usesIdentity(e.getJavaType()))
+			.map(e -> UPPER_CAMEL.to(LOWER_UNDERSCORE, e.getName()))
+			.collect(Collectors.toList());
 	}
 
 	@Transactional
@@ -40,12 +64,27 @@ public class DatabaseCleanUp implements InitializingBean {
 			String columnName = getColumnName(tableName);
 
 			em.createNativeQuery("TRUNCATE TABLE " + validateTableName).executeUpdate();
-			em.createNativeQuery("ALTER TABLE " + validateTableName
-					+ " ALTER COLUMN " + columnName
-					+ " RESTART WITH 1")
-				.executeUpdate();
+			if (identityTableNames.contains(tableName)) {
+				em.createNativeQuery("ALTER TABLE " + validateTableName
+						+ " ALTER COLUMN " + columnName
+						+ " RESTART WITH 1")
+					.executeUpdate();
+			}
 		}
 		em.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+		tokenVersionService.invalidateAll();
+		rateLimiter.reset();
+		boardCache.clear();
+		categoryRegistry.clear();
+	}
+
+	private boolean usesIdentity(Class<?> entityType) {
+		return Arrays.stream(entityType.getDeclaredFields())
+			.filter(field -> field.isAnnotationPresent(Id.class))
+			.map(field -> field.getAnnotation(GeneratedValue.class))
+			.anyMatch(generatedValue -> generatedValue != null
+				&& generatedValue.strategy() == GenerationType.IDENTITY);
 	}
 
 	private String validateTableName(String tableName) {
@@ -19,6 +19,7 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -26,6 +27,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studysquad.docs.util.TokenFactory;
+import com.studysquad.docs.util.UserRepositoryMockConfig;
 import com.studysquad.global.security.RefreshToken;
 import com.studysquad.global.security.Token;
 import com.studysquad.user.controller.AuthController;
@@ -34,6 +36,7 @@ import com.studysquad.user.dto.LoginRequestDto;
 import com.studysquad.user.service.AuthService;
 
 @WebMvcTest(AuthController.class)
+@Import(UserRepositoryMockConfig.class)
 @AutoConfigureMockMvc(addFilters = false)
 @AutoConfigureRestDocs
 public class AuthDocumentationTest {
@@ -53,7 +56,7 @@ public class AuthDocumentationTest {
 			.password("password")
 			.build();
 
-		when(authService.login(any(LoginRequestDto.class)))
+		when(authService.login(any(LoginRequestDto.class), any()))
 			.thenReturn(TokenFactory.createToken());
 
 		String json = objectMapper.writeValueAsString(loginRequest);
@@ -22,6 +22,7 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -33,9 +34,13 @@ import com.studysquad.boardcomment.dto.BoardCommentEditDto;
 import com.studysquad.boardcomment.dto.BoardCommentResponse;
 import com.studysquad.boardcomment.service.BoardCommentService;
 import com.studysquad.docs.util.TokenFactory;
+import com.studysquad.docs.util.UserRepositoryMockConfig;
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.common.KeysetCursor;
 import com.studysquad.global.security.Token;
 
 @WebMvcTest(BoardCommentController.class)
+@Import(UserRepositoryMockConfig.class)
 @AutoConfigureMockMvc(addFilters = false)
 @AutoConfigureRestDocs
 public class BoardCommentDocumentationTest {
@@ -53,7 +58,7 @@ public class BoardCommentDocumentationTest {
 
 		Long boardId = 1L;
 
-		List<BoardCommentResponse> response = LongStream.range(1, 3)
+		List<BoardCommentResponse> responseData = LongStream.range(1, 4)
 			.mapToObj(i -> BoardCommentResponse.builder()
 				.boardCommentId(i)
 				.boardCommentContent("게시글 댓글 내용" + i)
@@ -62,10 +67,15 @@ public class BoardCommentDocumentationTest {
 				.build())
 			.collect(Collectors.toList());
 
-		when(boardCommentService.getBoardComments(any(Long.class)))
+		CursorResponse<BoardCommentResponse> response = CursorResponse.of(responseData, 2,
+			comment -> KeysetCursor.encode(comment.getCreateAt(), comment.getBoardCommentId()));
+
+		when(boardCommentService.getBoardComments(any(Long.class), any(), anyInt()))
 			.thenReturn(response);
 
 		mockMvc.perform(get("/api/board/{boardId}/boardcomments", boardId)
+				.param("cursor", KeysetCursor.encode(LocalDateTime.of(2023, 7, 1, 12, 0), 10L))
+				.param("size", "2")
 				.contentType(MediaType.APPLICATION_JSON))
 			.andExpect(status().isOk())
 			.andDo(print())
@@ -75,13 +85,19 @@ public class BoardCommentDocumentationTest {
 				pathParameters(
 					parameterWithName("boardId").description("게시글 아이디")
 				),
+				requestParameters(
+					parameterWithName("cursor").description("이전 페이지 응답의 nextCursor (첫 페이지는 생략)").optional(),
+					parameterWithName("size").description("페이지 사이즈 (기본 20, 최대 100)").optional()
+				),
 				responseFields(
 					fieldWithPath("status").description("상태 코드"),
 					fieldWithPath("message").description("상태 메세지"),
-					fieldWithPath("data[].boardCommentId").description("게시글 댓글 아이디"),
-					fieldWithPath("data[].boardCommentContent").description("게시글 댓글 내용"),
-					fieldWithPath("data[].creator").description("게시글 댓글 작성자"),
-					fieldWithPath("data[].createAt").description("게시글 댓글 작성시간")
+					fieldWithPath("data.content[].boardCommentId").description("게시글 댓글 아이디"),
+					fieldWithPath("data.content[].boardCommentContent").description("게시글 댓글 내용"),
+					fieldWithPath("data.content[].creator").description("게시글 댓글 작성자"),
+					fieldWithPath("data.content[].createAt").description("게시글 댓글 작성시간"),
+					fieldWithPath("data.hasNext").description("다음 페이지 존재 여부"),
+					fieldWithPath("data.nextCursor").description("다음 페이지 조회에 사용할 커서").optional()
 				)));
 	}
 
@@ -21,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -35,12 +36,16 @@ import com.studysquad.board.request.BoardCreate;
 import com.studysquad.board.request.BoardEdit;
 import com.studysquad.board.request.BoardSearchCondition;
 import com.studysquad.board.response.BoardResponse;
+import com.studysquad.board.response.BoardSummary;
 import com.studysquad.board.service.BoardService;
 import com.studysquad.docs.util.TokenFactory;
+import com.studysquad.docs.util.UserRepositoryMockConfig;
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.global.security.Token;
 import com.studysquad.user.dto.LoginUser;
 
 @WebMvcTest(BoardController.class)
+@Import(UserRepositoryMockConfig.class)
 @AutoConfigureMockMvc(addFilters = false)
 @AutoConfigureRestDocs
 public class BoardDocumentationTest {
@@ -103,21 +108,20 @@ public class BoardDocumentationTest {
 	void successGetBoards() throws Exception {
 
 		PageRequest page = PageRequest.of(0, 10);
-		List<BoardResponse> responseData = LongStream.range(1, 3)
-			.mapToObj(i -> BoardResponse.builder()
+		List<BoardSummary> responseData = LongStream.range(1, 3)
+			.mapToObj(i -> BoardSummary.builder()
 				.boardId(i)
 				.boardTitle("게시글 제목" + i)
-				.boardContent("게시글 내용" + i)
+				.excerpt("게시글 내용" + i)
 				.categoryName("JAVA")
-				.missionTitle("미션 제목" + i)
-				.missionContent("미션 내용" + i)
 				.missionSequence(1)
 				.squadName("스쿼드 이름" + i)
 				.creator("게시글 작성자" + i)
+				.commentCount((int)i)
 				.build())
 			.collect(Collectors.toList());
 
-		Page<BoardResponse> response = new PageImpl<>(responseData, page, responseData.size());
+		Page<BoardSummary> response = new PageImpl<>(responseData, page, responseData.size());
 		BoardSearchCondition cond = BoardSearchCondition.builder()
 			.categoryName("JAVA")
 			.build();
@@ -148,10 +152,9 @@ public class BoardDocumentationTest {
 					fieldWithPath("data.content[].categoryName").description("카테고리 이름"),
 					fieldWithPath("data.content[].squadName").description("스쿼드 이름"),
 					fieldWithPath("data.content[].missionSequence").description("미션 순서"),
-					fieldWithPath("data.content[].missionTitle").description("미션 제목"),
-					fieldWithPath("data.content[].missionContent").description("미션 내용"),
 					fieldWithPath("data.content[].boardTitle").description("게시글 제목"),
-					fieldWithPath("data.content[].boardContent").description("게시글 내용"),
+					fieldWithPath("data.content[].excerpt").description("게시글 내용 요약"),
+					fieldWithPath("data.content[].commentCount").description("게시글 댓글 수"),
 					fieldWithPath("data.pageable.sort.empty").description("정렬 존재 여부"),
 					fieldWithPath("data.pageable.sort.sorted").description("정렬 여부"),
 					fieldWithPath("data.pageable.sort.unsorted").description("정렬이 안되어 있는지 여부"),
@@ -174,6 +177,62 @@ public class BoardDocumentationTest {
 			));
 	}
 
+	@Test
+	@DisplayName("게시글 커서 조회")
+	void successGetBoardsByCursor() throws Exception {
+		List<BoardSummary> responseData = LongStream.range(1, 4)
+			.map(i -> 4 - i)
+			.mapToObj(i -> BoardSummary.builder()
+				.boardId(i)
+				.boardTitle("게시글 제목" + i)
+				.excerpt("게시글 내용" + i)
+				.categoryName("JAVA")
+				.missionSequence(1)
+				.squadName("스쿼드 이름" + i)
+				.creator("게시글 작성자" + i)
+				.commentCount((int)i)
+				.build())
+			.collect(Collectors.toList());
+
+		CursorResponse<BoardSummary> response = CursorResponse.of(responseData, 2, BoardSummary::getBoardId, 3L);
+
+		when(boardService.getBoardsByCursor(any(BoardSearchCondition.class), any(), anyInt(), anyBoolean()))
+			.thenReturn(response);
+
+		mockMvc.perform(get("/api/boards/cursor")
+				.accept(MediaType.APPLICATION_JSON)
+				.param("cursor", "4")
+				.param("size", "2")
+				.param("withTotal", "true")
+				.param("categoryName", "JAVA"))
+			.andExpect(status().isOk())
+			.andDo(print())
+			.andDo(document("get-boards-with-cursor",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				requestParameters(
+					parameterWithName("cursor").description("마지막으로 조회한 게시글 아이디 (첫 페이지는 생략)").optional(),
+					parameterWithName("size").description("페이지 사이즈 (기본 10, 최대 100)").optional(),
+					parameterWithName("withTotal").description("전체 개수 조회 여부 (기본 true)").optional(),
+					parameterWithName("categoryName").description("카테고리 이름").optional()
+				),
+				responseFields(
+					fieldWithPath("status").description("상태 코드"),
+					fieldWithPath("message").description("상태 메세지"),
+					fieldWithPath("data.content[].boardId").description("게시글 아이디"),
+					fieldWithPath("data.content[].creator").description("게시글 작성자"),
+					fieldWithPath("data.content[].categoryName").description("카테고리 이름"),
+					fieldWithPath("data.content[].squadName").description("스쿼드 이름"),
+					fieldWithPath("data.content[].missionSequence").description("미션 순서"),
+					fieldWithPath("data.content[].boardTitle").description("게시글 제목"),
+					fieldWithPath("data.content[].excerpt").description("게시글 내용 요약"),
+					fieldWithPath("data.content[].commentCount").description("게시글 댓글 수"),
+					fieldWithPath("data.hasNext").description("다음 페이지 존재 여부"),
+					fieldWithPath("data.nextCursor").description("다음 페이지 조회에 사용할 커서").optional(),
+					fieldWithPath("data.totalCount").description("전체 게시글 수 (withTotal=false 이면 생략)").optional())
+			));
+	}
+
 	@Test
 	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
 	@DisplayName("게시글 작성 가능 조회")
@@ -215,17 +274,16 @@ public class BoardDocumentationTest {
 		Long squadId = 1L;
 
 		Token token = TokenFactory.createToken();
-		List<BoardResponse> response = LongStream.range(1, 3)
-			.mapToObj(i -> BoardResponse.builder()
+		List<BoardSummary> response = LongStream.range(1, 3)
+			.mapToObj(i -> BoardSummary.builder()
 				.boardId(i)
 				.boardTitle("게시글 제목" + i)
-				.boardContent("게시글 내용" + i)
+				.excerpt("게시글 내용" + i)
 				.categoryName("JAVA")
-				.missionTitle("미션 제목" + i)
-				.missionContent("미션 내용" + i)
 				.missionSequence(1)
 				.squadName("스쿼드 이름" + i)
 				.creator("게시글 작성자" + i)
+				.commentCount((int)i)
 				.build())
 			.collect(Collectors.toList());
 
@@ -254,10 +312,9 @@ public class BoardDocumentationTest {
 					fieldWithPath("data[].categoryName").description("카테고리 이름"),
 					fieldWithPath("data[].squadName").description("스쿼드 이름"),
 					fieldWithPath("data[].missionSequence").description("미션 순서"),
-					fieldWithPath("data[].missionTitle").description("미션 제목"),
-					fieldWithPath("data[].missionContent").description("미션 내용"),
 					fieldWithPath("data[].boardTitle").description("게시글 제목"),
-					fieldWithPath("data[].boardContent").description("게시글 내용")
+					fieldWithPath("data[].excerpt").description("게시글 내용 요약"),
+					fieldWithPath("data[].commentCount").description("게시글 댓글 수")
 				)));
 	}
 
@@ -21,12 +21,14 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studysquad.docs.util.TokenFactory;
+import com.studysquad.docs.util.UserRepositoryMockConfig;
 import com.studysquad.global.security.Token;
 import com.studysquad.mission.controller.MissionController;
 import com.studysquad.mission.domain.MissionStatus;
@@ -37,6 +39,7 @@ import com.studysquad.mission.service.MissionService;
 import com.studysquad.user.dto.LoginUser;
 
 @WebMvcTest(MissionController.class)
+@Import(UserRepositoryMockConfig.class)
 @AutoConfigureMockMvc(addFilters = false)
 @AutoConfigureRestDocs
 public class MissionDocumentationTest {
@@ -0,0 +1,75 @@
+package com.studysquad.docs;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.studysquad.docs.util.TokenFactory;
+import com.studysquad.docs.util.UserRepositoryMockConfig;
+import com.studysquad.global.security.Token;
+import com.studysquad.squad.controller.SquadActivityController;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadActivityService;
+import com.studysquad.squad.service.SquadActivityType;
+import com.studysquad.user.dto.LoginUser;
+
+@WebMvcTest(SquadActivityController.class)
+@Import(UserRepositoryMockConfig.class)
+@AutoConfigureMockMvc(addFilters = false)
+@AutoConfigureRestDocs
+public class SquadActivityDocumentationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+	@MockBean
+	private SquadActivityService squadActivityService;
+
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("스쿼드 활동 구독")
+	void successSubscribeSquadActivity() throws Exception {
+		Long squadId = 1L;
+
+		Token token = TokenFactory.createToken();
+
+		SseEmitter emitter = new SseEmitter();
+		emitter.send(SseEmitter.event()
+			.id("1")
+			.name(SquadActivityType.SQUAD_BOARD_CREATED.name())
+			.data(new SquadActivityEvent(squadId, SquadActivityType.SQUAD_BOARD_CREATED, 10L),
+				MediaType.APPLICATION_JSON));
+
+		when(squadActivityService.subscribe(any(Long.class), any(LoginUser.class)))
+			.thenReturn(emitter);
+
+		mockMvc.perform(get("/api/squad/{squadId}/activity", squadId)
+				.accept(MediaType.TEXT_EVENT_STREAM)
+				.header(token.getAccessToken().getHeader(), token.getAccessToken().getData()))
+			.andExpect(request().asyncStarted())
+			.andDo(print())
+			.andDo(document("subscribe-squad-activity",
+				requestHeaders(
+					headerWithName("Authorization").description("어세스 토큰")
+				),
+				pathParameters(
+					parameterWithName("squadId").description("스쿼드 아이디")
+				)));
+	}
+}
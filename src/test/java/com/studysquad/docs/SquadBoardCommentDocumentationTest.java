@@ -22,12 +22,16 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studysquad.docs.util.TokenFactory;
+import com.studysquad.docs.util.UserRepositoryMockConfig;
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.common.KeysetCursor;
 import com.studysquad.global.security.Token;
 import com.studysquad.sqaudboardcomment.controller.SquadBoardCommentController;
 import com.studysquad.sqaudboardcomment.dto.SquadBoardCommentCreateDto;
@@ -37,6 +41,7 @@ import com.studysquad.sqaudboardcomment.service.SquadBoardCommentService;
 import com.studysquad.user.dto.LoginUser;
 
 @WebMvcTest(SquadBoardCommentController.class)
+@Import(UserRepositoryMockConfig.class)
 @AutoConfigureMockMvc(addFilters = false)
 @AutoConfigureRestDocs
 public class SquadBoardCommentDocumentationTest {
@@ -97,6 +102,68 @@ public class SquadBoardCommentDocumentationTest {
 				)));
 	}
 
+	@Test
+	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
+	@DisplayName("스쿼드 게시글 댓글 커서 조회")
+	void successGetSquadBoardCommentsByCursor() throws Exception {
+
+		Long squadId = 1L;
+		Long squadBoardId = 1L;
+
+		Token token = TokenFactory.createToken();
+
+		List<SquadBoardCommentResponseDto> responseData = LongStream.range(11, 14)
+			.mapToObj(i -> SquadBoardCommentResponseDto.builder()
+				.squadBoardCommentId(i)
+				.commentContent("스쿼드 게시글 댓글 내용")
+				.creator("user" + i)
+				.createAt(LocalDateTime.now())
+				.build())
+			.collect(Collectors.toList());
+
+		CursorResponse<SquadBoardCommentResponseDto> response = CursorResponse.of(responseData, 2,
+			comment -> KeysetCursor.encode(comment.getCreateAt(), comment.getSquadBoardCommentId()));
+
+		when(squadBoardCommentService.getSquadBoardCommentsByCursor(any(LoginUser.class), any(Long.class),
+			any(Long.class), any(), anyInt()))
+			.thenReturn(response);
+
+		mockMvc.perform(
+				get("/api/squad/{squadId}/squadboard/{squadBoardId}/squadboardcomments/cursor",
+					squadId, squadBoardId)
+					.header(token.getAccessToken().getHeader(), token.getAccessToken().getData())
+					.param("cursor", KeysetCursor.encode(LocalDateTime.of(2023, 7, 1, 12, 0), 10L))
+					.param("size", "2")
+					.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andDo(print())
+			.andDo(document("get-squad-board-comments-with-cursor",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				requestHeaders(
+					headerWithName("Authorization").description("어세스 토큰")
+				),
+				pathParameters(
+					parameterWithName("squadId").description("스쿼드 아이디"),
+					parameterWithName("squadBoardId").description("스쿼드 게시글 아이디")
+				),
+				requestParameters(
+					parameterWithName("cursor").description("이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+						.optional(),
+					parameterWithName("size").description("페이지 사이즈 (기본 20, 최대 100)").optional()
+				),
+				responseFields(
+					fieldWithPath("status").description("상태 코드"),
+					fieldWithPath("message").description("상태 메세지"),
+					fieldWithPath("data.content[].squadBoardCommentId").description("스쿼드 게시글 댓글 아이디"),
+					fieldWithPath("data.content[].squadBoardCommentContent").description("스쿼드 게시글 댓글 내용"),
+					fieldWithPath("data.content[].creator").description("스쿼드 게시글 댓글 작성자"),
+					fieldWithPath("data.content[].createAt").description("스쿼드 게시글 댓글 생성 시간"),
+					fieldWithPath("data.hasNext").description("다음 페이지 존재 여부"),
+					fieldWithPath("data.nextCursor").description("다음 페이지 조회에 사용할 커서").optional()
+				)));
+	}
+
 	@Test
 	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
 	@DisplayName("스쿼드 게시글 댓글 생성")
@@ -22,12 +22,14 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studysquad.docs.util.TokenFactory;
+import com.studysquad.docs.util.UserRepositoryMockConfig;
 import com.studysquad.global.security.Token;
 import com.studysquad.squadboard.controller.SquadBoardController;
 import com.studysquad.squadboard.dto.SquadBoardCreateDto;
@@ -37,6 +39,7 @@ import com.studysquad.squadboard.service.SquadBoardService;
 import com.studysquad.user.dto.LoginUser;
 
 @WebMvcTest(SquadBoardController.class)
+@Import(UserRepositoryMockConfig.class)
 @AutoConfigureMockMvc(addFilters = false)
 @AutoConfigureRestDocs
 public class SquadBoardDocumentationTest {
@@ -62,6 +65,7 @@ public class SquadBoardDocumentationTest {
 			.squadBoardTitle("스쿼드 게시글 제목")
 			.squadBoardContent("스쿼드 게시글 내용")
 			.creator("userA")
+			.commentCount(3)
 			.build();
 
 		when(squadBoardService.getSquadBoard(any(LoginUser.class), any(Long.class), any(Long.class)))
@@ -89,7 +93,8 @@ public class SquadBoardDocumentationTest {
 					fieldWithPath("data.missionSequence").description("미션 순서"),
 					fieldWithPath("data.squadBoardTitle").description("스쿼드 게시글 제목"),
 					fieldWithPath("data.squadBoardContent").description("스쿼드 게시글 내용"),
-					fieldWithPath("data.creator").description("스쿼드 게시글 작성자")
+					fieldWithPath("data.creator").description("스쿼드 게시글 작성자"),
+					fieldWithPath("data.commentCount").description("스쿼드 게시글 댓글 수")
 				)));
 	}
 
@@ -107,6 +112,7 @@ public class SquadBoardDocumentationTest {
 				.squadBoardTitle("스쿼드 게시글 제목" + i)
 				.squadBoardContent("스쿼드 게시글 내용" + i)
 				.creator("user" + i)
+				.commentCount((int)i)
 				.build())
 			.collect(Collectors.toList());
 
@@ -134,7 +140,8 @@ public class SquadBoardDocumentationTest {
 					fieldWithPath("data[].missionSequence").description("미션 순서"),
 					fieldWithPath("data[].squadBoardTitle").description("스쿼드 게시글 제목"),
 					fieldWithPath("data[].squadBoardContent").description("스쿼드 게시글 내용"),
-					fieldWithPath("data[].creator").description("스쿼드 게시글 작성자")
+					fieldWithPath("data[].creator").description("스쿼드 게시글 작성자"),
+					fieldWithPath("data[].commentCount").description("스쿼드 게시글 댓글 수")
 				)));
 	}
 
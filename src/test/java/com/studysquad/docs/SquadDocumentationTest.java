@@ -21,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,6 +32,8 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studysquad.docs.util.TokenFactory;
+import com.studysquad.docs.util.UserRepositoryMockConfig;
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.global.security.Token;
 import com.studysquad.squad.controller.SquadController;
 import com.studysquad.squad.domain.SquadStatus;
@@ -41,10 +44,12 @@ import com.studysquad.squad.dto.SquadJoinDto;
 import com.studysquad.squad.dto.SquadResponseDto;
 import com.studysquad.squad.dto.SquadSearchCondition;
 import com.studysquad.squad.dto.UserSquadResponseDto;
+import com.studysquad.squad.service.SquadJoinFacade;
 import com.studysquad.squad.service.SquadService;
 import com.studysquad.user.dto.LoginUser;
 
 @WebMvcTest(SquadController.class)
+@Import(UserRepositoryMockConfig.class)
 @AutoConfigureMockMvc(addFilters = false)
 @AutoConfigureRestDocs
 public class SquadDocumentationTest {
@@ -55,6 +60,8 @@ public class SquadDocumentationTest {
 	private ObjectMapper objectMapper;
 	@MockBean
 	private SquadService squadService;
+	@MockBean
+	private SquadJoinFacade squadJoinFacade;
 
 	@Test
 	@DisplayName("스쿼드 단건 조회")
@@ -199,6 +206,58 @@ public class SquadDocumentationTest {
 				)));
 	}
 
+	@Test
+	@DisplayName("모집중인 스쿼드 커서 조회")
+	void successGetRecruitSquadsByCursor() throws Exception {
+		List<SquadResponseDto> responseData = LongStream.range(1, 4)
+			.map(i -> 4 - i)
+			.mapToObj(i -> SquadResponseDto.builder()
+				.squadId(i)
+				.userCount(3L)
+				.categoryName("JAVA")
+				.squadName("squad" + i)
+				.squadExplain("스쿼드 설명글 입니다" + i)
+				.creatorName("user" + i)
+				.build())
+			.collect(Collectors.toList());
+
+		CursorResponse<SquadResponseDto> responseDto = CursorResponse.of(responseData, 2,
+			SquadResponseDto::getSquadId);
+
+		when(squadService.getRecruitSquadsByCursor(any(SquadSearchCondition.class), any(), anyInt()))
+			.thenReturn(responseDto);
+
+		mockMvc.perform(get("/api/squad/recruit/cursor")
+				.accept(MediaType.APPLICATION_JSON)
+				.param("cursor", "4")
+				.param("size", "2")
+				.param("mentor", "true")
+				.param("categoryName", "JAVA"))
+			.andExpect(status().isOk())
+			.andDo(print())
+			.andDo(document("get-recruit-squad-cursor",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				requestParameters(
+					parameterWithName("cursor").description("마지막으로 조회한 스쿼드 아이디 (첫 페이지는 생략)").optional(),
+					parameterWithName("size").description("페이지 사이즈 (기본 10, 최대 100)").optional(),
+					parameterWithName("mentor").description("멘토 여부").optional(),
+					parameterWithName("categoryName").description("카테고리 이름").optional()
+				),
+				responseFields(
+					fieldWithPath("status").description("상태 코드"),
+					fieldWithPath("message").description("상태 메세지"),
+					fieldWithPath("data.content[].squadId").description("스쿼드 아이디"),
+					fieldWithPath("data.content[].userCount").description("스쿼드 인원"),
+					fieldWithPath("data.content[].categoryName").description("카테고리 이름"),
+					fieldWithPath("data.content[].squadName").description("스쿼드 이름"),
+					fieldWithPath("data.content[].squadExplain").description("스쿼드 설명"),
+					fieldWithPath("data.content[].creatorName").description("스쿼드 생성자 이름"),
+					fieldWithPath("data.hasNext").description("다음 페이지 존재 여부"),
+					fieldWithPath("data.nextCursor").description("다음 페이지 조회에 사용할 커서").optional()
+				)));
+	}
+
 	@Test
 	@WithMockUser(username = "aaa@aaa.com", roles = "USER")
 	@DisplayName("사용자 스쿼드 조회")
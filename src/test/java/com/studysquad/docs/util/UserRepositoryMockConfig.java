@@ -0,0 +1,30 @@
+package com.studysquad.docs.util;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+import com.studysquad.user.repository.UserRepository;
+
+@TestConfiguration
+public class UserRepositoryMockConfig {
+
+	@Bean
+	public UserRepository userRepository() {
+		UserRepository userRepository = mock(UserRepository.class);
+
+		when(userRepository.findByEmail(anyString())).thenAnswer(invocation -> Optional.of(User.builder()
+			.email(invocation.getArgument(0))
+			.nickname("nickname")
+			.role(Role.USER)
+			.build()));
+
+		return userRepository;
+	}
+}
@@ -0,0 +1,71 @@
+package com.studysquad.load;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시나리오별 응답 시간을 스레드 안전하게 모아 처리량과 백분위 지연 시간을 계산한다.
+ */
+public class LatencyRecorder {
+
+	private final String scenario;
+	private final AtomicLong errors = new AtomicLong();
+	private long[] latencies = new long[1024];
+	private int size;
+
+	public LatencyRecorder(String scenario) {
+		this.scenario = scenario;
+	}
+
+	public synchronized void record(long elapsedNanos) {
+		if (size == latencies.length) {
+			latencies = Arrays.copyOf(latencies, size * 2);
+		}
+		latencies[size++] = elapsedNanos;
+	}
+
+	public void recordError() {
+		errors.incrementAndGet();
+	}
+
+	public synchronized String report(long durationNanos) {
+		long[] sorted = Arrays.copyOf(latencies, size);
+		Arrays.sort(sorted);
+
+		double seconds = durationNanos / 1_000_000_000.0;
+
+		return String.format("%-22s requests=%7d errors=%6d throughput=%9.1f/s p50=%8.2fms p95=%8.2fms "
+				+ "p99=%8.2fms max=%8.2fms",
+			scenario, size, errors.get(), size / seconds,
+			millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+			millis(percentile(sorted, 0.99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+	}
+
+	public synchronized int getCount() {
+		return size;
+	}
+
+	public long getErrorCount() {
+		return errors.get();
+	}
+
+	public synchronized double percentileMillis(double percentile) {
+		long[] sorted = Arrays.copyOf(latencies, size);
+		Arrays.sort(sorted);
+
+		return millis(percentile(sorted, percentile));
+	}
+
+	private long percentile(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int)Math.ceil(percentile * sorted.length) - 1;
+
+		return sorted[Math.max(index, 0)];
+	}
+
+	private double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
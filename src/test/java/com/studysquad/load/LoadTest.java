@@ -0,0 +1,251 @@
+package com.studysquad.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.studysquad.global.security.JwtProvider;
+import com.studysquad.global.security.Token;
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+
+/**
+ * 임베디드 H2 위에서 애플리케이션을 띄우고 실제 HTTP 엔드포인트로 혼합 시나리오를 실행한다.
+ * 일반 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다.
+ * 규모와 실행 시간은 loadtest.* 시스템 프로퍼티로 조정하고, loadtest.max-p99-ms 를 주면 시나리오별 p99 를 검증한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+	"spring.datasource.url=jdbc:h2:mem:studysquad-load;DB_CLOSE_DELAY=-1",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"rate-limit.enabled=false"
+})
+public class LoadTest {
+
+	private static final String BROWSE_RECRUIT_SQUADS = "browse recruit squads";
+	private static final String READ_BOARD_FEED = "read board feed";
+	private static final String JOIN_SQUAD = "join squad";
+	private static final String POST_SQUAD_BOARD = "post squad board";
+	private static final String COMMENT_SQUAD_BOARD = "comment squad board";
+	private static final int POSTING_MENTEES = 2;
+
+	@LocalServerPort
+	int port;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	JwtProvider jwtProvider;
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+	private final Map<Long, Token> tokens = new ConcurrentHashMap<>();
+	private final AtomicInteger joinSequence = new AtomicInteger();
+	private final AtomicInteger postSequence = new AtomicInteger();
+	private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+	private SeededData seededData;
+	private int freeUsers;
+	private volatile boolean measuring;
+
+	@Test
+	@DisplayName("혼합 시나리오 부하 테스트")
+	void runMixedScenarios() throws Exception {
+		LoadTestVolume volume = LoadTestVolume.fromSystemProperties();
+		int threads = Integer.getInteger("loadtest.threads", 16);
+		long warmupNanos = TimeUnit.SECONDS.toNanos(Integer.getInteger("loadtest.warmup-seconds", 10));
+		long durationNanos = TimeUnit.SECONDS.toNanos(Integer.getInteger("loadtest.duration-seconds", 60));
+
+		long seedStart = System.nanoTime();
+		seededData = new LoadTestDataSeeder(jdbcTemplate, volume).seed();
+		freeUsers = volume.getUsers() - seededData.getSquadMembers();
+		System.out.printf("seeded %s in %d ms%n", volume,
+			TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+		for (String scenario : List.of(BROWSE_RECRUIT_SQUADS, READ_BOARD_FEED, JOIN_SQUAD, POST_SQUAD_BOARD,
+			COMMENT_SQUAD_BOARD)) {
+			recorders.put(scenario, new LatencyRecorder(scenario));
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		long start = System.nanoTime();
+		long measureStart = start + warmupNanos;
+		long deadline = measureStart + durationNanos;
+		List<Future<?>> workers = new ArrayList<>();
+
+		for (int i = 0; i < threads; i++) {
+			workers.add(executorService.submit(() -> runUntil(measureStart, deadline)));
+		}
+		for (Future<?> worker : workers) {
+			worker.get();
+		}
+		executorService.shutdown();
+
+		System.out.printf("threads=%d, warmup=%ds, duration=%ds%n", threads,
+			TimeUnit.NANOSECONDS.toSeconds(warmupNanos), TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+		recorders.values().forEach(recorder -> System.out.println(recorder.report(durationNanos)));
+
+		verifyRecorders();
+	}
+
+	private void runUntil(long measureStart, long deadline) {
+		while (System.nanoTime() < deadline) {
+			if (!measuring && System.nanoTime() >= measureStart) {
+				measuring = true;
+			}
+			runScenario(ThreadLocalRandom.current().nextInt(100));
+		}
+	}
+
+	private void runScenario(int dice) {
+		if (dice < 35) {
+			send(BROWSE_RECRUIT_SQUADS, get("/api/squad/recruit/cursor?size=10", null), false);
+		} else if (dice < 70) {
+			send(READ_BOARD_FEED, get("/api/boards/cursor?size=10&withTotal=false", null), false);
+		} else if (dice < 80) {
+			joinSquad();
+		} else if (dice < 85) {
+			postSquadBoard();
+		} else {
+			commentSquadBoard();
+		}
+	}
+
+	private void joinSquad() {
+		int sequence = joinSequence.getAndIncrement();
+
+		if (sequence >= freeUsers) {
+			commentSquadBoard();
+			return;
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long squadId = seededData.recruitSquadId(random.nextInt(seededData.getRecruitSquads()));
+		String body = String.format("{\"mentor\":%b}", random.nextInt(4) == 0);
+
+		send(JOIN_SQUAD, post("/api/squad/" + squadId + "/join", seededData.freeUserId(sequence), body), true);
+	}
+
+	private void postSquadBoard() {
+		int sequence = postSequence.getAndIncrement();
+
+		if (sequence >= seededData.getProcessSquads() * POSTING_MENTEES) {
+			commentSquadBoard();
+			return;
+		}
+		long squadId = sequence / POSTING_MENTEES + 1;
+		long userId = SeededData.mentorOf(squadId) + 2 + sequence % POSTING_MENTEES;
+		String body = "{\"squadBoardTitle\":\"load test\",\"squadBoardContent\":\"load test content\"}";
+
+		send(POST_SQUAD_BOARD, post("/api/squad/" + squadId + "/squadboard", userId, body), false);
+	}
+
+	private void commentSquadBoard() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long squadId = random.nextInt(seededData.getProcessSquads()) + 1;
+		long userId = SeededData.mentorOf(squadId) + random.nextInt(LoadTestDataSeeder.PROCESS_SQUAD_MEMBERS);
+		String body = "{\"squadBoardCommentContent\":\"load test comment\"}";
+
+		send(COMMENT_SQUAD_BOARD, post("/api/squad/" + squadId + "/squadboard/" + squadId + "/squadboardcomment",
+			userId, body), false);
+	}
+
+	private HttpRequest get(String path, Long userId) {
+		return authorize(HttpRequest.newBuilder(uri(path)).GET(), userId).build();
+	}
+
+	private HttpRequest post(String path, Long userId, String body) {
+		return authorize(HttpRequest.newBuilder(uri(path)), userId)
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+	}
+
+	private HttpRequest.Builder authorize(HttpRequest.Builder builder, Long userId) {
+		if (userId == null) {
+			return builder;
+		}
+		Token token = tokens.computeIfAbsent(userId, this::createToken);
+
+		return builder.header(token.getAccessToken().getHeader(), "Bearer " + token.getAccessToken().getData());
+	}
+
+	private void send(String scenario, HttpRequest request, boolean allowClientError) {
+		LatencyRecorder recorder = recorders.get(scenario);
+		long start = System.nanoTime();
+
+		try {
+			int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+			long elapsed = System.nanoTime() - start;
+
+			if (!measuring) {
+				return;
+			}
+			recorder.record(elapsed);
+			if (status >= 500 || status >= 400 && !allowClientError) {
+				recorder.recordError();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			if (measuring) {
+				recorder.recordError();
+			}
+		}
+	}
+
+	private void verifyRecorders() {
+		Integer maxP99Millis = Integer.getInteger("loadtest.max-p99-ms");
+
+		for (LatencyRecorder recorder : recorders.values()) {
+			assertThat(recorder.getCount()).isPositive();
+			assertThat(recorder.getErrorCount()).isZero();
+			if (maxP99Millis != null) {
+				assertThat(recorder.percentileMillis(0.99)).isLessThanOrEqualTo(maxP99Millis);
+			}
+		}
+	}
+
+	private Token createToken(Long userId) {
+		User user = User.builder()
+			.email("user" + userId + "@studysquad.com")
+			.password(LoadTestDataSeeder.ENCODED_PASSWORD)
+			.nickname("user" + userId)
+			.role(Role.USER)
+			.build();
+		ReflectionTestUtils.setField(user, "id", userId);
+
+		return jwtProvider.createToken(user);
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+}
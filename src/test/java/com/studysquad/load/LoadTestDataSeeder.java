@@ -0,0 +1,217 @@
+package com.studysquad.load;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 부하 테스트용 데이터를 JDBC 배치로 적재한다.
+ * 스쿼드의 30% 는 멘토 1명과 멘티 3명이 속한 진행중 스쿼드로, 나머지는 생성자 1명만 있는 모집중 스쿼드로 만든다.
+ * 어떤 스쿼드에도 속하지 않은 사용자는 가입 시나리오에서 사용한다.
+ */
+public class LoadTestDataSeeder {
+
+	static final int CATEGORY_COUNT = 5;
+	static final int PROCESS_SQUAD_MEMBERS = 4;
+	static final String ENCODED_PASSWORD = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2oZ4qPp2c6yV3rXq8dNnH2K";
+
+	private static final int BATCH_SIZE = 1000;
+	private static final int PROCESS_SQUAD_PERCENT = 30;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final LoadTestVolume volume;
+	private final LocalDateTime now = LocalDateTime.now();
+
+	public LoadTestDataSeeder(JdbcTemplate jdbcTemplate, LoadTestVolume volume) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.volume = volume;
+	}
+
+	public SeededData seed() {
+		int processSquads = volume.getSquads() * PROCESS_SQUAD_PERCENT / 100;
+		int recruitSquads = volume.getSquads() - processSquads;
+		int squadMembers = processSquads * PROCESS_SQUAD_MEMBERS + recruitSquads;
+
+		if (squadMembers > volume.getUsers()) {
+			throw new IllegalArgumentException("사용자 수가 스쿼드 멤버 수보다 적습니다: " + squadMembers);
+		}
+
+		insertCategories();
+		insertUsers();
+		insertSquads(processSquads);
+		insertUserSquads(processSquads, recruitSquads);
+		insertMissions(processSquads);
+		insertBoards(processSquads);
+		insertBoardComments(processSquads);
+		insertSquadBoards(processSquads);
+		restartIdentities();
+
+		return new SeededData(processSquads, recruitSquads, squadMembers);
+	}
+
+	private void insertCategories() {
+		batch("insert into category (category_id, category_name) values (?, ?)", CATEGORY_COUNT,
+			(statement, index) -> {
+				statement.setLong(1, index);
+				statement.setString(2, "CATEGORY" + index);
+			});
+	}
+
+	private void insertUsers() {
+		batch("insert into users (user_id, email, password, nickname, role, token_version) values (?, ?, ?, ?, ?, 0)",
+			volume.getUsers(), (statement, index) -> {
+				statement.setLong(1, index);
+				statement.setString(2, "user" + index + "@studysquad.com");
+				statement.setString(3, ENCODED_PASSWORD);
+				statement.setString(4, "user" + index);
+				statement.setString(5, "USER");
+			});
+	}
+
+	private void insertSquads(int processSquads) {
+		batch("insert into squad (squad_id, category_id, squad_name, squad_explain, squad_status, create_at, "
+			+ "member_count, has_mentor, creator_nickname) values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+			volume.getSquads(), (statement, index) -> {
+				boolean process = index <= processSquads;
+
+				statement.setLong(1, index);
+				statement.setLong(2, index % CATEGORY_COUNT + 1);
+				statement.setString(3, "squad" + index);
+				statement.setString(4, "squad explain " + index);
+				statement.setString(5, process ? "PROCESS" : "RECRUIT");
+				statement.setTimestamp(6, timestamp(index));
+				statement.setInt(7, process ? PROCESS_SQUAD_MEMBERS : 1);
+				statement.setBoolean(8, process);
+				statement.setString(9, "user" + creatorOf(index, processSquads));
+			});
+	}
+
+	private void insertUserSquads(int processSquads, int recruitSquads) {
+		int processMembers = processSquads * PROCESS_SQUAD_MEMBERS;
+
+		batch("insert into user_squad (user_squad_id, user_id, squad_id, is_mentor, is_creator) values (?, ?, ?, ?, ?)",
+			processMembers + recruitSquads, (statement, index) -> {
+				boolean process = index <= processMembers;
+				long squadId = process
+					? (index - 1) / PROCESS_SQUAD_MEMBERS + 1
+					: processSquads + index - processMembers;
+				int position = process ? (index - 1) % PROCESS_SQUAD_MEMBERS : 0;
+
+				statement.setLong(1, index);
+				statement.setLong(2, index);
+				statement.setLong(3, squadId);
+				statement.setBoolean(4, process && position == 0);
+				statement.setBoolean(5, position == 0);
+			});
+	}
+
+	private void insertMissions(int processSquads) {
+		batch("insert into mission (mission_id, mission_title, mission_content, mission_status, mission_sequence, "
+			+ "squad_id) values (?, ?, ?, ?, 1, ?)", processSquads, (statement, index) -> {
+			statement.setLong(1, index);
+			statement.setString(2, "mission" + index);
+			statement.setString(3, "mission content " + index);
+			statement.setString(4, "PROCESS");
+			statement.setLong(5, index);
+		});
+	}
+
+	private void insertBoards(int processSquads) {
+		batch("insert into board (board_id, squad_id, user_id, mission_id, title, content, create_at) "
+			+ "values (?, ?, ?, ?, ?, ?, ?)", volume.getBoards(), (statement, index) -> {
+			long squadId = (index - 1) % processSquads + 1;
+
+			statement.setLong(1, index);
+			statement.setLong(2, squadId);
+			statement.setLong(3, SeededData.mentorOf(squadId) + 1);
+			statement.setLong(4, squadId);
+			statement.setString(5, "board" + index);
+			statement.setString(6, "board content " + index);
+			statement.setTimestamp(7, timestamp(index));
+		});
+	}
+
+	private void insertBoardComments(int processSquads) {
+		batch("insert into board_comment (board_comment_id, board_id, user_id, board_comment_content, create_at) "
+			+ "values (?, ?, ?, ?, ?)", volume.getComments(), (statement, index) -> {
+			long boardId = (index - 1) % volume.getBoards() + 1;
+			long squadId = (boardId - 1) % processSquads + 1;
+
+			statement.setLong(1, index);
+			statement.setLong(2, boardId);
+			statement.setLong(3, SeededData.mentorOf(squadId));
+			statement.setString(4, "comment " + index);
+			statement.setTimestamp(5, timestamp(index));
+		});
+	}
+
+	private void insertSquadBoards(int processSquads) {
+		batch("insert into squad_board (squad_board_id, user_id, squad_id, mission_id, squad_board_title, "
+			+ "squad_board_content, create_at) values (?, ?, ?, ?, ?, ?, ?)", processSquads, (statement, index) -> {
+			statement.setLong(1, index);
+			statement.setLong(2, SeededData.mentorOf(index) + 1);
+			statement.setLong(3, index);
+			statement.setLong(4, index);
+			statement.setString(5, "squad board " + index);
+			statement.setString(6, "squad board content " + index);
+			statement.setTimestamp(7, timestamp(index));
+		});
+	}
+
+	private void restartIdentities() {
+		restartIdentity("category", CATEGORY_COUNT);
+		restartIdentity("users", volume.getUsers());
+		restartIdentity("squad", volume.getSquads());
+		restartIdentity("user_squad", volume.getUsers());
+		restartIdentity("board", volume.getBoards());
+		restartIdentity("board_comment", volume.getComments());
+		restartIdentity("squad_board", volume.getSquads());
+		restartIdentity("mission", volume.getSquads());
+	}
+
+	private void restartIdentity(String tableName, long maxId) {
+		String columnName = tableName.equals("users") ? "user_id" : tableName + "_id";
+
+		jdbcTemplate.execute("alter table " + tableName + " alter column " + columnName
+			+ " restart with " + (maxId + 1));
+	}
+
+	private long creatorOf(long squadId, int processSquads) {
+		if (squadId <= processSquads) {
+			return SeededData.mentorOf(squadId);
+		}
+		return (long)processSquads * PROCESS_SQUAD_MEMBERS + squadId - processSquads;
+	}
+
+	private Timestamp timestamp(long index) {
+		return Timestamp.valueOf(now.minusSeconds(index));
+	}
+
+	private void batch(String sql, int count, RowBinder binder) {
+		for (int start = 1; start <= count; start += BATCH_SIZE) {
+			int from = start;
+			int size = Math.min(BATCH_SIZE, count - start + 1);
+
+			jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement statement, int i) throws SQLException {
+					binder.bind(statement, from + i);
+				}
+
+				@Override
+				public int getBatchSize() {
+					return size;
+				}
+			});
+		}
+	}
+
+	@FunctionalInterface
+	private interface RowBinder {
+		void bind(PreparedStatement statement, int index) throws SQLException;
+	}
+}
@@ -0,0 +1,35 @@
+package com.studysquad.load;
+
+import lombok.Getter;
+
+/**
+ * 부하 테스트 데이터 규모. -Dloadtest.users 와 같은 시스템 프로퍼티로 조정한다.
+ */
+@Getter
+public class LoadTestVolume {
+
+	private final int users;
+	private final int squads;
+	private final int boards;
+	private final int comments;
+
+	private LoadTestVolume(int users, int squads, int boards, int comments) {
+		this.users = users;
+		this.squads = squads;
+		this.boards = boards;
+		this.comments = comments;
+	}
+
+	public static LoadTestVolume fromSystemProperties() {
+		return new LoadTestVolume(
+			Integer.getInteger("loadtest.users", 100_000),
+			Integer.getInteger("loadtest.squads", 20_000),
+			Integer.getInteger("loadtest.boards", 200_000),
+			Integer.getInteger("loadtest.comments", 200_000));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("users=%d, squads=%d, boards=%d, comments=%d", users, squads, boards, comments);
+	}
+}
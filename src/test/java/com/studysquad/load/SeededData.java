@@ -0,0 +1,35 @@
+package com.studysquad.load;
+
+import static com.studysquad.load.LoadTestDataSeeder.*;
+
+import lombok.Getter;
+
+/**
+ * 적재된 데이터의 id 배치. 진행중 스쿼드가 1번부터, 모집중 스쿼드가 그 다음 번호부터 배치된다.
+ * 진행중 스쿼드의 첫 번째 멤버는 멘토이고, 두 번째 멘티는 이미 스쿼드 게시글을 작성한 상태다.
+ */
+@Getter
+public class SeededData {
+
+	private final int processSquads;
+	private final int recruitSquads;
+	private final int squadMembers;
+
+	public SeededData(int processSquads, int recruitSquads, int squadMembers) {
+		this.processSquads = processSquads;
+		this.recruitSquads = recruitSquads;
+		this.squadMembers = squadMembers;
+	}
+
+	public static long mentorOf(long processSquadId) {
+		return (processSquadId - 1) * PROCESS_SQUAD_MEMBERS + 1;
+	}
+
+	public long recruitSquadId(int index) {
+		return processSquads + index % recruitSquads + 1;
+	}
+
+	public long freeUserId(int index) {
+		return squadMembers + index + 1L;
+	}
+}
@@ -0,0 +1,132 @@
+package com.studysquad.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.studysquad.category.domain.Category;
+import com.studysquad.category.domain.CategoryChangedEvent;
+import com.studysquad.category.domain.CategoryRemovedEvent;
+import com.studysquad.category.repository.CategoryRegistry;
+import com.studysquad.category.repository.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryRegistryTest {
+
+	@Mock
+	CategoryRepository categoryRepository;
+	CategoryRegistry categoryRegistry;
+
+	@BeforeEach
+	void init() {
+		categoryRegistry = new CategoryRegistry(categoryRepository, 60000, 100);
+	}
+
+	@Test
+	@DisplayName("카테고리 전체를 불러와 이름과 아이디로 조회")
+	void successRefresh() {
+		when(categoryRepository.findAll())
+			.thenReturn(List.of(createCategory(1L, "JAVA"), createCategory(2L, "Python")));
+
+		categoryRegistry.refresh();
+
+		assertThat(categoryRegistry.findIdByName("JAVA")).contains(1L);
+		assertThat(categoryRegistry.findNameById(2L)).contains("Python");
+		assertThat(categoryRegistry.findIdByName("Go")).isEmpty();
+		assertThat(categoryRegistry.findIdByName(null)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("카테고리 이름 변경 시 이전 이름은 조회되지 않음")
+	void successRegisterRenamedCategory() {
+		categoryRegistry.register(new CategoryChangedEvent(1L, "JAVA"));
+		categoryRegistry.register(new CategoryChangedEvent(1L, "Kotlin"));
+
+		assertThat(categoryRegistry.findIdByName("JAVA")).isEmpty();
+		assertThat(categoryRegistry.findIdByName("Kotlin")).contains(1L);
+		assertThat(categoryRegistry.findNameById(1L)).contains("Kotlin");
+	}
+
+	@Test
+	@DisplayName("삭제된 카테고리는 조회되지 않음")
+	void successUnregister() {
+		categoryRegistry.register(new CategoryChangedEvent(1L, "JAVA"));
+
+		categoryRegistry.unregister(new CategoryRemovedEvent(1L));
+
+		assertThat(categoryRegistry.findIdByName("JAVA")).isEmpty();
+		assertThat(categoryRegistry.findNameById(1L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("등록되지 않은 카테고리는 DB에서 조회 후 등록")
+	void successFindCategoryFromRepositoryWhenMissing() {
+		when(categoryRepository.findByCategoryName("JAVA"))
+			.thenReturn(Optional.of(createCategory(1L, "JAVA")));
+
+		assertThat(categoryRegistry.findIdByName("JAVA")).contains(1L);
+		assertThat(categoryRegistry.findNameById(1L)).contains("JAVA");
+		verify(categoryRepository, times(1)).findByCategoryName("JAVA");
+		verify(categoryRepository, never()).findById(1L);
+	}
+
+	@Test
+	@DisplayName("DB에도 없는 카테고리는 다시 조회하지 않음")
+	void successCacheMissingCategory() {
+		when(categoryRepository.findByCategoryName("Go")).thenReturn(Optional.empty());
+		when(categoryRepository.findById(3L)).thenReturn(Optional.empty());
+
+		assertThat(categoryRegistry.findIdByName("Go")).isEmpty();
+		assertThat(categoryRegistry.findIdByName("Go")).isEmpty();
+		assertThat(categoryRegistry.findNameById(3L)).isEmpty();
+		assertThat(categoryRegistry.findNameById(3L)).isEmpty();
+
+		verify(categoryRepository, times(1)).findByCategoryName("Go");
+		verify(categoryRepository, times(1)).findById(3L);
+	}
+
+	@Test
+	@DisplayName("카테고리가 등록되면 없던 카테고리 캐시를 비움")
+	void successRegisterMissingCategory() {
+		when(categoryRepository.findByCategoryName("Go")).thenReturn(Optional.empty());
+		when(categoryRepository.findById(3L)).thenReturn(Optional.empty());
+
+		categoryRegistry.findIdByName("Go");
+		categoryRegistry.findNameById(3L);
+		categoryRegistry.register(new CategoryChangedEvent(3L, "Go"));
+
+		assertThat(categoryRegistry.findIdByName("Go")).contains(3L);
+		assertThat(categoryRegistry.findNameById(3L)).contains("Go");
+	}
+
+	@Test
+	@DisplayName("전체를 다시 불러오면 없던 카테고리도 다시 조회")
+	void successRefreshClearsMissingCategory() {
+		when(categoryRepository.findByCategoryName("Go")).thenReturn(Optional.empty());
+		when(categoryRepository.findAll()).thenReturn(List.of());
+
+		categoryRegistry.findIdByName("Go");
+		categoryRegistry.refresh();
+		categoryRegistry.findIdByName("Go");
+
+		verify(categoryRepository, times(2)).findByCategoryName("Go");
+	}
+
+	private Category createCategory(Long id, String categoryName) {
+		Category category = Category.builder()
+			.categoryName(categoryName)
+			.build();
+		ReflectionTestUtils.setField(category, "id", id);
+		return category;
+	}
+}
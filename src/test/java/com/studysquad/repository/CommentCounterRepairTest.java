@@ -0,0 +1,132 @@
+package com.studysquad.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.studysquad.board.domain.Board;
+import com.studysquad.board.repository.BoardRepository;
+import com.studysquad.boardcomment.domain.BoardComment;
+import com.studysquad.boardcomment.repository.BoardCommentRepository;
+import com.studysquad.controller.util.DatabaseCleanUp;
+import com.studysquad.sqaudboardcomment.domain.SquadBoardComment;
+import com.studysquad.sqaudboardcomment.repository.SquadBoardCommentRepository;
+import com.studysquad.squadboard.domain.SquadBoard;
+import com.studysquad.squadboard.repository.SquadBoardRepository;
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+import com.studysquad.user.repository.UserRepository;
+
+@SpringBootTest
+public class CommentCounterRepairTest {
+
+	@Autowired
+	DatabaseCleanUp databaseCleanUp;
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	@Autowired
+	UserRepository userRepository;
+	@Autowired
+	BoardRepository boardRepository;
+	@Autowired
+	BoardCommentRepository boardCommentRepository;
+	@Autowired
+	SquadBoardRepository squadBoardRepository;
+	@Autowired
+	SquadBoardCommentRepository squadBoardCommentRepository;
+
+	User user;
+
+	@BeforeEach
+	void init() {
+		databaseCleanUp.cleanUp();
+		user = userRepository.save(User.builder()
+			.email("aaa@aaa.com")
+			.nickname("nickname")
+			.role(Role.USER)
+			.build());
+	}
+
+	@Test
+	@DisplayName("어긋난 게시글 댓글 수만 실제 댓글 수로 보정")
+	void successRepairBoardCommentCounters() {
+		Board drifted = boardRepository.save(createBoard());
+		Board intact = boardRepository.save(createBoard());
+
+		saveBoardComments(drifted, 3);
+		saveBoardComments(intact, 2);
+		boardRepository.repairCommentCounters();
+
+		jdbcTemplate.update("update board set comment_count = 10 where board_id = ?", drifted.getId());
+
+		long repaired = boardRepository.repairCommentCounters();
+
+		assertThat(repaired).isEqualTo(1);
+		assertThat(boardRepository.findById(drifted.getId()).orElseThrow().getCommentCount()).isEqualTo(3);
+		assertThat(boardRepository.findById(intact.getId()).orElseThrow().getCommentCount()).isEqualTo(2);
+		assertThat(boardRepository.repairCommentCounters()).isZero();
+	}
+
+	@Test
+	@DisplayName("어긋난 스쿼드 게시글 댓글 수만 실제 댓글 수로 보정")
+	void successRepairSquadBoardCommentCounters() {
+		SquadBoard drifted = squadBoardRepository.save(createSquadBoard());
+		SquadBoard intact = squadBoardRepository.save(createSquadBoard());
+
+		saveSquadBoardComments(drifted, 3);
+		saveSquadBoardComments(intact, 2);
+		squadBoardRepository.repairCommentCounters();
+
+		jdbcTemplate.update("update squad_board set comment_count = 0 where squad_board_id = ?", drifted.getId());
+
+		long repaired = squadBoardRepository.repairCommentCounters();
+
+		assertThat(repaired).isEqualTo(1);
+		assertThat(squadBoardRepository.findById(drifted.getId()).orElseThrow().getCommentCount()).isEqualTo(3);
+		assertThat(squadBoardRepository.findById(intact.getId()).orElseThrow().getCommentCount()).isEqualTo(2);
+		assertThat(squadBoardRepository.repairCommentCounters()).isZero();
+	}
+
+	private Board createBoard() {
+		return Board.builder()
+			.user(user)
+			.title("title")
+			.content("content")
+			.build();
+	}
+
+	private SquadBoard createSquadBoard() {
+		return SquadBoard.builder()
+			.user(user)
+			.squadBoardTitle("squadBoardTitle")
+			.squadBoardContent("squadBoardContent")
+			.build();
+	}
+
+	private void saveBoardComments(Board board, int count) {
+		IntStream.range(0, count)
+			.mapToObj(i -> BoardComment.builder()
+				.board(board)
+				.user(user)
+				.boardCommentContent("boardCommentContent" + i)
+				.build())
+			.forEach(boardCommentRepository::save);
+	}
+
+	private void saveSquadBoardComments(SquadBoard squadBoard, int count) {
+		IntStream.range(0, count)
+			.mapToObj(i -> SquadBoardComment.builder()
+				.squadBoard(squadBoard)
+				.user(user)
+				.squadBoardCommentContent("squadBoardCommentContent" + i)
+				.build())
+			.forEach(squadBoardCommentRepository::save);
+	}
+}
@@ -0,0 +1,79 @@
+package com.studysquad.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.studysquad.session.dto.RefreshTokenSession;
+import com.studysquad.session.repository.InMemoryRefreshTokenStore;
+import com.studysquad.user.domain.User;
+import com.studysquad.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryRefreshTokenStoreTest {
+
+	@Mock
+	UserRepository userRepository;
+	InMemoryRefreshTokenStore refreshTokenStore;
+
+	@BeforeEach
+	void init() {
+		refreshTokenStore = new InMemoryRefreshTokenStore(userRepository, 60000L, 100);
+	}
+
+	@Test
+	@DisplayName("RefreshToken으로 사용자 조회")
+	void successFindUser() {
+		User user = User.builder()
+			.email("aaa@aaa.com")
+			.nickname("nickname")
+			.build();
+		refreshTokenStore.save("refreshToken", createSession(1L));
+
+		when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+		assertThat(refreshTokenStore.findUser("refreshToken")).contains(user);
+		assertThat(refreshTokenStore.findUser("unknownToken")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("사용자의 RefreshToken만 모두 삭제")
+	void successDeleteAll() {
+		refreshTokenStore.save("refreshToken1", createSession(1L));
+		refreshTokenStore.save("refreshToken2", createSession(1L));
+		refreshTokenStore.save("otherRefreshToken", createSession(2L));
+
+		refreshTokenStore.deleteAll(1L);
+
+		assertThat(refreshTokenStore.find("refreshToken1")).isEmpty();
+		assertThat(refreshTokenStore.find("refreshToken2")).isEmpty();
+		assertThat(refreshTokenStore.find("otherRefreshToken")).isPresent();
+	}
+
+	@Test
+	@DisplayName("재발급으로 교체된 RefreshToken도 로그아웃 시 삭제")
+	void successDeleteAllAfterRotate() {
+		refreshTokenStore.save("refreshToken", createSession(1L));
+
+		assertThat(refreshTokenStore.rotate("refreshToken", "newRefreshToken")).isTrue();
+		refreshTokenStore.deleteAll(1L);
+
+		assertThat(refreshTokenStore.find("refreshToken")).isEmpty();
+		assertThat(refreshTokenStore.find("newRefreshToken")).isEmpty();
+	}
+
+	private RefreshTokenSession createSession(Long userId) {
+		return RefreshTokenSession.builder()
+			.userId(userId)
+			.device("device")
+			.build();
+	}
+}
@@ -0,0 +1,80 @@
+package com.studysquad.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.studysquad.board.repository.LocalBoardCache;
+import com.studysquad.board.response.BoardResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LocalBoardCacheTest {
+
+	LocalBoardCache boardCache;
+
+	@BeforeEach
+	void init() {
+		boardCache = new LocalBoardCache(new SimpleMeterRegistry(), 100, 60000);
+	}
+
+	@Test
+	@DisplayName("동시에 같은 게시글을 조회하면 한 번만 불러옴")
+	void successLoadOnceWithConcurrentRequests() throws Exception {
+		int requestCount = 8;
+		AtomicInteger loadCount = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+
+		Future<?>[] results = new Future<?>[requestCount];
+		for (int i = 0; i < requestCount; i++) {
+			results[i] = executorService.submit(() -> boardCache.get(1L, boardId -> {
+				loadCount.incrementAndGet();
+				awaitQuietly(loading);
+				return Optional.of(createBoard(boardId));
+			}));
+		}
+		Thread.sleep(100);
+		loading.countDown();
+
+		for (Future<?> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(boardCache.get(1L, boardId -> Optional.empty()));
+		}
+		executorService.shutdown();
+
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 게시글은 캐시하지 않음")
+	void successNotCacheMissingBoard() {
+		assertThat(boardCache.get(1L, boardId -> Optional.empty())).isEmpty();
+		assertThat(boardCache.get(1L, boardId -> Optional.of(createBoard(boardId)))).isPresent();
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private BoardResponse createBoard(Long boardId) {
+		return BoardResponse.builder()
+			.boardId(boardId)
+			.boardTitle("boardTitle")
+			.boardContent("boardContent")
+			.build();
+	}
+}
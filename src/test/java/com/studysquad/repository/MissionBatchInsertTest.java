@@ -0,0 +1,103 @@
+package com.studysquad.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.studysquad.global.query.QueryStatistics;
+import com.studysquad.global.query.QueryStatisticsHolder;
+import com.studysquad.mission.domain.Mission;
+import com.studysquad.mission.domain.MissionStatus;
+import com.studysquad.mission.repository.MissionRepository;
+
+public class MissionBatchInsertTest {
+
+	private static final int MISSION_COUNT = 120;
+
+	@Nested
+	@SpringBootTest(properties = "query.statistics.enabled=true")
+	class IdentityTest {
+
+		@Autowired
+		MissionRepository missionRepository;
+		@Autowired
+		JdbcTemplate jdbcTemplate;
+
+		@AfterEach
+		void cleanUp() {
+			jdbcTemplate.update("delete from mission");
+		}
+
+		@Test
+		@DisplayName("IDENTITY 전략은 미션마다 insert 문을 실행")
+		void successInsertOneByOneWithIdentity() {
+			QueryStatistics statistics = saveMissions(missionRepository);
+
+			assertThat(insertStatementCount(statistics)).isEqualTo(MISSION_COUNT);
+		}
+	}
+
+	@Nested
+	@SpringBootTest(properties = {"query.statistics.enabled=true", "jpa.mission-sequence.enabled=true"})
+	class SequenceTest {
+
+		@Autowired
+		MissionRepository missionRepository;
+		@Autowired
+		JdbcTemplate jdbcTemplate;
+
+		@AfterEach
+		void cleanUp() {
+			jdbcTemplate.update("delete from mission");
+		}
+
+		@Test
+		@DisplayName("시퀀스 전략은 미션 insert 를 배치 크기만큼 묶어서 실행")
+		void successInsertInBatchesWithSequence() {
+			QueryStatistics statistics = saveMissions(missionRepository);
+
+			assertThat(insertStatementCount(statistics)).isEqualTo(3);
+			assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(8);
+		}
+	}
+
+	private QueryStatistics saveMissions(MissionRepository missionRepository) {
+		QueryStatistics statistics = QueryStatisticsHolder.start("MissionBatchInsertTest");
+
+		try {
+			missionRepository.saveAll(createMissions());
+		} finally {
+			QueryStatisticsHolder.clear();
+		}
+		return statistics;
+	}
+
+	private int insertStatementCount(QueryStatistics statistics) {
+		return statistics.getStatementShapes().entrySet().stream()
+			.filter(shape -> shape.getKey().startsWith("insert"))
+			.mapToInt(Map.Entry::getValue)
+			.sum();
+	}
+
+	private List<Mission> createMissions() {
+		return IntStream.rangeClosed(1, MISSION_COUNT)
+			.mapToObj(sequence -> Mission.builder()
+				.missionTitle("missionTitle" + sequence)
+				.missionContent("missionContent" + sequence)
+				.missionStatus(MissionStatus.NOT_PROCESS)
+				.missionSequence(sequence)
+				.build())
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,107 @@
+package com.studysquad.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.studysquad.controller.util.DatabaseCleanUp;
+import com.studysquad.squad.domain.Squad;
+import com.studysquad.squad.domain.SquadStatus;
+import com.studysquad.squad.repository.SquadRepository;
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+import com.studysquad.user.repository.UserRepository;
+import com.studysquad.usersquad.domain.UserSquad;
+import com.studysquad.usersquad.repository.UserSquadRepository;
+
+@SpringBootTest
+public class SquadCounterRepairTest {
+
+	@Autowired
+	DatabaseCleanUp databaseCleanUp;
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	@Autowired
+	UserRepository userRepository;
+	@Autowired
+	SquadRepository squadRepository;
+	@Autowired
+	UserSquadRepository userSquadRepository;
+
+	@BeforeEach
+	void init() {
+		databaseCleanUp.cleanUp();
+	}
+
+	@Test
+	@DisplayName("어긋난 스쿼드 카운터만 실제 값으로 보정")
+	void successRepairDriftedCounters() {
+		User creator = userRepository.save(createUser("aaa@aaa.com", "creator"));
+		User mentor = userRepository.save(createUser("bbb@bbb.com", "mentor"));
+		Squad drifted = squadRepository.save(createSquad());
+		Squad intact = squadRepository.save(createSquad());
+
+		userSquadRepository.save(createUserSquad(creator, drifted, false, true));
+		userSquadRepository.save(createUserSquad(mentor, drifted, true, false));
+		userSquadRepository.save(createUserSquad(creator, intact, false, true));
+		squadRepository.repairMemberCounters();
+
+		jdbcTemplate.update("update squad set member_count = 0, has_mentor = false, creator_nickname = null "
+			+ "where squad_id = ?", drifted.getId());
+
+		long repaired = squadRepository.repairMemberCounters();
+
+		Squad repairedSquad = squadRepository.findById(drifted.getId()).orElseThrow();
+		Squad intactSquad = squadRepository.findById(intact.getId()).orElseThrow();
+
+		assertThat(repaired).isEqualTo(3);
+		assertThat(repairedSquad.getMemberCount()).isEqualTo(2);
+		assertThat(repairedSquad.isHasMentor()).isTrue();
+		assertThat(repairedSquad.getCreatorNickname()).isEqualTo("creator");
+		assertThat(intactSquad.getMemberCount()).isEqualTo(1);
+		assertThat(intactSquad.isHasMentor()).isFalse();
+		assertThat(intactSquad.getCreatorNickname()).isEqualTo("creator");
+	}
+
+	@Test
+	@DisplayName("어긋난 카운터가 없으면 아무 행도 수정하지 않음")
+	void successRepairNothingWithoutDrift() {
+		User creator = userRepository.save(createUser("aaa@aaa.com", "creator"));
+		Squad squad = squadRepository.save(createSquad());
+
+		userSquadRepository.save(createUserSquad(creator, squad, false, true));
+		squadRepository.repairMemberCounters();
+
+		assertThat(squadRepository.repairMemberCounters()).isZero();
+	}
+
+	private User createUser(String email, String nickname) {
+		return User.builder()
+			.email(email)
+			.nickname(nickname)
+			.role(Role.USER)
+			.build();
+	}
+
+	private Squad createSquad() {
+		return Squad.builder()
+			.squadName("squadName")
+			.squadExplain("squadExplain")
+			.squadStatus(SquadStatus.PROCESS)
+			.build();
+	}
+
+	private UserSquad createUserSquad(User user, Squad squad, boolean isMentor, boolean isCreator) {
+		return UserSquad.builder()
+			.user(user)
+			.squad(squad)
+			.isMentor(isMentor)
+			.isCreator(isCreator)
+			.build();
+	}
+}
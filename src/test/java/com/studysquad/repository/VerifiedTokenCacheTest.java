@@ -0,0 +1,126 @@
+package com.studysquad.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.studysquad.global.security.JwtProvider;
+import com.studysquad.global.security.UserPrincipal;
+import com.studysquad.global.security.VerifiedTokenCache;
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+import com.studysquad.user.repository.UserRepository;
+import com.studysquad.user.service.TokenVersionService;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class VerifiedTokenCacheTest {
+
+	private static final String SECRET_KEY = "verified-token-cache-test-secret-key-0123456789";
+	private static final long ACCESS_EXPIRATION = 60000;
+
+	JwtProvider jwtProvider;
+	User user;
+
+	@BeforeEach
+	void init() {
+		jwtProvider = spy(new JwtProvider(SECRET_KEY, ACCESS_EXPIRATION, "Authorization", 120000L,
+			"Authorization-refresh", true));
+		user = createUser();
+	}
+
+	@Test
+	@DisplayName("검증된 토큰은 다시 파싱하지 않고 캐시에서 조회")
+	void successParseFromCache() {
+		VerifiedTokenCache tokenCache = createTokenCache(true);
+		String token = jwtProvider.createToken(user).getAccessToken().getData();
+
+		Optional<Claims> first = tokenCache.parse(token);
+		Optional<Claims> second = tokenCache.parse(token);
+
+		assertThat(first).isPresent();
+		assertThat(second).containsSame(first.get());
+		then(jwtProvider).should(times(1)).parse(token);
+	}
+
+	@Test
+	@DisplayName("캐시된 토큰이 만료되면 빈 결과를 리턴하고 캐시에서 제거")
+	void failParseExpiredCachedToken() {
+		VerifiedTokenCache tokenCache = createTokenCache(true);
+		String token = jwtProvider.createToken(user).getAccessToken().getData();
+		Claims cached = tokenCache.parse(token).orElseThrow();
+
+		cached.setExpiration(new Date(System.currentTimeMillis() - 1000));
+
+		assertThat(tokenCache.parse(token)).isEmpty();
+		assertThat(tokenCache.parse(token)).isPresent();
+		then(jwtProvider).should(times(2)).parse(token);
+	}
+
+	@Test
+	@DisplayName("캐시를 사용하지 않으면 매번 토큰을 파싱")
+	void successParseEveryTimeWhenDisabled() {
+		VerifiedTokenCache tokenCache = createTokenCache(false);
+		String token = jwtProvider.createToken(user).getAccessToken().getData();
+
+		tokenCache.parse(token);
+		tokenCache.parse(token);
+
+		then(jwtProvider).should(times(2)).parse(token);
+	}
+
+	@Test
+	@DisplayName("유효하지 않은 토큰은 캐시하지 않음")
+	void failParseInvalidToken() {
+		VerifiedTokenCache tokenCache = createTokenCache(true);
+
+		assertThat(tokenCache.parse("invalidToken")).isEmpty();
+		assertThat(tokenCache.parse("invalidToken")).isEmpty();
+		then(jwtProvider).should(times(2)).parse("invalidToken");
+	}
+
+	@Test
+	@DisplayName("캐시된 토큰이라도 토큰 버전이 바뀌면 인증 실패")
+	void failAuthenticateCachedTokenWithRevokedVersion() {
+		VerifiedTokenCache tokenCache = createTokenCache(true);
+		UserRepository userRepository = mock(UserRepository.class);
+		TokenVersionService tokenVersionService = new TokenVersionService(userRepository, ACCESS_EXPIRATION,
+			100, 30000);
+		String token = jwtProvider.createToken(user).getAccessToken().getData();
+
+		given(userRepository.findTokenVersionById(user.getId()))
+			.willReturn(Optional.of(user.getTokenVersion()));
+
+		UserPrincipal before = tokenCache.parse(token).flatMap(jwtProvider::getPrincipal).orElseThrow();
+		assertThat(tokenVersionService.isCurrentVersion(before)).isTrue();
+
+		tokenVersionService.updateVersion(user.getId(), user.getTokenVersion() + 1);
+
+		UserPrincipal after = tokenCache.parse(token).flatMap(jwtProvider::getPrincipal).orElseThrow();
+		assertThat(tokenVersionService.isCurrentVersion(after)).isFalse();
+		then(jwtProvider).should(times(1)).parse(token);
+	}
+
+	private VerifiedTokenCache createTokenCache(boolean enabled) {
+		return new VerifiedTokenCache(jwtProvider, new SimpleMeterRegistry(), enabled, 100);
+	}
+
+	private User createUser() {
+		User user = User.builder()
+			.email("aaa@aaa.com")
+			.nickname("nickname")
+			.role(Role.USER)
+			.build();
+
+		ReflectionTestUtils.setField(user, "id", 1L);
+		return user;
+	}
+}
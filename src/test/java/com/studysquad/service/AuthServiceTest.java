@@ -10,8 +10,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -24,6 +26,8 @@ import com.studysquad.global.security.AccessToken;
 import com.studysquad.global.security.JwtProvider;
 import com.studysquad.global.security.RefreshToken;
 import com.studysquad.global.security.Token;
+import com.studysquad.session.dto.RefreshTokenSession;
+import com.studysquad.session.repository.RefreshTokenStore;
 import com.studysquad.user.domain.Role;
 import com.studysquad.user.domain.User;
 import com.studysquad.user.dto.JoinRequestDto;
@@ -31,6 +35,9 @@ import com.studysquad.user.dto.LoginRequestDto;
 import com.studysquad.user.dto.LoginUser;
 import com.studysquad.user.repository.UserRepository;
 import com.studysquad.user.service.AuthService;
+import com.studysquad.user.service.TokenVersionChangedEvent;
+
+import io.jsonwebtoken.Jwts;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
@@ -39,13 +46,18 @@ public class AuthServiceTest {
 	UserRepository userRepository;
 	@Mock
 	JwtProvider jwtProvider;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+	@Mock
+	RefreshTokenStore refreshTokenStore;
 	AuthService authService;
 	PasswordEncoder passwordEncoder;
 
 	@BeforeEach
 	void init() {
 		passwordEncoder = new BCryptPasswordEncoder();
-		authService = new AuthService(userRepository, jwtProvider, passwordEncoder);
+		authService = new AuthService(userRepository, jwtProvider, passwordEncoder, eventPublisher,
+			refreshTokenStore);
 	}
 
 	@Test
@@ -55,18 +67,19 @@ public class AuthServiceTest {
 		Token token = createToken();
 
 		when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-		when(jwtProvider.createToken(user.getEmail())).thenReturn(token);
+		when(jwtProvider.createToken(user)).thenReturn(token);
 
 		LoginRequestDto loginRequestDto = LoginRequestDto.builder()
 			.email("aaa@aaa.com")
 			.password("password")
 			.build();
 
-		Token returnedToken = authService.login(loginRequestDto);
+		Token returnedToken = authService.login(loginRequestDto, "device");
 
 		assertThat(returnedToken).isNotNull();
 		assertThat(returnedToken.getAccessToken()).isEqualTo(token.getAccessToken());
 		assertThat(returnedToken.getRefreshToken()).isEqualTo(token.getRefreshToken());
+		verify(refreshTokenStore, times(1)).save(eq(token.getRefreshToken().getData()), any(RefreshTokenSession.class));
 	}
 
 	@Test
@@ -78,7 +91,7 @@ public class AuthServiceTest {
 			.email("aaa@aaa.com")
 			.password("password")
 			.build();
-		assertThatThrownBy(() -> authService.login(loginRequestDto))
+		assertThatThrownBy(() -> authService.login(loginRequestDto, "device"))
 			.isInstanceOf(InvalidSigningInformation.class);
 	}
 
@@ -94,7 +107,7 @@ public class AuthServiceTest {
 			.password("wrong-password")
 			.build();
 
-		assertThatThrownBy(() -> authService.login(loginRequestDto))
+		assertThatThrownBy(() -> authService.login(loginRequestDto, "device"))
 			.isInstanceOf(InvalidSigningInformation.class);
 	}
 
@@ -112,7 +125,9 @@ public class AuthServiceTest {
 
 		authService.join(joinRequestDto);
 
-		verify(userRepository, times(1)).save(any());
+		ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+		verify(userRepository, times(1)).save(saved.capture());
+		assertThat(passwordEncoder.matches("password", saved.getValue().getPassword())).isTrue();
 	}
 
 	@Test
@@ -161,9 +176,10 @@ public class AuthServiceTest {
 			.build();
 		String refreshTokenValue = refreshToken.getData();
 
-		when(userRepository.findByRefreshToken(refreshTokenValue)).thenReturn(Optional.of(user));
-		when(jwtProvider.isTokenValid(refreshTokenValue)).thenReturn(true);
-		when(jwtProvider.createToken(user.getEmail())).thenReturn(token);
+		when(refreshTokenStore.findUser(refreshTokenValue)).thenReturn(Optional.of(user));
+		when(jwtProvider.parse(refreshTokenValue)).thenReturn(Optional.of(Jwts.claims()));
+		when(jwtProvider.createToken(user)).thenReturn(token);
+		when(refreshTokenStore.rotate(refreshTokenValue, token.getRefreshToken().getData())).thenReturn(true);
 
 		Token returnedToken = authService.reissue(refreshToken);
 
@@ -171,6 +187,26 @@ public class AuthServiceTest {
 		assertThat(returnedToken.getRefreshToken()).isNotNull();
 	}
 
+	@Test
+	@DisplayName("이미 재발급에 사용된 RefreshToken으로 요청")
+	void failReissueWithRotatedRefreshToken() {
+		User user = createUser();
+		Token token = createToken();
+		RefreshToken refreshToken = RefreshToken.builder()
+			.header("Authorization-refresh")
+			.data("validRefreshToken")
+			.build();
+		String refreshTokenValue = refreshToken.getData();
+
+		when(refreshTokenStore.findUser(refreshTokenValue)).thenReturn(Optional.of(user));
+		when(jwtProvider.parse(refreshTokenValue)).thenReturn(Optional.of(Jwts.claims()));
+		when(jwtProvider.createToken(user)).thenReturn(token);
+		when(refreshTokenStore.rotate(refreshTokenValue, token.getRefreshToken().getData())).thenReturn(false);
+
+		assertThatThrownBy(() -> authService.reissue(refreshToken))
+			.isInstanceOf(InvalidTokenException.class);
+	}
+
 	@Test
 	@DisplayName("올바르지 않은 RefreshToken으로 요청")
 	void failReissueWithInvalidRefreshToken() {
@@ -179,7 +215,7 @@ public class AuthServiceTest {
 			.data("invalidRefreshToken")
 			.build();
 
-		when(jwtProvider.isTokenValid(invalidToken.getData())).thenReturn(false);
+		when(jwtProvider.parse(invalidToken.getData())).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> authService.reissue(invalidToken))
 			.isInstanceOf(InvalidTokenException.class);
@@ -194,8 +230,8 @@ public class AuthServiceTest {
 			.build();
 		String refreshTokenValue = refreshToken.getData();
 
-		when(userRepository.findByRefreshToken(refreshTokenValue)).thenReturn(Optional.empty());
-		when(jwtProvider.isTokenValid(refreshTokenValue)).thenReturn(true);
+		when(refreshTokenStore.findUser(refreshTokenValue)).thenReturn(Optional.empty());
+		when(jwtProvider.parse(refreshTokenValue)).thenReturn(Optional.of(Jwts.claims()));
 
 		assertThatThrownBy(() -> authService.reissue(refreshToken))
 			.isInstanceOf(UserNotFoundException.class);
@@ -204,32 +240,38 @@ public class AuthServiceTest {
 	@Test
 	@DisplayName("로그아웃 성공")
 	void successLogout() {
-		User user = createUser();
 		LoginUser loginUser = LoginUser.builder()
-			.email(user.getEmail())
+			.id(1L)
+			.email("aaa@aaa.com")
 			.role(Role.USER)
 			.build();
-		user.updateRefreshToken(createRefreshToken().getData());
-
-		when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+		when(userRepository.increaseTokenVersion(loginUser.getId())).thenReturn(1);
+		when(userRepository.findTokenVersionById(loginUser.getId())).thenReturn(Optional.of(1L));
 
 		authService.logout(loginUser);
 
-		assertThat(user.getRefreshToken()).isNull();
+		verify(refreshTokenStore, times(1)).deleteAll(loginUser.getId());
+		verify(userRepository, never()).findByEmail(anyString());
+		ArgumentCaptor<TokenVersionChangedEvent> event = ArgumentCaptor.forClass(TokenVersionChangedEvent.class);
+		verify(eventPublisher, times(1)).publishEvent(event.capture());
+		assertThat(event.getValue().getUserId()).isEqualTo(loginUser.getId());
+		assertThat(event.getValue().getTokenVersion()).isEqualTo(1L);
 	}
 
 	@Test
 	@DisplayName("LoginUser 정보로 사용자를 찾을 수 없음")
 	void failLogoutNotFoundUserWithLoginUser() {
 		LoginUser loginUser = LoginUser.builder()
+			.id(1L)
 			.email("wrongEmail")
 			.role(Role.USER)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail())).thenReturn(Optional.empty());
+		when(userRepository.increaseTokenVersion(loginUser.getId())).thenReturn(0);
 
 		assertThatThrownBy(() -> authService.logout(loginUser))
 			.isInstanceOf(UserNotFoundException.class);
+		verify(refreshTokenStore, never()).deleteAll(anyLong());
 	}
 
 	private User createUser() {
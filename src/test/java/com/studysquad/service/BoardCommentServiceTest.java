@@ -25,6 +25,8 @@ import com.studysquad.boardcomment.dto.BoardCommentEditDto;
 import com.studysquad.boardcomment.dto.BoardCommentResponse;
 import com.studysquad.boardcomment.repository.BoardCommentRepository;
 import com.studysquad.boardcomment.service.BoardCommentService;
+import com.studysquad.global.common.CursorResponse;
+import com.studysquad.global.common.KeysetCursor;
 import com.studysquad.global.error.exception.BoardInfoMismatchException;
 import com.studysquad.global.error.exception.UserInfoMismatchException;
 import com.studysquad.user.domain.User;
@@ -49,15 +51,35 @@ public class BoardCommentServiceTest {
 		Long boardId = 1L;
 
 		List<BoardCommentResponse> boardCommentsResponse = createBoardCommentResponse();
+		CursorResponse<BoardCommentResponse> response = CursorResponse.of(boardCommentsResponse, 20,
+			BoardCommentResponse::getBoardCommentId);
 
-		when(boardCommentRepository.getBoardComments(boardId))
-			.thenReturn(boardCommentsResponse);
+		when(boardCommentRepository.getBoardComments(boardId, null, 20))
+			.thenReturn(response);
 
-		List<BoardCommentResponse> result = boardCommentService.getBoardComments(boardId);
+		CursorResponse<BoardCommentResponse> result = boardCommentService.getBoardComments(boardId, null, 20);
 
-		assertThat(result.size()).isEqualTo(boardCommentsResponse.size());
-		assertThat(result.get(0)).isEqualTo(boardCommentsResponse.get(0));
-		assertThat(result.get(0).getCreator()).isEqualTo(boardCommentsResponse.get(0).getCreator());
+		assertThat(result.getContent().size()).isEqualTo(20);
+		assertThat(result.isHasNext()).isTrue();
+		assertThat(result.getNextCursor()).isEqualTo(20L);
+		assertThat(result.getContent().get(0).getCreator()).isEqualTo(boardCommentsResponse.get(0).getCreator());
+	}
+
+	@Test
+	@DisplayName("게시글 댓글 조회 시 페이지 사이즈 최대값 제한")
+	void getBoardCommentsLimitMaxSize() {
+		Long boardId = 1L;
+
+		String cursor = KeysetCursor.encode(LocalDateTime.of(2023, 7, 1, 12, 0), 10L);
+
+		when(boardCommentRepository.getBoardComments(eq(boardId), any(KeysetCursor.class), eq(100)))
+			.thenReturn(CursorResponse.of(List.of(), 100, BoardCommentResponse::getBoardCommentId));
+
+		CursorResponse<BoardCommentResponse> result = boardCommentService.getBoardComments(boardId, cursor, 1000);
+
+		assertThat(result.getContent()).isEmpty();
+		assertThat(result.isHasNext()).isFalse();
+		verify(boardCommentRepository, times(1)).getBoardComments(eq(boardId), any(KeysetCursor.class), eq(100));
 	}
 
 	@Test
@@ -68,21 +90,19 @@ public class BoardCommentServiceTest {
 		Board board = createBoard(user);
 		BoardCommentCreateDto request = createBoardCommentCreateDto();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(boardRepository.findById(board.getId()))
 			.thenReturn(Optional.of(board));
 
 		boardCommentService.createBoardComment(board.getId(), loginUser, request);
 
 		verify(boardCommentRepository, times(1)).save(any(BoardComment.class));
+		verify(boardRepository, times(1)).increaseCommentCount(board.getId());
 	}
 
 	@Test
 	@DisplayName("게시글 댓글 수정 성공")
 	void successEditBoardComment() {
 		User user = createUser();
-		LoginUser loginUser = createLoginUser(user);
 		Board board = createBoard(user);
 		BoardComment boardComment = createBoardComment(user, board);
 		BoardCommentEditDto editRequest = createBoardCommentEditDto();
@@ -90,9 +110,8 @@ public class BoardCommentServiceTest {
 		ReflectionTestUtils.setField(user, "id", 1L);
 		ReflectionTestUtils.setField(board, "id", 1L);
 		ReflectionTestUtils.setField(boardComment, "id", 1L);
+		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(boardRepository.findById(board.getId()))
 			.thenReturn(Optional.of(board));
 		when(boardCommentRepository.findByIdWithUserAndBoard(boardComment.getId()))
@@ -107,7 +126,6 @@ public class BoardCommentServiceTest {
 	@DisplayName("게시글 정보가 일치 하지 않은 경우 게시글 댓글 수정 실패")
 	void failEditBoardCommentByMismatchBoardInfo() {
 		User user = createUser();
-		LoginUser loginUser = createLoginUser(user);
 		Board board = createBoard(user);
 		Board mismatchBoard = createBoard(user);
 		BoardComment boardComment = createBoardComment(user, board);
@@ -117,9 +135,8 @@ public class BoardCommentServiceTest {
 		ReflectionTestUtils.setField(board, "id", 1L);
 		ReflectionTestUtils.setField(mismatchBoard, "id", 2L);
 		ReflectionTestUtils.setField(boardComment, "id", 1L);
+		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(boardRepository.findById(mismatchBoard.getId()))
 			.thenReturn(Optional.of(mismatchBoard));
 		when(boardCommentRepository.findByIdWithUserAndBoard(boardComment.getId()))
@@ -137,7 +154,6 @@ public class BoardCommentServiceTest {
 	void failEditBoardCommentByMismatchUserInfo() {
 		User user = createUser();
 		User mismatchUser = createMismatchUser();
-		LoginUser loginUser = createLoginUser(mismatchUser);
 		Board board = createBoard(user);
 		BoardComment boardComment = createBoardComment(user, board);
 		BoardCommentEditDto editRequest = createBoardCommentEditDto();
@@ -146,9 +162,8 @@ public class BoardCommentServiceTest {
 		ReflectionTestUtils.setField(mismatchUser, "id", 2L);
 		ReflectionTestUtils.setField(board, "id", 1L);
 		ReflectionTestUtils.setField(boardComment, "id", 1L);
+		LoginUser loginUser = createLoginUser(mismatchUser);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(mismatchUser));
 		when(boardRepository.findById(board.getId()))
 			.thenReturn(Optional.of(board));
 		when(boardCommentRepository.findByIdWithUserAndBoard(boardComment.getId()))
@@ -166,16 +181,14 @@ public class BoardCommentServiceTest {
 	@DisplayName("게시글 댓글 삭제 성공")
 	void successDeleteBoardComment() {
 		User user = createUser();
-		LoginUser loginUser = createLoginUser(user);
 		Board board = createBoard(user);
 		BoardComment boardComment = createBoardComment(user, board);
 
 		ReflectionTestUtils.setField(user, "id", 1L);
 		ReflectionTestUtils.setField(board, "id", 1L);
 		ReflectionTestUtils.setField(boardComment, "id", 1L);
+		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(boardRepository.findById(board.getId()))
 			.thenReturn(Optional.of(board));
 		when(boardCommentRepository.findByIdWithUserAndBoard(boardComment.getId()))
@@ -184,13 +197,13 @@ public class BoardCommentServiceTest {
 		boardCommentService.deleteBoardComment(board.getId(), boardComment.getId(), loginUser);
 
 		verify(boardCommentRepository, times(1)).deleteById(boardComment.getId());
+		verify(boardRepository, times(1)).decreaseCommentCount(board.getId());
 	}
 
 	@Test
 	@DisplayName("게시글 정보가 일치하지 않는 경우 게시글 댓글 삭제 실패")
 	void failDeleteBoardCommentByMismatchBoardInfo() {
 		User user = createUser();
-		LoginUser loginUser = createLoginUser(user);
 		Board board = createBoard(user);
 		Board mismatchBoard = createBoard(user);
 		BoardComment boardComment = createBoardComment(user, board);
@@ -199,9 +212,8 @@ public class BoardCommentServiceTest {
 		ReflectionTestUtils.setField(board, "id", 1L);
 		ReflectionTestUtils.setField(mismatchBoard, "id", 2L);
 		ReflectionTestUtils.setField(boardComment, "id", 1L);
+		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(boardRepository.findById(mismatchBoard.getId()))
 			.thenReturn(Optional.of(mismatchBoard));
 		when(boardCommentRepository.findByIdWithUserAndBoard(boardComment.getId()))
@@ -218,7 +230,6 @@ public class BoardCommentServiceTest {
 	void failDeleteBoardCommentByMismatchUserInfo() {
 		User user = createUser();
 		User mismatchUser = createMismatchUser();
-		LoginUser loginUser = createLoginUser(mismatchUser);
 		Board board = createBoard(user);
 		BoardComment boardComment = createBoardComment(user, board);
 
@@ -226,9 +237,8 @@ public class BoardCommentServiceTest {
 		ReflectionTestUtils.setField(mismatchUser, "id", 2L);
 		ReflectionTestUtils.setField(board, "id", 1L);
 		ReflectionTestUtils.setField(boardComment, "id", 1L);
+		LoginUser loginUser = createLoginUser(mismatchUser);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(mismatchUser));
 		when(boardRepository.findById(board.getId()))
 			.thenReturn(Optional.of(board));
 		when(boardCommentRepository.findByIdWithUserAndBoard(boardComment.getId()))
@@ -256,6 +266,7 @@ public class BoardCommentServiceTest {
 	private List<BoardCommentResponse> createBoardCommentResponse() {
 		return IntStream.range(1, 31)
 			.mapToObj(i -> BoardCommentResponse.builder()
+				.boardCommentId((long)i)
 				.boardCommentContent("boardCommentContent" + i)
 				.creator("user" + i)
 				.createAt(LocalDateTime.now())
@@ -14,17 +14,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.studysquad.board.domain.Board;
+import com.studysquad.board.repository.BoardCache;
 import com.studysquad.board.repository.BoardRepository;
+import com.studysquad.board.repository.LocalBoardCache;
 import com.studysquad.board.request.BoardCreate;
 import com.studysquad.board.request.BoardEdit;
 import com.studysquad.board.request.BoardSearchCondition;
 import com.studysquad.board.response.BoardResponse;
+import com.studysquad.board.response.BoardSummary;
+import com.studysquad.board.service.BoardChangedEvent;
 import com.studysquad.board.service.BoardService;
 import com.studysquad.category.domain.Category;
 import com.studysquad.global.error.exception.NotFoundBoard;
@@ -33,12 +40,17 @@ import com.studysquad.mission.domain.MissionStatus;
 import com.studysquad.mission.repository.MissionRepository;
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.squad.domain.SquadStatus;
+import com.studysquad.squad.dto.SquadAccess;
 import com.studysquad.squad.repository.SquadRepository;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadAuthorizer;
 import com.studysquad.user.domain.Role;
 import com.studysquad.user.domain.User;
 import com.studysquad.user.dto.LoginUser;
 import com.studysquad.user.repository.UserRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 public class BoardServiceTest {
 
@@ -50,6 +62,12 @@ public class BoardServiceTest {
 	MissionRepository missionRepository;
 	@Mock
 	UserRepository userRepository;
+	@Spy
+	BoardCache boardCache = new LocalBoardCache(new SimpleMeterRegistry(), 100, 60000);
+	@Mock
+	SquadAuthorizer squadAuthorizer;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
 
 	@InjectMocks
 	BoardService boardService;
@@ -75,6 +93,24 @@ public class BoardServiceTest {
 		assertThat(result.getBoardContent()).isEqualTo(boardResponse.getBoardContent());
 	}
 
+	@Test
+	@DisplayName("게시글 단건 재조회 시 캐시에서 조회")
+	void successGetBoardFromCache() {
+		BoardResponse boardResponse = BoardResponse.builder()
+			.boardId(1L)
+			.creator("userA")
+			.build();
+
+		when(boardRepository.getBoardById(boardResponse.getBoardId()))
+			.thenReturn(Optional.of(boardResponse));
+
+		boardService.getBoard(boardResponse.getBoardId());
+		BoardResponse result = boardService.getBoard(boardResponse.getBoardId());
+
+		assertThat(result).isSameAs(boardResponse);
+		verify(boardRepository, times(1)).getBoardById(boardResponse.getBoardId());
+	}
+
 	@Test
 	@DisplayName("게시물 단건 조회 실패 - 존재하지 않는 게시물")
 	void failGetBoard() {
@@ -95,26 +131,24 @@ public class BoardServiceTest {
 	void successGetBoards() {
 		BoardSearchCondition cond = BoardSearchCondition.builder().build();
 		PageRequest page = PageRequest.of(0, 10);
-		List<BoardResponse> testData = LongStream.range(1, 31)
-			.mapToObj(i -> BoardResponse.builder()
+		List<BoardSummary> testData = LongStream.range(1, 31)
+			.mapToObj(i -> BoardSummary.builder()
 				.boardId(i)
 				.creator(String.format("user%d", i))
 				.squadName(String.format("squad%d", i))
 				.categoryName("JAVA")
-				.missionTitle(String.format("mission%d", i))
-				.missionContent(String.format("missionContent%d", i))
 				.boardTitle(String.format("board%d", i))
-				.boardContent(String.format("boardContent%d", i))
+				.excerpt(String.format("boardContent%d", i))
 				.build())
 			.collect(Collectors.toList());
 
-		List<BoardResponse> expectedData = testData.subList(page.getPageNumber(), page.getPageSize());
-		Page<BoardResponse> expectedPage = new PageImpl<>(expectedData, page, expectedData.size());
+		List<BoardSummary> expectedData = testData.subList(page.getPageNumber(), page.getPageSize());
+		Page<BoardSummary> expectedPage = new PageImpl<>(expectedData, page, expectedData.size());
 
 		when(boardRepository.getBoards(cond, page))
 			.thenReturn(expectedPage);
 
-		Page<BoardResponse> responseData = boardService.getBoards(cond, page);
+		Page<BoardSummary> responseData = boardService.getBoards(cond, page);
 
 		assertThat(responseData.getContent())
 			.hasSize(10)
@@ -131,14 +165,8 @@ public class BoardServiceTest {
 		Squad squad = createSquad(category, "squadA", "squadExplain", SquadStatus.PROCESS);
 		Mission mission = createMission(squad, 0, MissionStatus.PROCESS);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
-		when(missionRepository.getProcessMissionEntity(squad.getId()))
-			.thenReturn(Optional.of(mission));
+		when(squadAuthorizer.requireMentor(squad.getId(), user.getId()))
+			.thenReturn(createMentorAccess(squad, mission));
 		when(missionRepository.hasSquadBoardByMissionId(mission.getId()))
 			.thenReturn(Optional.of(3L));
 
@@ -155,32 +183,28 @@ public class BoardServiceTest {
 		Category category = createCategory("JAVA");
 		Squad squad = createSquad(category, "squadA", "squadExplain", SquadStatus.PROCESS);
 
-		List<BoardResponse> boardResponses = LongStream.range(1, 31)
-			.mapToObj(i -> BoardResponse.builder()
+		List<BoardSummary> boardSummaries = LongStream.range(1, 31)
+			.mapToObj(i -> BoardSummary.builder()
 				.boardId(i)
 				.creator(user.getNickname())
 				.categoryName(category.getCategoryName())
 				.squadName(squad.getSquadName())
 				.missionSequence((int)i)
-				.missionTitle("missionTitle" + i)
-				.missionContent("missionContent" + i)
 				.boardTitle("boardTitle" + i)
-				.boardContent("boardContent" + i)
+				.excerpt("boardContent" + i)
 				.build())
 			.collect(Collectors.toList());
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.findById(squad.getId()))
 			.thenReturn(Optional.of(squad));
 		when(boardRepository.getBoardsWithSquad(squad.getId()))
-			.thenReturn(boardResponses);
+			.thenReturn(boardSummaries);
 
-		List<BoardResponse> response = boardService.getBoardsWithSquad(squad.getId(), loginUser);
+		List<BoardSummary> response = boardService.getBoardsWithSquad(squad.getId(), loginUser);
 
 		assertThat(response).isNotEmpty();
-		assertThat(response).hasSize(boardResponses.size());
-		assertThat(response.get(0)).isEqualTo(boardResponses.get(0));
+		assertThat(response).hasSize(boardSummaries.size());
+		assertThat(response.get(0)).isEqualTo(boardSummaries.get(0));
 		verify(boardRepository, times(1)).getBoardsWithSquad(squad.getId());
 	}
 
@@ -197,25 +221,24 @@ public class BoardServiceTest {
 			.content("content")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
-		when(missionRepository.getProcessMissionEntity(squad.getId()))
-			.thenReturn(Optional.of(mission));
+		when(squadAuthorizer.requireProcessMentor(squad.getId(), user.getId()))
+			.thenReturn(createMentorAccess(squad, mission));
 		when(missionRepository.hasSquadBoardByMissionId(mission.getId()))
 			.thenReturn(Optional.of(3L));
+		when(squadRepository.getReferenceById(squad.getId()))
+			.thenReturn(squad);
+		when(missionRepository.getReferenceById(mission.getId()))
+			.thenReturn(mission);
 
 		boardService.createBoard(boardCreate, squad.getId(), loginUser);
 
-		verify(userRepository).findByEmail(loginUser.getEmail());
-		verify(squadRepository).findById(squad.getId());
-		verify(squadRepository).isMentorOfSquad(squad.getId(), user.getId());
-		verify(missionRepository).getProcessMissionEntity(squad.getId());
+		verify(userRepository).getReferenceById(loginUser.getId());
+		verify(squadAuthorizer).requireProcessMentor(squad.getId(), user.getId());
 		verify(missionRepository).hasSquadBoardByMissionId(mission.getId());
 		verify(boardRepository).save(any(Board.class));
+		verify(eventPublisher).publishEvent(any(SquadActivityEvent.class));
+		assertThat(mission.getMissionStatus()).isEqualTo(MissionStatus.END);
+		assertThat(squad.getSquadStatus()).isEqualTo(SquadStatus.END);
 
 	}
 
@@ -233,12 +256,8 @@ public class BoardServiceTest {
 			.content("contentUpdated")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireMentor(squad.getId(), user.getId()))
+			.thenReturn(createMentorAccess(squad, mission));
 		when(boardRepository.findById(board.getId()))
 			.thenReturn(Optional.of(board));
 
@@ -246,6 +265,7 @@ public class BoardServiceTest {
 
 		AssertionsForClassTypes.assertThat(board.getTitle()).isEqualTo(request.getTitle());
 		AssertionsForClassTypes.assertThat(board.getContent()).isEqualTo(request.getContent());
+		verify(eventPublisher).publishEvent(any(BoardChangedEvent.class));
 	}
 
 	@Test
@@ -262,18 +282,15 @@ public class BoardServiceTest {
 			.content("contentUpdated")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireMentor(squad.getId(), user.getId()))
+			.thenReturn(createMentorAccess(squad, mission));
 		when(boardRepository.findById(board.getId()))
 			.thenReturn(Optional.of(board));
 
 		boardService.delete(board.getId(), squad.getId(), loginUser);
 
 		verify(boardRepository, times(1)).delete(board);
+		verify(eventPublisher).publishEvent(any(BoardChangedEvent.class));
 	}
 
 	private User createUser(String email, String nickname) {
@@ -286,7 +303,9 @@ public class BoardServiceTest {
 
 	private LoginUser createLoginUser(User user) {
 		return LoginUser.builder()
+			.id(user.getId())
 			.email(user.getEmail())
+			.nickname(user.getNickname())
 			.role(user.getRole())
 			.build();
 	}
@@ -307,13 +326,26 @@ public class BoardServiceTest {
 	}
 
 	private Mission createMission(Squad squad, int sequence, MissionStatus status) {
-		return Mission.builder()
+		Mission mission = Mission.builder()
 			.squad(squad)
 			.missionTitle("missionTitle")
 			.missionContent("missionContent")
 			.missionSequence(sequence)
 			.missionStatus(status)
 			.build();
+		ReflectionTestUtils.setField(mission, "id", sequence + 1L);
+
+		return mission;
+	}
+
+	private SquadAccess createMentorAccess(Squad squad, Mission mission) {
+		return SquadAccess.builder()
+			.squadId(squad.getId())
+			.squadStatus(squad.getSquadStatus())
+			.member(true)
+			.mentor(true)
+			.processMissionId(mission.getId())
+			.build();
 	}
 
 	private Board createBoard(Squad squad, User user, Mission mission) {
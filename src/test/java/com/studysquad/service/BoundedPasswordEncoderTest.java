@@ -0,0 +1,113 @@
+package com.studysquad.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.studysquad.global.error.exception.PasswordEncoderBusyException;
+import com.studysquad.global.security.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoundedPasswordEncoderTest {
+
+	BlockingPasswordEncoder delegate;
+	BoundedPasswordEncoder passwordEncoder;
+	ExecutorService executorService;
+
+	@BeforeEach
+	void init() {
+		delegate = new BlockingPasswordEncoder();
+		executorService = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		delegate.release.countDown();
+		executorService.shutdownNow();
+		passwordEncoder.destroy();
+	}
+
+	@Test
+	@DisplayName("비밀번호 비교를 위임한 결과를 리턴")
+	void successMatches() {
+		passwordEncoder = createPasswordEncoder(Duration.ofSeconds(5));
+		delegate.release.countDown();
+
+		assertThat(passwordEncoder.matches("1234", "1234")).isTrue();
+		assertThat(passwordEncoder.matches("1234", "5678")).isFalse();
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 503 예외 발생")
+	void failMatchesWhenQueueIsFull() throws Exception {
+		passwordEncoder = createPasswordEncoder(Duration.ofSeconds(5));
+
+		Future<Boolean> running = executorService.submit(() -> passwordEncoder.matches("1234", "1234"));
+		assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<Boolean> queued = executorService.submit(() -> passwordEncoder.matches("1234", "1234"));
+		Thread.sleep(100);
+
+		assertThatThrownBy(() -> passwordEncoder.matches("1234", "1234"))
+			.isInstanceOf(PasswordEncoderBusyException.class)
+			.satisfies(e -> assertThat(((PasswordEncoderBusyException)e).getStatusCode()).isEqualTo(503));
+
+		delegate.release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("제한 시간 안에 끝나지 않으면 작업을 중단하고 503 예외 발생")
+	void failMatchesWhenTimeout() throws Exception {
+		passwordEncoder = createPasswordEncoder(Duration.ofMillis(100));
+
+		assertThatThrownBy(() -> passwordEncoder.matches("1234", "1234"))
+			.isInstanceOf(PasswordEncoderBusyException.class)
+			.hasCauseInstanceOf(TimeoutException.class)
+			.satisfies(e -> assertThat(((PasswordEncoderBusyException)e).getStatusCode()).isEqualTo(503));
+
+		assertThat(delegate.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private BoundedPasswordEncoder createPasswordEncoder(Duration timeout) {
+		return new BoundedPasswordEncoder(delegate, new SimpleMeterRegistry(), 1, 1, timeout);
+	}
+
+	private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private final CountDownLatch interrupted = new CountDownLatch(1);
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return rawPassword.toString();
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			return rawPassword.toString().equals(encodedPassword);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.studysquad.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.studysquad.mission.domain.Mission;
+import com.studysquad.mission.domain.MissionStatus;
+import com.studysquad.mission.repository.MissionRepository;
+import com.studysquad.mission.service.MissionSequenceInitializer;
+
+@SpringBootTest(properties = "jpa.mission-sequence.enabled=true")
+public class MissionSequenceInitializerTest {
+
+	@Autowired
+	MissionSequenceInitializer missionSequenceInitializer;
+	@Autowired
+	MissionRepository missionRepository;
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("delete from mission");
+	}
+
+	@Test
+	@DisplayName("기존 미션 아이디보다 큰 값으로 미션 시퀀스 초기화")
+	void successSeedMissionSequenceAboveExistingIds() {
+		jdbcTemplate.update("insert into mission (mission_id, mission_title, mission_content, mission_status, "
+			+ "mission_sequence) values (1000, 'missionTitle', 'missionContent', 'PROCESS', 1)");
+
+		missionSequenceInitializer.afterSingletonsInstantiated();
+		Mission mission = missionRepository.save(Mission.builder()
+			.missionTitle("missionTitle")
+			.missionContent("missionContent")
+			.missionStatus(MissionStatus.PROCESS)
+			.missionSequence(2)
+			.build());
+
+		assertThat(mission.getId()).isGreaterThan(1000L);
+	}
+}
@@ -16,7 +16,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.studysquad.board.repository.BoardRepository;
+import com.studysquad.board.service.BoardChangedEvent;
 import com.studysquad.global.error.exception.NotFoundProcessMission;
 import com.studysquad.global.error.exception.NotMentorException;
 import com.studysquad.global.error.exception.NotSquadUserException;
@@ -31,11 +34,13 @@ import com.studysquad.mission.repository.MissionRepository;
 import com.studysquad.mission.service.MissionService;
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.squad.domain.SquadStatus;
+import com.studysquad.squad.dto.SquadAccess;
 import com.studysquad.squad.repository.SquadRepository;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadAuthorizer;
 import com.studysquad.user.domain.Role;
 import com.studysquad.user.domain.User;
 import com.studysquad.user.dto.LoginUser;
-import com.studysquad.user.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 public class MissionServiceTest {
@@ -43,9 +48,13 @@ public class MissionServiceTest {
 	@Mock
 	MissionRepository missionRepository;
 	@Mock
-	UserRepository userRepository;
-	@Mock
 	SquadRepository squadRepository;
+	@Mock
+	BoardRepository boardRepository;
+	@Mock
+	SquadAuthorizer squadAuthorizer;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
 	@InjectMocks
 	MissionService missionService;
 
@@ -65,12 +74,8 @@ public class MissionServiceTest {
 				.build())
 			.collect(Collectors.toList());
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false));
 		when(missionRepository.getMissions(squad.getId()))
 			.thenReturn(missionResponses);
 
@@ -86,12 +91,8 @@ public class MissionServiceTest {
 		Squad squad = createSquad(SquadStatus.PROCESS);
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenThrow(new NotSquadUserException());
 
 		assertThatThrownBy(() -> missionService.getMissions(squad.getId(), loginUser))
 			.isInstanceOf(NotSquadUserException.class)
@@ -112,12 +113,8 @@ public class MissionServiceTest {
 			.build();
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false));
 		when(missionRepository.getProcessMission(squad.getId()))
 			.thenReturn(Optional.of(missionResponseDto));
 
@@ -137,12 +134,8 @@ public class MissionServiceTest {
 		Squad squad = createSquad(SquadStatus.PROCESS);
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenThrow(new NotSquadUserException());
 
 		assertThatThrownBy(() -> missionService.getProcessMission(squad.getId(), loginUser))
 			.isInstanceOf(NotSquadUserException.class)
@@ -156,12 +149,8 @@ public class MissionServiceTest {
 		Squad squad = createSquad(SquadStatus.PROCESS);
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false));
 		when(missionRepository.getProcessMission(squad.getId()))
 			.thenReturn(Optional.empty());
 
@@ -186,18 +175,15 @@ public class MissionServiceTest {
 		List<MissionCreateDto> createRequest = Collections.singletonList(missionCreateDto);
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireProcessMentor(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, true));
 		when(missionRepository.saveAll(anyList()))
 			.thenReturn(Collections.singletonList(mission));
 
 		missionService.createMission(squad.getId(), createRequest, loginUser);
 
 		verify(missionRepository, times(1)).saveAll(anyList());
+		verify(eventPublisher, times(1)).publishEvent(any(SquadActivityEvent.class));
 	}
 
 	@Test
@@ -215,10 +201,8 @@ public class MissionServiceTest {
 		List<MissionCreateDto> createRequest = Collections.singletonList(missionCreateDto);
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.requireProcessMentor(squad.getId(), user.getId()))
+			.thenThrow(new SquadNotProgressException());
 
 		assertThatThrownBy(() -> missionService.createMission(squad.getId(), createRequest, loginUser))
 			.isInstanceOf(SquadNotProgressException.class)
@@ -240,12 +224,8 @@ public class MissionServiceTest {
 		List<MissionCreateDto> createRequest = Collections.singletonList(missionCreateDto);
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
+		when(squadAuthorizer.requireProcessMentor(squad.getId(), user.getId()))
+			.thenThrow(new NotMentorException());
 
 		assertThatThrownBy(() -> missionService.createMission(squad.getId(), createRequest, loginUser))
 			.isInstanceOf(NotMentorException.class)
@@ -266,19 +246,18 @@ public class MissionServiceTest {
 
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireProcessMentor(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, true));
 		when(missionRepository.findById(mission.getId()))
 			.thenReturn(Optional.of(mission));
+		when(boardRepository.findIdsByMissionId(mission.getId()))
+			.thenReturn(List.of(1L));
 
 		missionService.editMission(squad.getId(), mission.getId(), editRequest, loginUser);
 
 		assertThat(mission.getMissionTitle()).isEqualTo(editRequest.getMissionTitle());
 		assertThat(mission.getMissionContent()).isEqualTo(editRequest.getMissionContent());
+		verify(eventPublisher).publishEvent(any(BoardChangedEvent.class));
 	}
 
 	@Test
@@ -295,10 +274,8 @@ public class MissionServiceTest {
 
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.requireProcessMentor(squad.getId(), user.getId()))
+			.thenThrow(new SquadNotProgressException());
 
 		assertThatThrownBy(() -> missionService.editMission(squad.getId(), mission.getId(), editRequest, loginUser))
 			.isInstanceOf(SquadNotProgressException.class)
@@ -319,12 +296,8 @@ public class MissionServiceTest {
 
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
+		when(squadAuthorizer.requireProcessMentor(squad.getId(), user.getId()))
+			.thenThrow(new NotMentorException());
 
 		assertThatThrownBy(() -> missionService.editMission(squad.getId(), mission.getId(), editRequest, loginUser))
 			.isInstanceOf(NotMentorException.class)
@@ -345,12 +318,8 @@ public class MissionServiceTest {
 
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireProcessMentor(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, true));
 		when(missionRepository.findById(mission.getId()))
 			.thenReturn(Optional.of(mission));
 
@@ -385,9 +354,20 @@ public class MissionServiceTest {
 			.build();
 	}
 
+	private SquadAccess createAccess(Squad squad, boolean mentor) {
+		return SquadAccess.builder()
+			.squadId(squad.getId())
+			.squadStatus(squad.getSquadStatus())
+			.member(true)
+			.mentor(mentor)
+			.build();
+	}
+
 	private LoginUser createLoginUser(User user) {
 		return LoginUser.builder()
+			.id(user.getId())
 			.email(user.getEmail())
+			.nickname(user.getNickname())
 			.role(user.getRole())
 			.build();
 	}
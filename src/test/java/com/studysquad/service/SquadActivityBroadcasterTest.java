@@ -0,0 +1,84 @@
+package com.studysquad.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.studysquad.squad.service.SquadActivityBroadcaster;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadActivityType;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SquadActivityBroadcasterTest {
+
+	private static final Long SQUAD_ID = 1L;
+	private static final Long USER_ID = 1L;
+	private static final int BUFFER_SIZE = 2;
+
+	MeterRegistry meterRegistry;
+	SquadActivityBroadcaster squadActivityBroadcaster;
+
+	@BeforeEach
+	void init() {
+		meterRegistry = new SimpleMeterRegistry();
+		squadActivityBroadcaster = new SquadActivityBroadcaster(meterRegistry, 1, 10, BUFFER_SIZE, 60000, 1000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		squadActivityBroadcaster.destroy();
+	}
+
+	@Test
+	@DisplayName("스쿼드별 구독 등록")
+	void successSubscribe() {
+		squadActivityBroadcaster.subscribe(SQUAD_ID, USER_ID);
+		squadActivityBroadcaster.subscribe(SQUAD_ID, 2L);
+		squadActivityBroadcaster.subscribe(2L, USER_ID);
+
+		assertThat(squadActivityBroadcaster.getSubscriptionCount(SQUAD_ID)).isEqualTo(2);
+		assertThat(squadActivityBroadcaster.getSubscriptionCount(2L)).isEqualTo(1);
+		assertThat(meterRegistry.get("squad.activity.subscriptions").gauge().value()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("구독자가 없는 스쿼드 이벤트 전파")
+	void successBroadcastWithoutSubscription() {
+		squadActivityBroadcaster.subscribe(SQUAD_ID, USER_ID);
+
+		squadActivityBroadcaster.broadcast(new SquadActivityEvent(2L, SquadActivityType.MISSION_CREATED, null));
+
+		assertThat(squadActivityBroadcaster.getSubscriptionCount(SQUAD_ID)).isEqualTo(1);
+		assertThat(squadActivityBroadcaster.getSubscriptionCount(2L)).isZero();
+	}
+
+	@Test
+	@DisplayName("사용자 구독만 골라서 종료")
+	void successClose() {
+		squadActivityBroadcaster.subscribe(SQUAD_ID, USER_ID);
+		squadActivityBroadcaster.subscribe(SQUAD_ID, 2L);
+		squadActivityBroadcaster.subscribe(2L, USER_ID);
+
+		squadActivityBroadcaster.close(SQUAD_ID, USER_ID);
+
+		assertThat(squadActivityBroadcaster.getSubscribers())
+			.containsOnly(entry(SQUAD_ID, Set.of(2L)), entry(2L, Set.of(USER_ID)));
+	}
+
+	@Test
+	@DisplayName("종료 시 모든 구독 해제")
+	void successDestroy() {
+		squadActivityBroadcaster.subscribe(SQUAD_ID, USER_ID);
+
+		squadActivityBroadcaster.destroy();
+
+		assertThat(squadActivityBroadcaster.getSubscriptionCount(SQUAD_ID)).isZero();
+	}
+}
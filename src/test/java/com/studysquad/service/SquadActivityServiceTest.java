@@ -0,0 +1,102 @@
+package com.studysquad.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.studysquad.global.error.exception.NotSquadUserException;
+import com.studysquad.squad.service.SquadActivityBroadcaster;
+import com.studysquad.squad.service.SquadActivityService;
+import com.studysquad.squad.service.SquadAuthorizer;
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.dto.LoginUser;
+import com.studysquad.usersquad.repository.UserSquadRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class SquadActivityServiceTest {
+
+	private static final Long SQUAD_ID = 1L;
+
+	@Mock
+	SquadAuthorizer squadAuthorizer;
+	@Mock
+	SquadActivityBroadcaster squadActivityBroadcaster;
+	@Mock
+	UserSquadRepository userSquadRepository;
+	@InjectMocks
+	SquadActivityService squadActivityService;
+
+	@Test
+	@DisplayName("스쿼드 멤버 스쿼드 활동 구독")
+	void successSubscribe() {
+		LoginUser loginUser = createLoginUser();
+		SseEmitter emitter = new SseEmitter();
+
+		when(squadActivityBroadcaster.subscribe(SQUAD_ID, loginUser.getId()))
+			.thenReturn(emitter);
+
+		SseEmitter result = squadActivityService.subscribe(SQUAD_ID, loginUser);
+
+		assertThat(result).isSameAs(emitter);
+		verify(squadAuthorizer, times(1)).requireMember(SQUAD_ID, loginUser.getId());
+	}
+
+	@Test
+	@DisplayName("스쿼드에 속하지 않은 사용자 스쿼드 활동 구독 실패")
+	void failSubscribeWithNotSquadUser() {
+		LoginUser loginUser = createLoginUser();
+
+		when(squadAuthorizer.requireMember(SQUAD_ID, loginUser.getId()))
+			.thenThrow(new NotSquadUserException());
+
+		assertThatThrownBy(() -> squadActivityService.subscribe(SQUAD_ID, loginUser))
+			.isInstanceOf(NotSquadUserException.class);
+		verify(squadActivityBroadcaster, never()).subscribe(any(), any());
+	}
+
+	@Test
+	@DisplayName("하트비트 전에 스쿼드를 떠난 사용자의 구독 종료")
+	void successCloseNonMemberSubscriptionsOnHeartbeat() {
+		when(squadActivityBroadcaster.getSubscribers())
+			.thenReturn(Map.of(SQUAD_ID, Set.of(1L, 2L), 2L, Set.of(1L)));
+		when(userSquadRepository.findMemberIds(Set.of(SQUAD_ID, 2L), Set.of(1L, 2L)))
+			.thenReturn(Map.of(SQUAD_ID, Set.of(1L)));
+
+		squadActivityService.sendHeartbeats();
+
+		verify(squadActivityBroadcaster, times(1)).close(SQUAD_ID, 2L);
+		verify(squadActivityBroadcaster, times(1)).close(2L, 1L);
+		verify(squadActivityBroadcaster, never()).close(SQUAD_ID, 1L);
+		verify(squadActivityBroadcaster, times(1)).sendHeartbeats();
+	}
+
+	@Test
+	@DisplayName("구독자가 없으면 멤버십을 조회하지 않고 하트비트 전송")
+	void successHeartbeatWithoutSubscribers() {
+		when(squadActivityBroadcaster.getSubscribers()).thenReturn(Map.of());
+
+		squadActivityService.sendHeartbeats();
+
+		verify(userSquadRepository, never()).findMemberIds(any(), any());
+		verify(squadActivityBroadcaster, times(1)).sendHeartbeats();
+	}
+
+	private LoginUser createLoginUser() {
+		return LoginUser.builder()
+			.id(1L)
+			.email("aaa@aaa.com")
+			.nickname("userA")
+			.role(Role.USER)
+			.build();
+	}
+}
@@ -0,0 +1,114 @@
+package com.studysquad.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.studysquad.global.error.exception.NotMenteeException;
+import com.studysquad.global.error.exception.NotMentorException;
+import com.studysquad.global.error.exception.NotSquadUserException;
+import com.studysquad.global.error.exception.SquadNotFoundException;
+import com.studysquad.global.error.exception.SquadNotProgressException;
+import com.studysquad.squad.domain.SquadStatus;
+import com.studysquad.squad.dto.SquadAccess;
+import com.studysquad.squad.repository.SquadAccessRepository;
+import com.studysquad.squad.service.SquadAuthorizer;
+
+@ExtendWith(MockitoExtension.class)
+public class SquadAuthorizerTest {
+
+	private static final Long SQUAD_ID = 1L;
+	private static final Long USER_ID = 1L;
+
+	@Mock
+	SquadAccessRepository squadAccessRepository;
+	@InjectMocks
+	SquadAuthorizer squadAuthorizer;
+
+	@Test
+	@DisplayName("스쿼드 멤버 권한 확인")
+	void successRequireMember() {
+		SquadAccess access = createAccess(SquadStatus.PROCESS, true, false, 10L);
+
+		when(squadAccessRepository.findAccess(SQUAD_ID, USER_ID))
+			.thenReturn(Optional.of(access));
+
+		SquadAccess result = squadAuthorizer.requireMember(SQUAD_ID, USER_ID);
+
+		assertThat(result.findProcessMissionId()).contains(10L);
+		verify(squadAccessRepository, times(1)).findAccess(SQUAD_ID, USER_ID);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 스쿼드 권한 확인")
+	void failGetAccessWithNotFoundSquad() {
+		when(squadAccessRepository.findAccess(SQUAD_ID, USER_ID))
+			.thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> squadAuthorizer.getAccess(SQUAD_ID, USER_ID))
+			.isInstanceOf(SquadNotFoundException.class)
+			.message().isEqualTo("존재하지 않는 스쿼드 입니다");
+	}
+
+	@Test
+	@DisplayName("스쿼드에 속하지 않은 사용자 멤버 권한 확인")
+	void failRequireMemberWithNotSquadUser() {
+		when(squadAccessRepository.findAccess(SQUAD_ID, USER_ID))
+			.thenReturn(Optional.of(createAccess(SquadStatus.PROCESS, false, false, null)));
+
+		assertThatThrownBy(() -> squadAuthorizer.requireMember(SQUAD_ID, USER_ID))
+			.isInstanceOf(NotSquadUserException.class)
+			.message().isEqualTo("스쿼드에 속한 사용자가 아닙니다");
+	}
+
+	@Test
+	@DisplayName("멘토가 아닌 사용자 멘토 권한 확인")
+	void failRequireMentorWithMentee() {
+		when(squadAccessRepository.findAccess(SQUAD_ID, USER_ID))
+			.thenReturn(Optional.of(createAccess(SquadStatus.PROCESS, true, false, null)));
+
+		assertThatThrownBy(() -> squadAuthorizer.requireMentor(SQUAD_ID, USER_ID))
+			.isInstanceOf(NotMentorException.class)
+			.message().isEqualTo("멘토가 아닌 사용자 입니다");
+	}
+
+	@Test
+	@DisplayName("진행중이지 않은 스쿼드 멘토 권한 확인")
+	void failRequireProcessMentorWithNotProcessSquad() {
+		when(squadAccessRepository.findAccess(SQUAD_ID, USER_ID))
+			.thenReturn(Optional.of(createAccess(SquadStatus.RECRUIT, true, true, null)));
+
+		assertThatThrownBy(() -> squadAuthorizer.requireProcessMentor(SQUAD_ID, USER_ID))
+			.isInstanceOf(SquadNotProgressException.class)
+			.message().isEqualTo("스쿼드가 진행중이지 않습니다");
+	}
+
+	@Test
+	@DisplayName("멘토가 멘티 권한 확인")
+	void failRequireNotMentorWithMentor() {
+		when(squadAccessRepository.findAccess(SQUAD_ID, USER_ID))
+			.thenReturn(Optional.of(createAccess(SquadStatus.PROCESS, true, true, 10L)));
+
+		assertThatThrownBy(() -> squadAuthorizer.requireNotMentor(SQUAD_ID, USER_ID))
+			.isInstanceOf(NotMenteeException.class)
+			.message().isEqualTo("멘티가 아닌 사용자입니다");
+	}
+
+	private SquadAccess createAccess(SquadStatus status, boolean member, boolean mentor, Long processMissionId) {
+		return SquadAccess.builder()
+			.squadId(SQUAD_ID)
+			.squadStatus(status)
+			.member(member)
+			.mentor(mentor)
+			.processMissionId(processMissionId)
+			.build();
+	}
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.global.error.exception.NotFoundSquadBoard;
 import com.studysquad.global.error.exception.NotSquadBoardCommentUserException;
 import com.studysquad.global.error.exception.NotSquadUserException;
@@ -27,7 +30,9 @@ import com.studysquad.sqaudboardcomment.repository.SquadBoardCommentRepository;
 import com.studysquad.sqaudboardcomment.service.SquadBoardCommentService;
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.squad.domain.SquadStatus;
-import com.studysquad.squad.repository.SquadRepository;
+import com.studysquad.squad.dto.SquadAccess;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadAuthorizer;
 import com.studysquad.squadboard.domain.SquadBoard;
 import com.studysquad.squadboard.repository.SquadBoardRepository;
 import com.studysquad.user.domain.Role;
@@ -39,13 +44,15 @@ import com.studysquad.user.repository.UserRepository;
 public class SquadBoardCommentServiceTest {
 
 	@Mock
-	SquadRepository squadRepository;
+	SquadAuthorizer squadAuthorizer;
 	@Mock
 	SquadBoardRepository squadBoardRepository;
 	@Mock
 	SquadBoardCommentRepository squadBoardCommentRepository;
 	@Mock
 	UserRepository userRepository;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
 
 	@InjectMocks
 	SquadBoardCommentService squadBoardCommentService;
@@ -66,14 +73,10 @@ public class SquadBoardCommentServiceTest {
 				.build())
 			.collect(Collectors.toList());
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.getAccess(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, true));
 		when(squadBoardRepository.findById(squadBoard.getId()))
 			.thenReturn(Optional.of(squadBoard));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
 		when(squadBoardCommentRepository.getSquadBoardComments(squadBoard.getId()))
 			.thenReturn(response);
 
@@ -95,10 +98,8 @@ public class SquadBoardCommentServiceTest {
 
 		SquadBoard squadBoard = createSquadBoard(user, squad);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(notFoundSquadId))
-			.thenReturn(Optional.empty());
+		when(squadAuthorizer.getAccess(notFoundSquadId, user.getId()))
+			.thenThrow(new SquadNotFoundException());
 
 		assertThatThrownBy(
 			() -> squadBoardCommentService.getSquadBoardComments(loginUser, notFoundSquadId, squadBoard.getId()))
@@ -116,10 +117,8 @@ public class SquadBoardCommentServiceTest {
 
 		Squad squad = createSquad(SquadStatus.PROCESS);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.getAccess(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, true));
 		when(squadBoardRepository.findById(notFoundSquadBoardId))
 			.thenReturn(Optional.empty());
 
@@ -140,14 +139,10 @@ public class SquadBoardCommentServiceTest {
 
 		SquadBoard squadBoard = createSquadBoard(user, squad);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.getAccess(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false));
 		when(squadBoardRepository.findById(squadBoard.getId()))
 			.thenReturn(Optional.of(squadBoard));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
 
 		assertThatThrownBy(
 			() -> squadBoardCommentService.getSquadBoardComments(loginUser, squad.getId(), squadBoard.getId()))
@@ -155,6 +150,69 @@ public class SquadBoardCommentServiceTest {
 			.message().isEqualTo("스쿼드에 속한 사용자가 아닙니다");
 	}
 
+	@Test
+	@DisplayName("스쿼드 게시글 댓글 커서 조회 성공")
+	void successGetSquadBoardCommentsByCursor() {
+		Long squadId = 1L;
+		Long squadBoardId = 1L;
+		User user = createUser();
+		LoginUser loginUser = createLoginUser(user);
+
+		List<SquadBoardCommentResponseDto> fetched = LongStream.rangeClosed(1, 3)
+			.mapToObj(i -> SquadBoardCommentResponseDto.builder()
+				.squadBoardCommentId(i)
+				.commentContent(String.format("commentContent%d", i))
+				.build())
+			.collect(Collectors.toList());
+
+		when(squadBoardCommentRepository.getSquadBoardComments(squadId, squadBoardId, null, 2))
+			.thenReturn(CursorResponse.of(fetched, 2, SquadBoardCommentResponseDto::getSquadBoardCommentId));
+
+		CursorResponse<SquadBoardCommentResponseDto> result = squadBoardCommentService.getSquadBoardCommentsByCursor(
+			loginUser, squadId, squadBoardId, null, 2);
+
+		assertThat(result.getContent()).hasSize(2);
+		assertThat(result.getNextCursor()).isEqualTo(2L);
+		verify(squadAuthorizer, times(1)).requireMember(squadId, user.getId());
+		verify(squadBoardRepository, never()).existsByIdAndSquadId(any(), any());
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 스쿼드 게시글의 스쿼드 게시글 댓글 커서 조회")
+	void failGetSquadBoardCommentsByCursorNotFoundSquadBoard() {
+		Long squadId = 1L;
+		Long notFoundSquadBoardId = 100L;
+		User user = createUser();
+		LoginUser loginUser = createLoginUser(user);
+
+		when(squadBoardCommentRepository.getSquadBoardComments(squadId, notFoundSquadBoardId, null, 20))
+			.thenReturn(CursorResponse.of(List.of(), 20, SquadBoardCommentResponseDto::getSquadBoardCommentId));
+		when(squadBoardRepository.existsByIdAndSquadId(notFoundSquadBoardId, squadId))
+			.thenReturn(false);
+
+		assertThatThrownBy(() -> squadBoardCommentService.getSquadBoardCommentsByCursor(loginUser, squadId,
+			notFoundSquadBoardId, null, 20))
+			.isInstanceOf(NotFoundSquadBoard.class)
+			.message().isEqualTo("스쿼드 게시글을 찾을 수 없습니다");
+	}
+
+	@Test
+	@DisplayName("스쿼드에 속하지 않은 사용자가 스쿼드 게시글 댓글 커서 조회")
+	void failGetSquadBoardCommentsByCursorNotUserOfSquad() {
+		Long squadId = 1L;
+		Long squadBoardId = 1L;
+		User user = createUser();
+		LoginUser loginUser = createLoginUser(user);
+
+		when(squadAuthorizer.requireMember(squadId, user.getId()))
+			.thenThrow(new NotSquadUserException());
+
+		assertThatThrownBy(() -> squadBoardCommentService.getSquadBoardCommentsByCursor(loginUser, squadId,
+			squadBoardId, null, 20))
+			.isInstanceOf(NotSquadUserException.class);
+		verify(squadBoardCommentRepository, never()).getSquadBoardComments(any(), any(), any(), anyInt());
+	}
+
 	@Test
 	@DisplayName("스쿼드 게시글 댓글 생성 성공")
 	void successCreateSquadBoardComment() {
@@ -169,18 +227,16 @@ public class SquadBoardCommentServiceTest {
 			.squadBoardCommentContent("squadBoardCommentContent")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.getAccess(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, true));
 		when(squadBoardRepository.findById(squadBoard.getId()))
 			.thenReturn(Optional.of(squadBoard));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
 
 		squadBoardCommentService.createSquadBoardComment(loginUser, squad.getId(), squadBoard.getId(), createDto);
 
 		verify(squadBoardCommentRepository).save(any(SquadBoardComment.class));
+		verify(squadBoardRepository).increaseCommentCount(squadBoard.getId());
+		verify(eventPublisher).publishEvent(any(SquadActivityEvent.class));
 	}
 
 	@Test
@@ -197,14 +253,10 @@ public class SquadBoardCommentServiceTest {
 			.squadBoardCommentContent("squadBoardCommentContent")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.getAccess(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false));
 		when(squadBoardRepository.findById(squadBoard.getId()))
 			.thenReturn(Optional.of(squadBoard));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
 
 		assertThatThrownBy(
 			() -> squadBoardCommentService.createSquadBoardComment(loginUser, squad.getId(), squadBoard.getId(),
@@ -230,16 +282,12 @@ public class SquadBoardCommentServiceTest {
 			.commentContent("squadBoardCommentEditComment")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.getAccess(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, true));
 		when(squadBoardRepository.findById(squadBoard.getId()))
 			.thenReturn(Optional.of(squadBoard));
 		when(squadBoardCommentRepository.findById(comment.getId()))
 			.thenReturn(Optional.of(comment));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
 		when(squadBoardCommentRepository.isUserOfSquadBoardComment(user.getId(), squadBoard.getId(),
 			comment.getId()))
 			.thenReturn(true);
@@ -266,16 +314,12 @@ public class SquadBoardCommentServiceTest {
 			.commentContent("squadBoardCommentEditComment")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.getAccess(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false));
 		when(squadBoardRepository.findById(squadBoard.getId()))
 			.thenReturn(Optional.of(squadBoard));
 		when(squadBoardCommentRepository.findById(comment.getId()))
 			.thenReturn(Optional.of(comment));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
 
 		assertThatThrownBy(
 			() -> squadBoardCommentService.editSquadBoardComment(loginUser, squad.getId(), squadBoard.getId(),
@@ -301,16 +345,12 @@ public class SquadBoardCommentServiceTest {
 			.commentContent("squadBoardCommentEditComment")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.getAccess(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, true));
 		when(squadBoardRepository.findById(squadBoard.getId()))
 			.thenReturn(Optional.of(squadBoard));
 		when(squadBoardCommentRepository.findById(comment.getId()))
 			.thenReturn(Optional.of(comment));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
 		when(squadBoardCommentRepository.isUserOfSquadBoardComment(user.getId(), squadBoard.getId(), comment.getId()))
 			.thenReturn(false);
 
@@ -333,22 +373,20 @@ public class SquadBoardCommentServiceTest {
 
 		SquadBoardComment comment = createSquadBoardComment(user, squadBoard);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
+		when(squadAuthorizer.getAccess(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, true));
 		when(squadBoardRepository.findById(squadBoard.getId()))
 			.thenReturn(Optional.of(squadBoard));
 		when(squadBoardCommentRepository.findById(comment.getId()))
 			.thenReturn(Optional.of(comment));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
 		when(squadBoardCommentRepository.isUserOfSquadBoardComment(user.getId(), squadBoard.getId(), comment.getId()))
 			.thenReturn(true);
 
 		squadBoardCommentService.deleteSquadBoardComment(loginUser, squad.getId(), squadBoard.getId(), comment.getId());
 
 		verify(squadBoardCommentRepository).deleteById(any());
+		verify(squadBoardRepository).decreaseCommentCount(squadBoard.getId());
+		verify(eventPublisher).publishEvent(any(SquadActivityEvent.class));
 	}
 
 	private Squad createSquad(SquadStatus status) {
@@ -359,6 +397,14 @@ public class SquadBoardCommentServiceTest {
 			.build();
 	}
 
+	private SquadAccess createAccess(Squad squad, boolean member) {
+		return SquadAccess.builder()
+			.squadId(squad.getId())
+			.squadStatus(squad.getSquadStatus())
+			.member(member)
+			.build();
+	}
+
 	private SquadBoard createSquadBoard(User user, Squad squad) {
 		return SquadBoard.builder()
 			.user(user)
@@ -386,7 +432,9 @@ public class SquadBoardCommentServiceTest {
 
 	private LoginUser createLoginUser(User user) {
 		return LoginUser.builder()
+			.id(user.getId())
 			.email(user.getEmail())
+			.nickname(user.getNickname())
 			.role(user.getRole())
 			.build();
 	}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.studysquad.category.domain.Category;
 import com.studysquad.global.error.exception.ExistSquadBoardByProcessMission;
@@ -27,7 +28,10 @@ import com.studysquad.mission.domain.MissionStatus;
 import com.studysquad.mission.repository.MissionRepository;
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.squad.domain.SquadStatus;
+import com.studysquad.squad.dto.SquadAccess;
 import com.studysquad.squad.repository.SquadRepository;
+import com.studysquad.squad.service.SquadActivityEvent;
+import com.studysquad.squad.service.SquadAuthorizer;
 import com.studysquad.squadboard.domain.SquadBoard;
 import com.studysquad.squadboard.dto.SquadBoardCreateDto;
 import com.studysquad.squadboard.dto.SquadBoardEditDto;
@@ -50,6 +54,10 @@ public class SquadBoardServiceTest {
 	SquadRepository squadRepository;
 	@Mock
 	MissionRepository missionRepository;
+	@Mock
+	SquadAuthorizer squadAuthorizer;
+	@Mock
+	ApplicationEventPublisher eventPublisher;
 
 	@InjectMocks
 	SquadBoardService squadBoardService;
@@ -71,12 +79,8 @@ public class SquadBoardServiceTest {
 			.squadBoardContent("squadBoardContent")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false, null));
 		when(squadBoardRepository.getSquadBoard(squad.getId(), squadBoard.getId()))
 			.thenReturn(Optional.of(squadBoardDto));
 
@@ -96,12 +100,8 @@ public class SquadBoardServiceTest {
 
 		SquadBoard squadBoard = createSquadBoard(user, "squadBoardContent", "SquadBoardTitle");
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false, null));
 		when(squadBoardRepository.getSquadBoard(squad.getId(), squadBoard.getId()))
 			.thenReturn(Optional.empty());
 
@@ -121,12 +121,8 @@ public class SquadBoardServiceTest {
 
 		SquadBoard squadBoard = createSquadBoard(user, "squadBoardContent", "SquadBoardTitle");
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenThrow(new NotSquadUserException());
 
 		assertThatThrownBy(() -> squadBoardService.getSquadBoard(loginUser, squad.getId(), squadBoard.getId()))
 			.isInstanceOf(NotSquadUserException.class)
@@ -150,12 +146,8 @@ public class SquadBoardServiceTest {
 				.build())
 			.collect(Collectors.toList());
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false, null));
 		when(squadBoardRepository.getSquadBoards(squad.getId()))
 			.thenReturn(squadBoardResponse);
 
@@ -171,10 +163,8 @@ public class SquadBoardServiceTest {
 		User user = createUser("aaa@aaa.com", "userA");
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(notFoundSquadId))
-			.thenReturn(Optional.empty());
+		when(squadAuthorizer.requireMember(notFoundSquadId, user.getId()))
+			.thenThrow(new SquadNotFoundException());
 
 		assertThatThrownBy(() -> squadBoardService.getSquadBoards(loginUser, notFoundSquadId))
 			.isInstanceOf(SquadNotFoundException.class)
@@ -190,12 +180,8 @@ public class SquadBoardServiceTest {
 		Category catagory = createCategory("JAVA");
 		Squad squad = createSquad(catagory, "squad", "explain", SquadStatus.PROCESS);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isUserOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
+		when(squadAuthorizer.requireMember(squad.getId(), user.getId()))
+			.thenThrow(new NotSquadUserException());
 
 		assertThatThrownBy(() -> squadBoardService.getSquadBoards(loginUser, squad.getId()))
 			.isInstanceOf(NotSquadUserException.class)
@@ -211,6 +197,7 @@ public class SquadBoardServiceTest {
 
 		Category category = createCategory("JAVA");
 		Squad squad = createSquad(category, "squad", "squadExplain", SquadStatus.PROCESS);
+		Long processMissionId = 1L;
 
 		Mission mission = Mission.builder()
 			.squad(squad)
@@ -225,25 +212,20 @@ public class SquadBoardServiceTest {
 			.squadBoardTitle("squadBoardTitle")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
-		when(missionRepository.getProcessMissionEntity(squad.getId()))
-			.thenReturn(Optional.of(mission));
-		when(squadBoardRepository.hasSquadBoardByProgressMission(user.getId(), mission.getId()))
+		when(squadAuthorizer.requireNotMentor(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false, processMissionId));
+		when(squadBoardRepository.hasSquadBoardByProgressMission(user.getId(), processMissionId))
 			.thenReturn(false);
+		when(missionRepository.getReferenceById(processMissionId))
+			.thenReturn(mission);
 
 		squadBoardService.createSquadBoard(squadBoardDto, loginUser, squad.getId());
 
-		verify(userRepository).findByEmail(loginUser.getEmail());
-		verify(squadRepository).findById(squad.getId());
-		verify(squadRepository).isMentorOfSquad(squad.getId(), user.getId());
-		verify(missionRepository).getProcessMissionEntity(squad.getId());
-		verify(squadBoardRepository).hasSquadBoardByProgressMission(user.getId(), mission.getId());
+		verify(userRepository).getReferenceById(loginUser.getId());
+		verify(squadAuthorizer).requireNotMentor(squad.getId(), user.getId());
+		verify(squadBoardRepository).hasSquadBoardByProgressMission(user.getId(), processMissionId);
 		verify(squadBoardRepository).save(any(SquadBoard.class));
+		verify(eventPublisher).publishEvent(any(SquadActivityEvent.class));
 
 	}
 
@@ -260,10 +242,8 @@ public class SquadBoardServiceTest {
 			.squadBoardTitle("squadBoardTitle")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(notFoundSquadId))
-			.thenReturn(Optional.empty());
+		when(squadAuthorizer.requireNotMentor(notFoundSquadId, user.getId()))
+			.thenThrow(new SquadNotFoundException());
 
 		assertThatThrownBy(() -> squadBoardService.createSquadBoard(squadBoardDto, loginUser, notFoundSquadId))
 			.isInstanceOf(SquadNotFoundException.class)
@@ -285,12 +265,8 @@ public class SquadBoardServiceTest {
 			.squadBoardTitle("squadBoardTitle")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(true);
+		when(squadAuthorizer.requireNotMentor(squad.getId(), user.getId()))
+			.thenThrow(new NotMenteeException());
 
 		assertThatThrownBy(() -> squadBoardService.createSquadBoard(squadBoardDto, loginUser, squad.getId()))
 			.isInstanceOf(NotMenteeException.class)
@@ -312,14 +288,8 @@ public class SquadBoardServiceTest {
 			.squadBoardTitle("squadBoardTitle")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
-		when(missionRepository.getProcessMissionEntity(squad.getId()))
-			.thenReturn(Optional.empty());
+		when(squadAuthorizer.requireNotMentor(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false, null));
 
 		assertThatThrownBy(() -> squadBoardService.createSquadBoard(squadBoardDto, loginUser, squad.getId()))
 			.isInstanceOf(NotFoundProcessMission.class)
@@ -335,28 +305,16 @@ public class SquadBoardServiceTest {
 		Category category = createCategory("JAVA");
 		Squad squad = createSquad(category, "squad", "squadExplain", SquadStatus.PROCESS);
 
-		Mission mission = Mission.builder()
-			.squad(squad)
-			.missionTitle("missionA")
-			.missionContent("missionContent")
-			.missionSequence(0)
-			.missionStatus(MissionStatus.PROCESS)
-			.build();
+		Long processMissionId = 1L;
 
 		SquadBoardCreateDto squadBoardDto = SquadBoardCreateDto.builder()
 			.squadBoardContent("squadBoardContent")
 			.squadBoardTitle("squadBoardTitle")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(squadRepository.isMentorOfSquad(squad.getId(), user.getId()))
-			.thenReturn(false);
-		when(missionRepository.getProcessMissionEntity(squad.getId()))
-			.thenReturn(Optional.ofNullable(mission));
-		when(squadBoardRepository.hasSquadBoardByProgressMission(user.getId(), mission.getId()))
+		when(squadAuthorizer.requireNotMentor(squad.getId(), user.getId()))
+			.thenReturn(createAccess(squad, false, processMissionId));
+		when(squadBoardRepository.hasSquadBoardByProgressMission(user.getId(), processMissionId))
 			.thenReturn(true);
 
 		assertThatThrownBy(() -> squadBoardService.createSquadBoard(squadBoardDto, loginUser, squad.getId()))
@@ -380,8 +338,6 @@ public class SquadBoardServiceTest {
 			.squadBoardTitle("updateSquadBoardTitle")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.findById(squad.getId()))
 			.thenReturn(Optional.of(squad));
 		when(squadBoardRepository.findById(squadBoard.getId()))
@@ -411,8 +367,6 @@ public class SquadBoardServiceTest {
 			.squadBoardTitle("updateSquadBoardTitle")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.findById(notFoundSquadId))
 			.thenReturn(Optional.empty());
 
@@ -439,8 +393,6 @@ public class SquadBoardServiceTest {
 			.squadBoardContent("editSquadBoardContent")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.findById(squad.getId()))
 			.thenReturn(Optional.of(squad));
 		when(squadBoardRepository.findById(notFoundSquadBoardId))
@@ -468,8 +420,6 @@ public class SquadBoardServiceTest {
 			.squadBoardTitle("updateSquadBoardTitle")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.findById(squad.getId()))
 			.thenReturn(Optional.of(squad));
 		when(squadBoardRepository.findById(squadBoard.getId()))
@@ -483,6 +433,16 @@ public class SquadBoardServiceTest {
 			.message().isEqualTo("스쿼드 게시글을 찾을 수 없습니다");
 	}
 
+	private SquadAccess createAccess(Squad squad, boolean mentor, Long processMissionId) {
+		return SquadAccess.builder()
+			.squadId(squad.getId())
+			.squadStatus(squad.getSquadStatus())
+			.member(true)
+			.mentor(mentor)
+			.processMissionId(processMissionId)
+			.build();
+	}
+
 	private Category createCategory(String categoryName) {
 		return Category.builder()
 			.categoryName(categoryName)
@@ -517,7 +477,9 @@ public class SquadBoardServiceTest {
 
 	private LoginUser createLoginUser(User user) {
 		return LoginUser.builder()
+			.id(user.getId())
 			.email(user.getEmail())
+			.nickname(user.getNickname())
 			.role(user.getRole())
 			.build();
 	}
@@ -0,0 +1,171 @@
+package com.studysquad.service;
+
+import static java.util.stream.Collectors.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.studysquad.category.domain.Category;
+import com.studysquad.category.repository.CategoryRepository;
+import com.studysquad.controller.util.DatabaseCleanUp;
+import com.studysquad.global.error.exception.ApiException;
+import com.studysquad.squad.domain.Squad;
+import com.studysquad.squad.domain.SquadStatus;
+import com.studysquad.squad.dto.SquadJoinDto;
+import com.studysquad.squad.repository.SquadRepository;
+import com.studysquad.squad.service.SquadJoinFacade;
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.domain.User;
+import com.studysquad.user.dto.LoginUser;
+import com.studysquad.user.repository.UserRepository;
+import com.studysquad.usersquad.domain.UserSquad;
+import com.studysquad.usersquad.repository.UserSquadRepository;
+
+@SpringBootTest
+public class SquadJoinFacadeConcurrencyTest {
+
+	@Autowired
+	DatabaseCleanUp databaseCleanUp;
+	@Autowired
+	UserRepository userRepository;
+	@Autowired
+	SquadRepository squadRepository;
+	@Autowired
+	SquadJoinFacade squadJoinFacade;
+	@Autowired
+	UserSquadRepository userSquadRepository;
+	@Autowired
+	CategoryRepository categoryRepository;
+
+	@BeforeEach
+	void init() {
+		databaseCleanUp.cleanUp();
+	}
+
+	@Test
+	@DisplayName("하나의 스쿼드에 동시에 가입 신청")
+	void successJoinSquadConcurrently() throws Exception {
+		int requestCount = 20;
+		Squad squad = createRecruitSquad();
+
+		List<LoginUser> loginUsers = IntStream.range(0, requestCount)
+			.mapToObj(i -> userRepository.save(createUser(String.format("user%d@aaa.com", i), "user" + i)))
+			.map(LoginUser::from)
+			.collect(toList());
+
+		JoinResult result = joinConcurrently(requestCount, squad, i -> loginUsers.get(i), i -> i % 2 == 0);
+
+		Squad findSquad = squadRepository.findById(squad.getId()).orElseThrow();
+		List<UserSquad> members = userSquadRepository.findBySquadId(squad.getId());
+
+		assertThat(result.successCount.get()).isEqualTo(3);
+		assertThat(result.rejectCount.get()).isEqualTo(requestCount - 3);
+		assertThat(members).hasSize(4);
+		assertThat(members).filteredOn(UserSquad::isMentor).hasSize(1);
+		assertThat(findSquad.getMemberCount()).isEqualTo(4);
+		assertThat(findSquad.isHasMentor()).isTrue();
+		assertThat(findSquad.getSquadStatus()).isEqualTo(SquadStatus.PROCESS);
+	}
+
+	@Test
+	@DisplayName("같은 사용자가 하나의 스쿼드에 동시에 가입 신청")
+	void successJoinSquadOnceWithDuplicateRequests() throws Exception {
+		int requestCount = 5;
+		Squad squad = createRecruitSquad();
+		LoginUser loginUser = LoginUser.from(userRepository.save(createUser("user@aaa.com", "user")));
+
+		JoinResult result = joinConcurrently(requestCount, squad, i -> loginUser, i -> false);
+
+		Squad findSquad = squadRepository.findById(squad.getId()).orElseThrow();
+
+		assertThat(result.successCount.get()).isEqualTo(1);
+		assertThat(result.rejectCount.get()).isEqualTo(requestCount - 1);
+		assertThat(userSquadRepository.findBySquadId(squad.getId())).hasSize(2);
+		assertThat(findSquad.getMemberCount()).isEqualTo(2);
+	}
+
+	private JoinResult joinConcurrently(int requestCount, Squad squad, IntFunction<LoginUser> loginUsers,
+		IntFunction<Boolean> mentors) throws InterruptedException {
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(requestCount);
+		JoinResult result = new JoinResult();
+
+		for (int i = 0; i < requestCount; i++) {
+			LoginUser loginUser = loginUsers.apply(i);
+			SquadJoinDto request = SquadJoinDto.builder()
+				.mentor(mentors.apply(i))
+				.build();
+
+			executorService.submit(() -> {
+				try {
+					ready.await();
+					squadJoinFacade.joinSquad(request, squad.getId(), loginUser);
+					result.successCount.incrementAndGet();
+				} catch (ApiException e) {
+					result.rejectCount.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		ready.countDown();
+		assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+		executorService.shutdown();
+
+		return result;
+	}
+
+	private Squad createRecruitSquad() {
+		User creator = userRepository.save(createUser("creator@aaa.com", "creator"));
+		Category category = categoryRepository.save(Category.builder()
+			.categoryName("JAVA")
+			.build());
+		Squad squad = squadRepository.save(Squad.builder()
+			.category(category)
+			.squadName("squad")
+			.squadExplain("squadExplain")
+			.squadStatus(SquadStatus.RECRUIT)
+			.build());
+
+		userSquadRepository.save(UserSquad.builder()
+			.user(creator)
+			.squad(squad)
+			.isMentor(false)
+			.isCreator(true)
+			.build());
+		squadRepository.repairMemberCounters();
+
+		return squad;
+	}
+
+	private User createUser(String email, String nickname) {
+		return User.builder()
+			.email(email)
+			.nickname(nickname)
+			.role(Role.USER)
+			.build();
+	}
+
+	private static class JoinResult {
+
+		private final AtomicInteger successCount = new AtomicInteger();
+		private final AtomicInteger rejectCount = new AtomicInteger();
+	}
+}
@@ -0,0 +1,118 @@
+package com.studysquad.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import com.studysquad.global.error.exception.SquadAlreadyFullException;
+import com.studysquad.squad.dto.SquadJoinDto;
+import com.studysquad.squad.service.SquadJoinFacade;
+import com.studysquad.squad.service.SquadService;
+import com.studysquad.user.domain.Role;
+import com.studysquad.user.dto.LoginUser;
+
+@ExtendWith(MockitoExtension.class)
+public class SquadJoinFacadeTest {
+
+	@Mock
+	SquadService squadService;
+
+	SquadJoinFacade squadJoinFacade;
+
+	@BeforeEach
+	void init() {
+		squadJoinFacade = new SquadJoinFacade(squadService, 3, 0);
+	}
+
+	@Test
+	@DisplayName("락 경합으로 실패한 스쿼드 가입 재시도")
+	void successJoinSquadAfterRetry() {
+		Long squadId = 1L;
+		LoginUser loginUser = createLoginUser();
+		SquadJoinDto joinRequest = SquadJoinDto.builder()
+			.mentor(false)
+			.build();
+
+		doThrow(new CannotAcquireLockException("lock timeout"))
+			.doNothing()
+			.when(squadService).joinSquad(joinRequest, squadId, loginUser);
+
+		squadJoinFacade.joinSquad(joinRequest, squadId, loginUser);
+
+		verify(squadService, times(2)).joinSquad(joinRequest, squadId, loginUser);
+	}
+
+	@Test
+	@DisplayName("최대 재시도 횟수 초과")
+	void failJoinSquadExceedMaxAttempts() {
+		Long squadId = 1L;
+		LoginUser loginUser = createLoginUser();
+		SquadJoinDto joinRequest = SquadJoinDto.builder()
+			.mentor(false)
+			.build();
+
+		doThrow(new CannotAcquireLockException("lock timeout"))
+			.when(squadService).joinSquad(joinRequest, squadId, loginUser);
+
+		assertThatThrownBy(() -> squadJoinFacade.joinSquad(joinRequest, squadId, loginUser))
+			.isInstanceOf(CannotAcquireLockException.class);
+		verify(squadService, times(3)).joinSquad(joinRequest, squadId, loginUser);
+	}
+
+	@Test
+	@DisplayName("비즈니스 예외는 재시도하지 않음")
+	void failJoinSquadWithoutRetry() {
+		Long squadId = 1L;
+		LoginUser loginUser = createLoginUser();
+		SquadJoinDto joinRequest = SquadJoinDto.builder()
+			.mentor(false)
+			.build();
+
+		doThrow(new SquadAlreadyFullException())
+			.when(squadService).joinSquad(joinRequest, squadId, loginUser);
+
+		assertThatThrownBy(() -> squadJoinFacade.joinSquad(joinRequest, squadId, loginUser))
+			.isInstanceOf(SquadAlreadyFullException.class);
+		verify(squadService, times(1)).joinSquad(joinRequest, squadId, loginUser);
+	}
+
+	@Test
+	@DisplayName("인터럽트된 스레드는 재시도하지 않음")
+	void failJoinSquadWithoutRetryWhenInterrupted() {
+		Long squadId = 1L;
+		LoginUser loginUser = createLoginUser();
+		SquadJoinDto joinRequest = SquadJoinDto.builder()
+			.mentor(false)
+			.build();
+
+		doThrow(new CannotAcquireLockException("lock timeout"))
+			.when(squadService).joinSquad(joinRequest, squadId, loginUser);
+
+		Thread.currentThread().interrupt();
+
+		try {
+			assertThatThrownBy(() -> squadJoinFacade.joinSquad(joinRequest, squadId, loginUser))
+				.isInstanceOf(CannotAcquireLockException.class);
+			assertThat(Thread.currentThread().isInterrupted()).isTrue();
+		} finally {
+			Thread.interrupted();
+		}
+		verify(squadService, times(1)).joinSquad(joinRequest, squadId, loginUser);
+	}
+
+	private LoginUser createLoginUser() {
+		return LoginUser.builder()
+			.id(1L)
+			.email("aaa@aaa.com")
+			.nickname("userA")
+			.role(Role.USER)
+			.build();
+	}
+}
@@ -3,7 +3,7 @@ package com.studysquad.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -15,12 +15,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.studysquad.category.domain.Category;
+import com.studysquad.category.repository.CategoryRegistry;
 import com.studysquad.category.repository.CategoryRepository;
+import com.studysquad.global.common.CursorResponse;
 import com.studysquad.global.error.exception.ExistActiveSquadException;
 import com.studysquad.global.error.exception.InvalidCategoryException;
 import com.studysquad.global.error.exception.MentorAlreadyExistException;
@@ -29,7 +33,6 @@ import com.studysquad.global.error.exception.NotFoundEndSquad;
 import com.studysquad.global.error.exception.NotFoundProcessSquad;
 import com.studysquad.global.error.exception.SquadAlreadyFullException;
 import com.studysquad.global.error.exception.SquadNotFoundException;
-import com.studysquad.global.error.exception.UserNotFoundException;
 import com.studysquad.squad.domain.Squad;
 import com.studysquad.squad.domain.SquadStatus;
 import com.studysquad.squad.dto.EndSquadDto;
@@ -59,6 +62,8 @@ public class SquadServiceTest {
 	UserSquadRepository userSquadRepository;
 	@Mock
 	CategoryRepository categoryRepository;
+	@Mock
+	CategoryRegistry categoryRegistry;
 	@InjectMocks
 	SquadService squadService;
 
@@ -74,39 +79,20 @@ public class SquadServiceTest {
 			.squadExplain("squadExplain")
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.getProcessSquad(user.getId()))
 			.thenReturn(Optional.of(processSquadDto));
 
 		squadService.getProcessSquad(loginUser);
 
-		verify(userRepository).findByEmail(loginUser.getEmail());
 		verify(squadRepository).getProcessSquad(user.getId());
 	}
 
-	@Test
-	@DisplayName("유효하지 않은 사용자가 진행중인 스쿼드 조회 요청")
-	void failGetProcessSquadInvalidUser() {
-		User user = createUser("aaa@aaa.com", "userA");
-		LoginUser loginUser = createLoginUser(user);
-
-		when(userRepository.findByEmail(user.getEmail()))
-			.thenReturn(Optional.empty());
-
-		assertThatThrownBy(() -> squadService.getProcessSquad(loginUser))
-			.isInstanceOf(UserNotFoundException.class)
-			.message().isEqualTo("사용자를 찾을 수 없습니다");
-	}
-
 	@Test
 	@DisplayName("진행중인 스쿼드가 존재하지 않음")
 	void failGetProcessSquadNotFoundProcessSquad() {
 		User user = createUser("aaa@aaa.com", "userA");
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.getProcessSquad(user.getId()))
 			.thenReturn(Optional.empty());
 
@@ -144,6 +130,22 @@ public class SquadServiceTest {
 		verify(squadRepository, times(1)).searchSquadPageByCondition(eq(cond), eq(page));
 	}
 
+	@Test
+	@DisplayName("모집중인 스쿼드 커서 조회 시 최대 사이즈로 제한")
+	void successGetRecruitSquadsByCursorLimitSize() {
+		SquadSearchCondition cond = SquadSearchCondition.builder().build();
+		CursorResponse<SquadResponseDto> expected = CursorResponse.of(Collections.emptyList(), 100,
+			SquadResponseDto::getSquadId);
+
+		when(squadRepository.searchSquadCursorByCondition(cond, 10L, 100))
+			.thenReturn(expected);
+
+		CursorResponse<SquadResponseDto> responseData = squadService.getRecruitSquadsByCursor(cond, 10L, 1000);
+
+		assertThat(responseData.isHasNext()).isFalse();
+		verify(squadRepository, times(1)).searchSquadCursorByCondition(eq(cond), eq(10L), eq(100));
+	}
+
 	@Test
 	@DisplayName("모집중인 스쿼드 단건 조회")
 	void successGetRecruitSquad() {
@@ -204,8 +206,6 @@ public class SquadServiceTest {
 		List<UserSquadResponseDto> expectedData = testData.subList(page.getPageNumber(), page.getPageSize());
 		Page<UserSquadResponseDto> expectedPage = new PageImpl<>(expectedData, page, expectedData.size());
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.getUserSquads(user.getId(), page))
 			.thenReturn(expectedPage);
 
@@ -231,8 +231,6 @@ public class SquadServiceTest {
 			.categoryName(category.getCategoryName())
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.getEndSquad(squad.getId(), user.getId()))
 			.thenReturn(Optional.of(expectedData));
 
@@ -253,8 +251,6 @@ public class SquadServiceTest {
 		Squad squad = createSquad(category, "squad", "squadExplain", SquadStatus.END);
 		LoginUser loginUser = createLoginUser(user);
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(squadRepository.getEndSquad(squad.getId(), user.getId()))
 			.thenReturn(Optional.empty());
 
@@ -276,42 +272,23 @@ public class SquadServiceTest {
 			.mentor(true)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(userSquadRepository.hasActiveSquadByUserId(user.getId()))
 			.thenReturn(false);
-		when(categoryRepository.findByCategoryName(createRequest.getCategoryName()))
-			.thenReturn(Optional.of(category));
+		when(categoryRegistry.findIdByName(createRequest.getCategoryName()))
+			.thenReturn(Optional.of(1L));
+		when(categoryRepository.getReferenceById(1L))
+			.thenReturn(category);
 
 		squadService.createSquad(createRequest, loginUser);
 
-		verify(userRepository).findByEmail(loginUser.getEmail());
+		verify(userRepository).getReferenceById(loginUser.getId());
 		verify(userSquadRepository).hasActiveSquadByUserId(user.getId());
-		verify(categoryRepository).findByCategoryName(createRequest.getCategoryName());
+		verify(categoryRegistry).findIdByName(createRequest.getCategoryName());
+		verify(categoryRepository).getReferenceById(1L);
 		verify(userSquadRepository).save(any(UserSquad.class));
-		verify(squadRepository).save(any(Squad.class));
-	}
-
-	@Test
-	@DisplayName("스쿼드 생성 시 로그인한 유저가 유효하지 않음")
-	void failCreateSquadUserNotFound() {
-		SquadCreateDto createRequest = SquadCreateDto.builder()
-			.categoryName("JAVA")
-			.squadName("squad")
-			.squadExplain("squadExplain")
-			.mentor(true)
-			.build();
-		LoginUser invalidLoginUser = LoginUser.builder()
-			.email("invalid@aaa.com")
-			.role(Role.USER)
-			.build();
-
-		when(userRepository.findByEmail(invalidLoginUser.getEmail()))
-			.thenReturn(Optional.empty());
-
-		assertThatThrownBy(() -> squadService.createSquad(createRequest, invalidLoginUser))
-			.isInstanceOf(UserNotFoundException.class)
-			.message().isEqualTo("사용자를 찾을 수 없습니다");
+		verify(squadRepository).save(argThat(squad -> squad.getMemberCount() == 1
+			&& squad.isHasMentor()
+			&& squad.getCreatorNickname().equals(user.getNickname())));
 	}
 
 	@Test
@@ -326,8 +303,6 @@ public class SquadServiceTest {
 			.mentor(true)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(userSquadRepository.hasActiveSquadByUserId(user.getId()))
 			.thenReturn(true);
 
@@ -348,11 +323,9 @@ public class SquadServiceTest {
 			.mentor(true)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
 		when(userSquadRepository.hasActiveSquadByUserId(user.getId()))
 			.thenReturn(false);
-		when(categoryRepository.findByCategoryName(createRequest.getCategoryName()))
+		when(categoryRegistry.findIdByName(createRequest.getCategoryName()))
 			.thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> squadService.createSquad(createRequest, loginUser))
@@ -363,96 +336,84 @@ public class SquadServiceTest {
 	@Test
 	@DisplayName("스쿼드 가입 성공")
 	void successJoinSquad() {
-		User user = createUser("aaa@aaa.com", "userA");
+		Long squadId = 1L;
 		User joinUser = createUser("bbb@bbb.com", "userB");
-
-		Category category = createCategory("JAVA");
-
-		Squad squad = createSquad(category, "squad", "squadExplain", SquadStatus.RECRUIT);
-
-		UserSquad userSquad = createUserSquad(user, squad, true, true);
-		UserSquad joinUserSquad = createUserSquad(joinUser, squad, false, false);
-
-		LoginUser loginUser = createLoginUser(user);
-
+		LoginUser loginUser = createLoginUser(joinUser);
 		SquadJoinDto joinRequest = SquadJoinDto.builder()
 			.mentor(false)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(joinUser));
 		when(userSquadRepository.hasActiveSquadByUserId(joinUser.getId()))
 			.thenReturn(false);
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(userSquadRepository.findBySquadId(squad.getId()))
-			.thenReturn(Arrays.asList(userSquad));
-		when(userSquadRepository.save(any(UserSquad.class)))
-			.thenReturn(joinUserSquad);
+		when(squadRepository.occupyMenteeSeat(squadId, 4))
+			.thenReturn(1);
 
-		squadService.joinSquad(joinRequest, squad.getId(), loginUser);
+		squadService.joinSquad(joinRequest, squadId, loginUser);
 
+		verify(squadRepository, never()).occupyMentorSeat(anyLong(), anyInt());
+		verify(squadRepository).closeRecruitIfFull(squadId, 4);
 		verify(userSquadRepository, times(1)).save(any(UserSquad.class));
 	}
 
 	@Test
-	@DisplayName("스쿼드 인원이 모두 모집되면 스쿼드 상태를 PROCESS로 변경")
-	void successJoinSquadChangeToProcessWhenAllMembersRecruited() {
-		User userA = createUser("aaa@aaa.com", "userA");
-		User userB = createUser("bbb@bbb.com", "userB");
-		User userC = createUser("ccc@ccc.com", "userC");
-		User joinUser = createUser("ddd@ddd.com", "userD");
-
-		Category category = createCategory("JAVA");
-
-		Squad squad = createSquad(category, "squad", "squadExplain", SquadStatus.RECRUIT);
-
-		UserSquad userSquadA = createUserSquad(userA, squad, true, true);
-		UserSquad userSquadB = createUserSquad(userB, squad, false, false);
-		UserSquad userSquadC = createUserSquad(userC, squad, false, false);
-		UserSquad joinUserSquad = createUserSquad(joinUser, squad, false, false);
-
+	@DisplayName("멘토로 스쿼드 가입 성공")
+	void successJoinSquadAsMentor() {
+		Long squadId = 1L;
+		User joinUser = createUser("bbb@bbb.com", "userB");
 		LoginUser loginUser = createLoginUser(joinUser);
-
 		SquadJoinDto joinRequest = SquadJoinDto.builder()
-			.mentor(false)
+			.mentor(true)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(joinUser));
 		when(userSquadRepository.hasActiveSquadByUserId(joinUser.getId()))
 			.thenReturn(false);
-		when(squadRepository.findById(squad.getId()))
-			.thenReturn(Optional.of(squad));
-		when(userSquadRepository.findBySquadId(squad.getId()))
-			.thenReturn(Arrays.asList(userSquadA, userSquadB, userSquadC));
-		when(userSquadRepository.save(any(UserSquad.class)))
-			.thenReturn(joinUserSquad);
+		when(squadRepository.occupyMentorSeat(squadId, 4))
+			.thenReturn(1);
 
-		squadService.joinSquad(joinRequest, squad.getId(), loginUser);
+		squadService.joinSquad(joinRequest, squadId, loginUser);
 
-		assertThat(squad.getSquadStatus()).isEqualTo(SquadStatus.PROCESS);
+		verify(squadRepository, never()).occupyMenteeSeat(anyLong(), anyInt());
+		verify(squadRepository).closeRecruitIfFull(squadId, 4);
 		verify(userSquadRepository, times(1)).save(any(UserSquad.class));
 	}
 
 	@Test
-	@DisplayName("스쿼드 가입 시 활성화 된 스쿼드가 존재")
+	@DisplayName("이미 활성화된 스쿼드가 있는 사용자가 가입 신청")
 	void failJoinSquadAlreadyActiveSquad() {
-		User user = createUser("aaa@aaa.com", "userA");
-		Category category = createCategory("JAVA");
-		Squad squad = createSquad(category, "squad", "squadExplain", SquadStatus.RECRUIT);
-		LoginUser loginUser = createLoginUser(user);
-
+		Long squadId = 1L;
+		User joinUser = createUser("aaa@aaa.com", "userA");
+		LoginUser loginUser = createLoginUser(joinUser);
 		SquadJoinDto joinRequest = SquadJoinDto.builder()
 			.mentor(false)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(user));
-		when(userSquadRepository.hasActiveSquadByUserId(user.getId()))
+		when(userSquadRepository.hasActiveSquadByUserId(joinUser.getId()))
 			.thenReturn(true);
 
-		assertThatThrownBy(() -> squadService.joinSquad(joinRequest, squad.getId(), loginUser))
+		assertThatThrownBy(() -> squadService.joinSquad(joinRequest, squadId, loginUser))
+			.isInstanceOf(ExistActiveSquadException.class)
+			.message().isEqualTo("이미 활성화된 스쿼드가 존재 합니다");
+		verify(squadRepository, never()).occupyMenteeSeat(anyLong(), anyInt());
+	}
+
+	@Test
+	@DisplayName("같은 스쿼드에 중복 가입 신청")
+	void failJoinSquadWithDuplicateUserSquad() {
+		Long squadId = 1L;
+		User joinUser = createUser("bbb@bbb.com", "userB");
+		LoginUser loginUser = createLoginUser(joinUser);
+		SquadJoinDto joinRequest = SquadJoinDto.builder()
+			.mentor(false)
+			.build();
+
+		when(userSquadRepository.hasActiveSquadByUserId(joinUser.getId()))
+			.thenReturn(false);
+		when(squadRepository.occupyMenteeSeat(squadId, 4))
+			.thenReturn(1);
+		when(userSquadRepository.save(any(UserSquad.class)))
+			.thenThrow(new DataIntegrityViolationException("uk_user_squad_user_squad"));
+
+		assertThatThrownBy(() -> squadService.joinSquad(joinRequest, squadId, loginUser))
 			.isInstanceOf(ExistActiveSquadException.class)
 			.message().isEqualTo("이미 활성화된 스쿼드가 존재 합니다");
 	}
@@ -468,10 +429,10 @@ public class SquadServiceTest {
 			.mentor(false)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(joinUser));
 		when(userSquadRepository.hasActiveSquadByUserId(joinUser.getId()))
 			.thenReturn(false);
+		when(squadRepository.occupyMenteeSeat(notFoundSquadId, 4))
+			.thenReturn(0);
 		when(squadRepository.findById(notFoundSquadId))
 			.thenReturn(Optional.empty());
 
@@ -483,69 +444,52 @@ public class SquadServiceTest {
 	@Test
 	@DisplayName("모집완료된 스쿼드에 가입 신청")
 	void failJoinSquadAlreadyRecruitCompletedSquad() {
-		User userA = createUser("aaa@aaa.com", "userA");
-		User userB = createUser("bbb@bbb.com", "userB");
-		User userC = createUser("ccc@ccc.com", "userC");
-		User userD = createUser("ddd@ddd.com", "userD");
-
+		Long squadId = 1L;
 		User joinUser = createUser("joinUser@aaa.com", "joinUser");
-
 		Category category = createCategory("JAVA");
-
 		Squad squad = createSquad(category, "squadName", "squadExplain", SquadStatus.PROCESS);
-
-		UserSquad userSquadA = createUserSquad(userA, squad, true, true);
-		UserSquad userSquadB = createUserSquad(userB, squad, false, false);
-		UserSquad userSquadC = createUserSquad(userC, squad, false, false);
-		UserSquad userSquadD = createUserSquad(userD, squad, false, false);
+		setMemberCounters(squad, 4, true);
 
 		LoginUser loginUser = createLoginUser(joinUser);
-
 		SquadJoinDto joinRequest = SquadJoinDto.builder()
 			.mentor(false)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(joinUser));
 		when(userSquadRepository.hasActiveSquadByUserId(joinUser.getId()))
 			.thenReturn(false);
-		when(squadRepository.findById(squad.getId()))
+		when(squadRepository.occupyMenteeSeat(squadId, 4))
+			.thenReturn(0);
+		when(squadRepository.findById(squadId))
 			.thenReturn(Optional.of(squad));
-		when(userSquadRepository.findBySquadId(squad.getId()))
-			.thenReturn(Arrays.asList(userSquadA, userSquadB, userSquadC, userSquadD));
 
-		assertThatThrownBy(() -> squadService.joinSquad(joinRequest, squad.getId(), loginUser))
+		assertThatThrownBy(() -> squadService.joinSquad(joinRequest, squadId, loginUser))
 			.isInstanceOf(SquadAlreadyFullException.class)
 			.message().isEqualTo("모집이 완료된 스쿼드 입니다");
+		verify(userSquadRepository, never()).save(any(UserSquad.class));
 	}
 
 	@Test
 	@DisplayName("멘토가 있는 스쿼드에 멘토로 가입")
 	void failJoinSquadMentorAlreadyExist() {
-		User user = createUser("aaa@aaa.com", "userA");
+		Long squadId = 1L;
 		User joinUser = createUser("joinUser@aaa.com", "joinUser");
-
 		Category category = createCategory("JAVA");
 		Squad squad = createSquad(category, "squad", "squadExplain", SquadStatus.RECRUIT);
-
-		UserSquad userSquad = createUserSquad(user, squad, true, true);
+		setMemberCounters(squad, 1, true);
 
 		LoginUser loginUser = createLoginUser(joinUser);
-
 		SquadJoinDto joinRequest = SquadJoinDto.builder()
 			.mentor(true)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(joinUser));
 		when(userSquadRepository.hasActiveSquadByUserId(joinUser.getId()))
 			.thenReturn(false);
-		when(squadRepository.findById(squad.getId()))
+		when(squadRepository.occupyMentorSeat(squadId, 4))
+			.thenReturn(0);
+		when(squadRepository.findById(squadId))
 			.thenReturn(Optional.of(squad));
-		when(userSquadRepository.findBySquadId(squad.getId()))
-			.thenReturn(Arrays.asList(userSquad));
 
-		assertThatThrownBy(() -> squadService.joinSquad(joinRequest, squad.getId(), loginUser))
+		assertThatThrownBy(() -> squadService.joinSquad(joinRequest, squadId, loginUser))
 			.isInstanceOf(MentorAlreadyExistException.class)
 			.message().isEqualTo("멘토가 이미 존재하는 스쿼드 입니다");
 	}
@@ -553,35 +497,25 @@ public class SquadServiceTest {
 	@Test
 	@DisplayName("멘티가 3명인 스쿼드에 멘티로 가입")
 	void failJoinSquadWithHasThreeMenteeInSquad() {
-		User userA = createUser("aaa@aaa.com", "userA");
-		User userB = createUser("bbb@bbb.com", "userB");
-		User userC = createUser("ccc@ccc.com", "userC");
+		Long squadId = 1L;
 		User joinUser = createUser("joinUser@aaa.com", "joinUser");
-
 		Category category = createCategory("JAVA");
-
 		Squad squad = createSquad(category, "squad", "squadExplain", SquadStatus.RECRUIT);
-
-		UserSquad userSquadA = createUserSquad(userA, squad, false, true);
-		UserSquad userSquadB = createUserSquad(userB, squad, false, false);
-		UserSquad userSquadC = createUserSquad(userC, squad, false, false);
+		setMemberCounters(squad, 3, false);
 
 		LoginUser loginUser = createLoginUser(joinUser);
-
 		SquadJoinDto joinRequest = SquadJoinDto.builder()
 			.mentor(false)
 			.build();
 
-		when(userRepository.findByEmail(loginUser.getEmail()))
-			.thenReturn(Optional.of(joinUser));
 		when(userSquadRepository.hasActiveSquadByUserId(joinUser.getId()))
 			.thenReturn(false);
-		when(squadRepository.findById(squad.getId()))
+		when(squadRepository.occupyMenteeSeat(squadId, 4))
+			.thenReturn(0);
+		when(squadRepository.findById(squadId))
 			.thenReturn(Optional.of(squad));
-		when(userSquadRepository.findBySquadId(squad.getId()))
-			.thenReturn(Arrays.asList(userSquadA, userSquadB, userSquadC));
 
-		assertThatThrownBy(() -> squadService.joinSquad(joinRequest, squad.getId(), loginUser))
+		assertThatThrownBy(() -> squadService.joinSquad(joinRequest, squadId, loginUser))
 			.isInstanceOf(MentorRequiredException.class)
 			.message().isEqualTo("스쿼드 내에 멘토가 필요합니다");
 	}
@@ -596,7 +530,9 @@ public class SquadServiceTest {
 
 	private LoginUser createLoginUser(User user) {
 		return LoginUser.builder()
+			.id(user.getId())
 			.email(user.getEmail())
+			.nickname(user.getNickname())
 			.role(user.getRole())
 			.build();
 	}
@@ -616,12 +552,8 @@ public class SquadServiceTest {
 			.build();
 	}
 
-	private UserSquad createUserSquad(User user, Squad squad, boolean isMentor, boolean isCreator) {
-		return UserSquad.builder()
-			.user(user)
-			.squad(squad)
-			.isMentor(isMentor)
-			.isCreator(isCreator)
-			.build();
+	private void setMemberCounters(Squad squad, int memberCount, boolean hasMentor) {
+		ReflectionTestUtils.setField(squad, "memberCount", memberCount);
+		ReflectionTestUtils.setField(squad, "hasMentor", hasMentor);
 	}
 }